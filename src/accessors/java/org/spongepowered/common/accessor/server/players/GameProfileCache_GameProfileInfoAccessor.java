@@ -26,6 +26,8 @@
 
 import com.mojang.authlib.GameProfile;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
 import java.util.Date;
@@ -39,4 +41,6 @@ public interface GameProfileCache_GameProfileInfoAccessor {
 
     @Invoker("setLastAccess") void invoker$setLastAccess(final long lastAccessMs);
 
+    @Accessor("expirationDate") @Mutable void accessor$expirationDate(final Date expirationDate);
+
 }
@@ -84,6 +84,9 @@ public final class CommonConfig implements Config {
     @Comment("Enables server owners to require specific plugins to provide Sponge services")
     public final ServicesCategory services = new ServicesCategory();
 
+    @Setting
+    public final SchedulerCategory scheduler = new SchedulerCategory();
+
     @Setting
     public final DebugCategory debug = new DebugCategory();
 
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+@ConfigSerializable
+public final class SchedulerCategory {
+
+    @Setting("async-execution-mode")
+    @Comment(
+        "The kind of threads used to run asynchronous tasks and plugin executor submissions. Supported values:\n"
+            + "  - PLATFORM: Run tasks on a cached pool of platform threads\n"
+            + "  - VIRTUAL: Run each task on its own virtual thread\n"
+            + "Changing this setting requires a restart."
+    )
+    public ExecutionMode asyncExecutionMode = ExecutionMode.PLATFORM;
+
+    @Setting("max-concurrent-tasks-per-plugin")
+    @Comment("The maximum number of asynchronous tasks a single plugin may have executing at once when\n"
+                 + "using the 'VIRTUAL' execution mode. Tasks over the limit wait for a permit before they start.\n"
+                 + "Set to 0 to disable the limit.")
+    public int maxConcurrentTasksPerPlugin = 0;
+
+    @Setting("monitor-pinned-threads")
+    @Comment("If 'true', virtual threads that pin their carrier thread while running a task are recorded\n"
+                 + "per plugin. Only used with 'VIRTUAL' execution mode.")
+    public boolean monitorPinnedThreads = false;
+
+    @Setting("pinned-thread-threshold-millis")
+    @Comment("The minimum duration, in milliseconds, a carrier thread must be pinned for it to be recorded.")
+    public long pinnedThreadThresholdMillis = 20;
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.framework.qual.DefaultQualifier;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackedBlockEntityBridge;
+
+/**
+ * A deferred copy of a {@link BlockEntity}'s saved data, serialized on first
+ * read rather than when the tracker snapshots a block change.
+ *
+ * <p>Only block entities which are being removed are captured this way, as
+ * one that stays in the world can be changed by anything before the snapshot
+ * is read. Every snapshot taken of the same block entity shares the one
+ * pending capture until it is materialized, so the data is serialized at most
+ * once. The tracker has to {@link #materialize(BlockEntity) materialize} the
+ * capture before it lets {@code onRemove} touch the block entity, and before
+ * snapshots are handed out to plugins through events. The block entity is no
+ * longer referenced once the capture has been materialized.</p>
+ */
+@DefaultQualifier(NonNull.class)
+public final class BlockEntityCapture {
+
+    private @Nullable BlockEntity blockEntity;
+    private @Nullable CompoundTag compound;
+
+    private BlockEntityCapture(final BlockEntity blockEntity) {
+        this.blockEntity = blockEntity;
+    }
+
+    public static BlockEntityCapture deferred(final BlockEntity blockEntity) {
+        final TrackedBlockEntityBridge bridge = (TrackedBlockEntityBridge) blockEntity;
+        final @Nullable BlockEntityCapture pending = bridge.bridge$pendingCapture();
+        if (pending != null) {
+            return pending;
+        }
+        final BlockEntityCapture capture = new BlockEntityCapture(blockEntity);
+        bridge.bridge$setPendingCapture(capture);
+        return capture;
+    }
+
+    public static void materialize(final BlockEntity blockEntity) {
+        final @Nullable BlockEntityCapture pending = ((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture();
+        if (pending != null) {
+            pending.compound();
+        }
+    }
+
+    /**
+     * Gets the captured data, serializing the block entity if that has not
+     * happened yet. The returned compound is shared and must not be modified.
+     *
+     * @return The captured data, or null if the block entity failed to save
+     */
+    public synchronized @Nullable CompoundTag compound() {
+        final @Nullable BlockEntity blockEntity = this.blockEntity;
+        if (blockEntity != null) {
+            this.blockEntity = null;
+            ((TrackedBlockEntityBridge) blockEntity).bridge$setPendingCapture(null);
+            try {
+                this.compound = blockEntity.saveWithFullMetadata(blockEntity.getLevel().registryAccess());
+            } catch (final Throwable t) {
+                // ignore, as when capturing eagerly
+            }
+        }
+        return this.compound;
+    }
+}
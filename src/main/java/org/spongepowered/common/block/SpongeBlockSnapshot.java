@@ -92,7 +92,9 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
     private final BlockState blockState;
     private final ResourceKey worldKey;
     private final Vector3i pos;
-    final @Nullable CompoundTag compound;
+    private @Nullable CompoundTag compound;
+    // Deferred until first read, see BlockEntityCapture
+    private @Nullable BlockEntityCapture capture;
     // Internal use only
     private final BlockPos blockPos;
     private final SpongeBlockChangeFlag changeFlag;
@@ -111,6 +113,7 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
             // pooled builder has been reset so this won't be modified.
             this.compound = builder.compound;
         }
+        this.capture = builder.capture;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
         builder.worldRef = null;
@@ -125,6 +128,23 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.changeFlag = null;
     }
 
+    @Nullable CompoundTag compound() {
+        final @Nullable BlockEntityCapture capture = this.capture;
+        if (capture != null) {
+            this.compound = capture.compound();
+            this.capture = null;
+        }
+        return this.compound;
+    }
+
+    /**
+     * Takes the deferred block entity capture of this snapshot now, for when
+     * the snapshot is about to be exposed outside of the tracker.
+     */
+    public void materialize() {
+        this.compound();
+    }
+
     @Override
     public BlockState state() {
         return this.blockState;
@@ -189,23 +209,25 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                 return false;
             }
 
+            // Take the capture before the block entity we may have been deferred on gets touched
+            final @Nullable CompoundTag compound = this.compound();
             // Pre-emptively remove 'unsimilar' block entities to avoid drops
             // being created during block change removals
             if (!current.is(((net.minecraft.world.level.block.state.BlockState) this.blockState).getBlock())) {
                 world.removeBlockEntity(pos);
             }
             world.setBlock(pos, replaced, BlockChangeFlagManager.andNotifyClients(flag).getRawFlag());
-            if (this.compound != null) {
+            if (compound != null) {
                 @Nullable BlockEntity te = world.getBlockEntity(pos);
                 if (te != null) {
                     te.setBlockState((net.minecraft.world.level.block.state.BlockState) this.blockState);
-                    te.loadWithComponents(this.compound, world.registryAccess());
+                    te.loadWithComponents(compound, world.registryAccess());
                 } else {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
 
-                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, this.compound, world.registryAccess());
+                        te = BlockEntity.loadStatic(pos, (net.minecraft.world.level.block.state.BlockState) this.blockState, compound, world.registryAccess());
                         if (te != null) {
                             world.getChunk(pos).setBlockEntity(te);
                         }
@@ -219,7 +241,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (final Throwable error) {
                             printer.addWrapped(
                                 80,
@@ -261,13 +283,14 @@ public Optional<UUID> notifier() {
 
     @Override
     public Optional<BlockEntityArchetype> createArchetype() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag captured = this.compound();
+        if (captured == null) {
             return Optional.empty();
         }
 
-        final String blockEntityId = this.compound.getString(Constants.Item.BLOCK_ENTITY_ID);
+        final String blockEntityId = captured.getString(Constants.Item.BLOCK_ENTITY_ID);
 
-        final CompoundTag compound = this.compound.copy();
+        final CompoundTag compound = captured.copy();
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z);
@@ -311,8 +334,9 @@ public DataContainer toContainer() {
                 .set(Queries.POSITION_Z, this.pos.z())
                 .container()
                 .set(Constants.Block.BLOCK_STATE, this.blockState);
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(this.compound));
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NBTTranslator.INSTANCE.translateFrom(compound));
         }
         return container;
     }
@@ -329,7 +353,8 @@ public Optional<ServerLevel> getServerWorld() {
     }
 
     public Optional<CompoundTag> getCompound() {
-        return this.compound == null ? Optional.empty() : Optional.of(this.compound.copy());
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? Optional.empty() : Optional.of(compound.copy());
     }
 
     public BuilderImpl createBuilder() {
@@ -342,18 +367,20 @@ public BuilderImpl createBuilder() {
         } else {
             builder.world(this.worldKey);
         }
-        if (this.compound != null) {
-            builder.addUnsafeCompound(this.compound);
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound != null) {
+            builder.addUnsafeCompound(compound);
         }
         return builder;
     }
 
     @Override
     public DataContainer data$getDataContainer() {
-        if (this.compound == null) {
+        final @Nullable CompoundTag compound = this.compound();
+        if (compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.translate(compound);
     }
 
     @Override
@@ -365,7 +392,8 @@ public BuilderImpl createBuilder() {
 
     @Override
     public CompoundTag data$getCompound() {
-        return this.compound == null ? new CompoundTag() : this.compound.copy();
+        final @Nullable CompoundTag compound = this.compound();
+        return compound == null ? new CompoundTag() : compound.copy();
     }
 
     @Override
@@ -406,7 +434,7 @@ public boolean equals(final Object o) {
                this.changeFlag == that.changeFlag &&
                Objects.equals(this.worldKey, that.worldKey) &&
                Objects.equals(this.pos, that.pos) &&
-               Objects.equals(this.compound, that.compound);
+               Objects.equals(this.compound(), that.compound());
     }
 
     @Override
@@ -416,7 +444,7 @@ public int hashCode() {
                 this.worldKey,
                 this.pos,
                 this.changeFlag,
-                this.compound);
+                this.compound());
     }
 
     @Override
@@ -450,6 +478,7 @@ public static BuilderImpl pooled() {
         Vector3i coordinates;
         @Nullable List<DataManipulator.Immutable> manipulators;
         @Nullable CompoundTag compound;
+        @Nullable BlockEntityCapture capture;
         SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
         @Nullable WeakReference<ServerLevel> worldRef;
         private final boolean pooled;
@@ -553,13 +582,15 @@ public BuilderImpl from(final SpongeBlockSnapshot snapshot) {
             this.blockState = snapshot.state();
             this.worldKey = snapshot.world();
             this.worldRef = snapshot.world;
-            if (snapshot.compound != null) {
+            final @Nullable CompoundTag compound = snapshot.compound();
+            if (compound != null) {
                 // make a copy so that any changes to this compound in the builder
                 // (position) won't accidently be reflected in the original snapshot.
-                this.compound = snapshot.compound.copy();
+                this.compound = compound.copy();
             } else {
                 this.compound = null;
             }
+            this.capture = null;
             this.coordinates = snapshot.position();
             this.flag = snapshot.getChangeFlag();
             return this;
@@ -602,6 +633,7 @@ public SpongeBlockChangeFlag getFlag() {
             this.coordinates = null;
             this.manipulators = null;
             this.compound = null;
+            this.capture = null;
             this.flag = null;
             return this;
         }
@@ -657,6 +689,7 @@ public BuilderImpl addUnsafeCompound(final CompoundTag compound) {
             Objects.requireNonNull(compound);
 
             this.compound = compound.copy();
+            this.capture = null;
             return this;
         }
 
@@ -667,6 +700,21 @@ public BuilderImpl flag(final BlockChangeFlag flag) {
 
         public BuilderImpl tileEntity(final BlockEntity added) {
             this.compound = added.saveWithFullMetadata(added.getLevel().registryAccess());
+            this.capture = null;
+            return this;
+        }
+
+        /**
+         * Defers saving the block entity until the built snapshot's data is
+         * first read. Only valid for a block entity at the position of the
+         * snapshot which is being removed, see {@link BlockEntityCapture}.
+         *
+         * @param blockEntity The block entity to capture
+         * @return This builder, for chaining
+         */
+        public BuilderImpl deferredTileEntity(final BlockEntity blockEntity) {
+            this.capture = BlockEntityCapture.deferred(blockEntity);
+            this.compound = null;
             return this;
         }
     }
@@ -156,7 +156,7 @@ protected ValidationType getValidationType() {
     public SpongeBlockEntityArchetype copy() {
         final SpongeBlockEntityArchetypeBuilder builder = SpongeBlockEntityArchetypeBuilder.pooled();
         builder.type = this.type;
-        builder.data = NBTTranslator.INSTANCE.translate(this.compound);
+        builder.data = NBTTranslator.INSTANCE.wrap(this.compound);
         builder.blockState = this.blockState;
         return builder.build();
     }
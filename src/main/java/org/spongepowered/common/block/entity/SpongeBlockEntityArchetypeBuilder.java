@@ -135,7 +135,7 @@ public BlockEntityArchetype.Builder blockEntity(final BlockEntity blockEntity) {
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y);
         compound.remove(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Z);
         compound.remove(Constants.Item.BLOCK_ENTITY_ID);
-        this.data = NBTTranslator.INSTANCE.translate(compound);
+        this.data = NBTTranslator.INSTANCE.wrap(compound);
         this.blockState = blockEntity.block();
         this.type = blockEntity.type();
         return this;
@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.provider.DataProviderLookup;
 
 import java.util.Optional;
 
@@ -54,6 +55,14 @@ public interface SpongeDataHolderBridge {
 
     DataManipulator.Mutable bridge$getManipulator();
 
+    /**
+     * Gets the {@link DataProviderLookup} of this holder's class. The lookup
+     * is cached per class and refreshed once it becomes stale.
+     *
+     * @return The provider lookup
+     */
+    DataProviderLookup bridge$providerLookup();
+
     Multimap<DataQuery, DataView> bridge$getFailedData();
 
     void bridge$invalidateFailedData();
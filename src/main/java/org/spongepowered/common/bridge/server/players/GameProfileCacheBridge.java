@@ -34,6 +34,8 @@ public interface GameProfileCacheBridge extends GameProfileCache {
 
     void bridge$setCanSave(boolean flag);
 
+    void bridge$markDirty();
+
     void bridge$add(com.mojang.authlib.GameProfile profile, boolean full, boolean signed);
 
     default void bridge$addBasic(final GameProfile profile) {
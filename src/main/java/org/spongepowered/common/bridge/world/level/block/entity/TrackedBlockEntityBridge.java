@@ -0,0 +1,47 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.bridge.world.level.block.entity;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.block.BlockEntityCapture;
+
+/**
+ * Tracker specific counterpart to {@link BlockEntityBridge}, only implemented
+ * when the {@link org.spongepowered.common.event.tracking.PhaseTracker} hooks
+ * are applied.
+ */
+public interface TrackedBlockEntityBridge {
+
+    /**
+     * Gets the capture of this block entity that snapshots are still waiting
+     * on, if any.
+     *
+     * @return The pending capture
+     */
+    @Nullable BlockEntityCapture bridge$pendingCapture();
+
+    void bridge$setPendingCapture(@Nullable BlockEntityCapture capture);
+
+}
@@ -106,9 +106,11 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -120,10 +122,13 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Game game;
     private final Provider<SpongeCommand> spongeCommand;
     private final Map<String, SpongeCommandMapping> commandMappings = new HashMap<>();
+    // The same aliases kept sorted, so that completions are a range of the map
+    private final NavigableMap<String, SpongeCommandMapping> sortedCommandMappings = new TreeMap<>();
     private final Multimap<SpongeCommandMapping, String> inverseCommandMappings = HashMultimap.create();
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final SpongeCommandTreeCache commandTreeCache = new SpongeCommandTreeCache(this);
     private BrigadierCommandRegistrar brigadierRegistrar;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
@@ -144,6 +149,10 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
 
+    public SpongeCommandTreeCache commandTreeCache() {
+        return this.commandTreeCache;
+    }
+
     @Override
     public @NonNull Set<String> knownAliases() {
         return Collections.unmodifiableSet(new HashSet<>(this.commandMappings.keySet()));
@@ -259,11 +268,13 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         }
         aliases.forEach(key -> {
             this.commandMappings.put(key, mapping);
+            this.sortedCommandMappings.put(key, mapping);
             this.inverseCommandMappings.put(mapping, key);
         });
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        this.commandTreeCache.invalidate();
         return mapping;
     }
 
@@ -404,9 +415,8 @@ private void prettyPrintThrowableError(final Throwable thr, final String command
                 return mapping.registrar().complete(CommandCause.create(), mapping, command, splitArg[1]);
             }
 
-            return this.commandMappings.keySet()
+            return this.sortedCommandMappings.subMap(command, true, command + Character.MAX_VALUE, true).keySet()
                     .stream()
-                    .filter(x -> x.startsWith(command))
                     .map(SpongeCommandCompletion::new)
                     .collect(Collectors.toList());
         } catch (final Exception e) {
@@ -438,6 +448,7 @@ private void prettyPrintThrowableError(final Throwable thr, final String command
     }
 
     public void init() {
+        this.commandTreeCache.invalidate();
         final Cause cause = PhaseTracker.getCauseStackManager().currentCause();
         final Set<TypeToken<?>> usedTokens = new HashSet<>();
         Sponge.game().registry(RegistryTypes.COMMAND_REGISTRAR_TYPE).streamEntries().forEach(entry -> {
@@ -522,28 +533,25 @@ public Collection<CommandNode<SharedSuggestionProvider>> getNonBrigadierSuggesti
         return suggestions;
     }
 
+    Collection<RootCommandTreeNode> suggestionNodes() {
+        return this.mappingToSuggestionNodes.values();
+    }
+
     public Collection<String> getAliasesThatStartWithForCause(final CommandCause cause, final String startingText) {
         final String toCompare = startingText.toLowerCase(Locale.ROOT);
         final List<String> aliases = new ArrayList<>();
         final Object2BooleanMap<CommandMapping> testedMappings = new Object2BooleanOpenHashMap<>();
-        for (final Map.Entry<String, SpongeCommandMapping> mappingEntry : this.commandMappings.entrySet()) {
-            if (mappingEntry.getKey().startsWith(toCompare)) {
-                if (testedMappings.computeBooleanIfAbsent(mappingEntry.getValue(), mapping -> mapping.registrar().canExecute(cause, mapping))) {
-                    aliases.add(toCompare);
-                }
+        for (final Map.Entry<String, SpongeCommandMapping> mappingEntry
+                : this.sortedCommandMappings.subMap(toCompare, true, toCompare + Character.MAX_VALUE, true).entrySet()) {
+            if (testedMappings.computeBooleanIfAbsent(mappingEntry.getValue(), mapping -> mapping.registrar().canExecute(cause, mapping))) {
+                aliases.add(mappingEntry.getKey());
             }
         }
         return aliases;
     }
 
     public Collection<String> getAliasesForCause(final CommandCause cause) {
-        final List<String> aliases = new ArrayList<>();
-        for (final SpongeCommandMapping mapping : this.inverseCommandMappings.keySet()) {
-            if (mapping.registrar().canExecute(cause, mapping)) {
-                aliases.addAll(this.inverseCommandMappings.get(mapping));
-            }
-        }
-        return aliases;
+        return this.getAliasesThatStartWithForCause(cause, "");
     }
 
     private <C, R extends CommandRegistrar<C>> RegisterCommandEventImpl<C, R> createEvent(final Cause cause, final Game game, final R registrar) {
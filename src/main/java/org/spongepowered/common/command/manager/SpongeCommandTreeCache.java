@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
+import org.spongepowered.common.command.brigadier.tree.SpongeNode;
+import org.spongepowered.common.command.registrar.tree.builder.AbstractCommandTreeNode;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Caches the command tree packets sent to players, keyed by which command
+ * nodes they are able to use.
+ *
+ * <p>The tree sent to a player only depends on the nodes they can use. The
+ * requirement of each node is tested in the same order the tree is built in,
+ * descending only into usable nodes, and the results are recorded as a
+ * signature. Players with equal signatures are sent identical trees, so the
+ * packet built for one of them can be sent to the others.</p>
+ *
+ * <p>Signatures are computed every time a tree is sent, so permission
+ * changes are always picked up. The cache itself must be invalidated when
+ * commands are registered, as that changes the nodes being tested.</p>
+ */
+public final class SpongeCommandTreeCache {
+
+    private static final Predicate<CommandSourceStack> DEFAULT_REQUIREMENT = LiteralArgumentBuilder.<CommandSourceStack>literal("").getRequirement();
+
+    private final SpongeCommandManager manager;
+    private final Cache<BitSet, ClientboundCommandsPacket> packets = Caffeine.newBuilder()
+            .maximumSize(64)
+            .build();
+
+    SpongeCommandTreeCache(final SpongeCommandManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Computes the command tree signature for the given source.
+     *
+     * @param source The source, with the cause it will be sent the tree with
+     * @return The signature
+     */
+    public BitSet signature(final CommandSourceStack source) {
+        final SpongeCommandDispatcher dispatcher = this.manager.getDispatcher();
+        return this.signature((isRoot, node) -> SpongeNodePermissionCache.canUse(isRoot, dispatcher, node, source), (CommandCause) source);
+    }
+
+    BitSet signature(final NodeTester tester, final CommandCause cause) {
+        final Signature signature = new Signature();
+        this.testNodes(this.manager.getDispatcher().getRoot(), tester, signature);
+
+        for (final AbstractCommandTreeNode<?, ?> node : this.manager.suggestionNodes()) {
+            final Set<AbstractCommandTreeNode<?, ?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            node.testRequirements(cause, visited, signature);
+        }
+        return signature.bits;
+    }
+
+    public @Nullable ClientboundCommandsPacket get(final BitSet signature) {
+        return this.packets.getIfPresent(signature);
+    }
+
+    public void put(final BitSet signature, final ClientboundCommandsPacket packet) {
+        this.packets.put(signature, packet);
+    }
+
+    public void invalidate() {
+        this.packets.invalidateAll();
+    }
+
+    private void testNodes(final CommandNode<CommandSourceStack> parent, final NodeTester tester, final Signature signature) {
+        final boolean isRoot = parent instanceof RootCommandNode;
+        for (final CommandNode<CommandSourceStack> child : SpongeCommandTreeCache.childrenForSuggestions(parent)) {
+            if (SpongeCommandTreeCache.alwaysUsable(child)) {
+                this.testNodes(child, tester, signature);
+            } else {
+                final boolean canUse = tester.canUse(isRoot, child);
+                signature.accept(canUse);
+                if (canUse) {
+                    this.testNodes(child, tester, signature);
+                }
+            }
+        }
+    }
+
+    private static Iterable<CommandNode<CommandSourceStack>> childrenForSuggestions(final CommandNode<CommandSourceStack> node) {
+        if (node instanceof SpongeNode) {
+            return ((SpongeNode) node).getChildrenForSuggestions();
+        }
+        return node.getChildren();
+    }
+
+    private static boolean alwaysUsable(final CommandNode<CommandSourceStack> node) {
+        // Only plain brigadier nodes are known not to check more than their requirement
+        final Class<?> type = node.getClass();
+        return (type == LiteralCommandNode.class || type == ArgumentCommandNode.class)
+                && node.getRequirement() == SpongeCommandTreeCache.DEFAULT_REQUIREMENT;
+    }
+
+    @FunctionalInterface
+    interface NodeTester {
+
+        boolean canUse(boolean isRoot, CommandNode<CommandSourceStack> node);
+    }
+
+    private static final class Signature implements BooleanConsumer {
+
+        final BitSet bits = new BitSet();
+        private int index;
+
+        @Override
+        public void accept(final boolean value) {
+            this.bits.set(this.index++, value);
+        }
+    }
+}
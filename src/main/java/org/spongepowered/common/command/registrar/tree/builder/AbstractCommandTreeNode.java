@@ -28,6 +28,7 @@
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.CommandNode;
+import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -40,6 +41,7 @@
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 public abstract class AbstractCommandTreeNode<T extends CommandTreeNode<@NonNull T>, O extends CommandNode<SharedSuggestionProvider>>
@@ -160,4 +162,24 @@ protected final void addChildNodesToTree(
     protected final Predicate<CommandCause> getRequirement() {
         return this.requirement;
     }
+
+    /**
+     * Tests the requirements of this node and its children in the order they
+     * would be tested when building the suggestion tree for the given cause,
+     * only descending into nodes that pass.
+     *
+     * @param cause The cause
+     * @param visited The nodes whose children have already been tested
+     * @param results The consumer for each result
+     */
+    public final void testRequirements(final CommandCause cause, final Set<AbstractCommandTreeNode<?, ?>> visited,
+            final BooleanConsumer results) {
+        final boolean result = this.requirement.test(cause);
+        results.accept(result);
+        if (result && visited.add(this)) {
+            for (final AbstractCommandTreeNode<?, ?> child : this.getChildren().values()) {
+                child.testRequirements(cause, visited, results);
+            }
+        }
+    }
 }
@@ -0,0 +1,535 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.Key;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.data.builder.Coerce;
+import org.spongepowered.common.registry.provider.KeyProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Base implementation of a {@link DataView} that derives all typed and
+ * converted accessors from {@link #get(DataQuery)}, {@link #set(DataQuery, Object)}
+ * and {@link #keys(boolean)}, leaving the storage of values to subclasses.
+ */
+public abstract class AbstractDataView implements DataView {
+
+    @Override
+    public Map<DataQuery, Object> values(final boolean deep) {
+        final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        for (final DataQuery query : this.keys(deep)) {
+            final Object value = this.get(query).get();
+            if (value instanceof DataView) {
+                builder.put(query, ((DataView) value).values(deep));
+            } else {
+                builder.put(query, this.get(query).get());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean contains(final DataQuery path, final DataQuery... paths) {
+        Objects.requireNonNull(path, "DataQuery cannot be null!");
+        Objects.requireNonNull(paths, "DataQuery varargs cannot be null!");
+        if (paths.length == 0) {
+            return this.contains(path);
+        }
+        final List<DataQuery> queries = new ArrayList<>();
+        queries.add(path);
+        for (final DataQuery query : paths) {
+            queries.add(Objects.requireNonNull(query, "No null queries!"));
+        }
+        for (final DataQuery query : queries) {
+            if (!this.contains(query)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DataView createView(final DataQuery path, final Map<?, ?> map) {
+        Objects.requireNonNull(path, "path");
+        final DataView section = this.createView(path);
+
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(DataQuery.of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(DataQuery.of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public Optional<DataView> getView(final DataQuery path) {
+        return this.get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                for (final Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).values(false).entrySet()) {
+                    builder.put(entry.getKey().asString('.'), this.ensureMappingOf(entry.getValue()));
+                }
+                return Optional.of(builder.build());
+            } else if (val.get() instanceof Map) {
+                return Optional.of((Map<?, ?>) this.ensureMappingOf(val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Object ensureMappingOf(final Object object) {
+        if (object instanceof DataView) {
+            final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+            for (final Map.Entry<DataQuery, Object> entry : ((DataView) object).values(false).entrySet()) {
+                builder.put(entry.getKey().asString('.'), this.ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Map) {
+            final ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                builder.put(entry.getKey().toString(), this.ensureMappingOf(entry.getValue()));
+            }
+            return builder.build();
+        } else if (object instanceof Collection) {
+            final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (final Object entry : (Collection) object) {
+                builder.add(this.ensureMappingOf(entry));
+            }
+            return builder.build();
+        } else {
+            return object;
+        }
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Byte> getByte(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Short> getShort(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Integer> getInt(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(final DataQuery path) {
+        return this.get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(final DataQuery path) {
+        final Optional<Object> val = this.get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asString)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    private Optional<List<?>> getUnsafeList(final DataQuery path) {
+        return this.get(path)
+            .filter(obj -> obj instanceof List<?> || obj instanceof Object[])
+            .map(obj -> {
+                    if (obj instanceof List<?>) {
+                        return (List<?>) obj;
+                    }
+                    return Arrays.asList((Object[]) obj);
+                }
+            );
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asChar)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asBoolean)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asByte)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asShort)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asInteger)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asLong)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asFloat)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .map(Coerce::asDouble)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(final DataQuery path) {
+        return this.getUnsafeList(path).<List<Map<?, ?>>>map(list ->
+            list.stream()
+                .filter(obj -> obj instanceof Map<?, ?>)
+                .map(obj -> (Map<?, ?>) obj)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(final DataQuery path) {
+        return this.getUnsafeList(path).map(list ->
+            list.stream()
+                .filter(obj -> obj instanceof DataView)
+                .map(obj -> (DataView) obj)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(final DataQuery path, final Class<T> clazz) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(clazz, "clazz");
+
+        return this.getView(path).flatMap(view -> Sponge.dataManager().builder(clazz).flatMap(builder -> builder.build(view)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(final DataQuery path, final Class<T> clazz) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(clazz, "clazz");
+        return Stream.<Supplier<Optional<List<T>>>>of(
+            () -> this.getViewList(path).flatMap(list ->
+                Sponge.dataManager().builder(clazz).map(builder ->
+                    list.stream()
+                        .map(builder::build)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList())
+                )
+            )
+        )
+            .map(Supplier::get)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .findFirst();
+    }
+
+    @Override
+    public <T> Optional<T> getRegistryValue(final DataQuery path, final RegistryType<T> registryType, final RegistryHolder holder) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(registryType, "registry type");
+        return this.getString(path).flatMap(string -> holder.findRegistry(registryType).flatMap(r -> r.findValue(ResourceKey.resolve(string))));
+    }
+
+    @Override
+    public <T> Optional<List<T>> getRegistryValueList(final DataQuery path, final RegistryType<T> registryType, final RegistryHolder holder) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(registryType, "registry type");
+        return this.getStringList(path).map(list ->
+            list.stream()
+                .<Optional<T>>map(string -> holder.findRegistry(registryType).flatMap(r -> r.findValue(ResourceKey.resolve(string))))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Override
+    public <E, V extends Value<E>> Optional<Key<V>> getDataKey(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        return this.getResourceKey(path).flatMap(r -> KeyProvider.INSTANCE.get(r));
+    }
+
+    @Override
+    public Optional<List<Key<? extends Value<?>>>> getDataKeyList(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        final Optional<List<ResourceKey>> resourceKeys = this.getResourceKeyList(path);
+        if (!resourceKeys.isPresent()) {
+            return Optional.empty();
+        }
+
+        final List<Key<? extends Value<?>>> keys = new ArrayList<>();
+        for (final ResourceKey resourceKey : resourceKeys.get()) {
+            KeyProvider.INSTANCE.get(resourceKey).ifPresent(keys::add);
+        }
+        if (keys.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(keys);
+    }
+
+    @Override
+    public <T> Optional<T> getObject(final DataQuery path, final Class<T> objectClass) {
+        return this.getView(path).flatMap(view ->
+            Sponge.dataManager().translator(objectClass)
+                .flatMap(serializer -> Optional.of(serializer.translate(view)))
+        );
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(final DataQuery path, final Class<T> objectClass) {
+        return this.getViewList(path).flatMap(viewList ->
+            Sponge.dataManager().translator(objectClass).map(serializer ->
+                viewList.stream()
+                    .map(serializer::translate)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Override
+    public DataContainer copy() {
+        final DataContainer container = new MemoryDataContainer(this.safetyMode());
+        this.keys(false)
+            .forEach(query ->
+                this.get(query).ifPresent(obj ->
+                    container.set(query, obj)
+                )
+            );
+        return container;
+    }
+
+    @Override
+    public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.SafetyMode safety) {
+        final DataContainer container = new MemoryDataContainer(safety);
+        this.keys(false)
+            .forEach(query ->
+                this.get(query).ifPresent(obj ->
+                    container.set(query, obj)
+                )
+            );
+        return container;
+    }
+
+    /**
+     * Data views are compared by their path and their values, so that views
+     * with the same contents are equal regardless of how they store them.
+     */
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof final DataView other)) {
+            return false;
+        }
+        return Objects.equals(this.currentPath(), other.currentPath())
+            && AbstractDataView.valueEquals(this.values(false), other.values(false));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.currentPath().hashCode() + AbstractDataView.valueHashCode(this.values(false));
+    }
+
+    private static boolean valueEquals(final @Nullable Object first, final @Nullable Object second) {
+        if (first instanceof final DataView view) {
+            return AbstractDataView.valueEquals(view.values(false), second);
+        }
+        if (second instanceof final DataView view) {
+            return AbstractDataView.valueEquals(first, view.values(false));
+        }
+        if (first instanceof final Map<?, ?> firstMap && second instanceof final Map<?, ?> secondMap) {
+            if (firstMap.size() != secondMap.size()) {
+                return false;
+            }
+            for (final Map.Entry<?, ?> entry : firstMap.entrySet()) {
+                if (!secondMap.containsKey(entry.getKey()) || !AbstractDataView.valueEquals(entry.getValue(), secondMap.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (first instanceof final List<?> firstList && second instanceof final List<?> secondList) {
+            if (firstList.size() != secondList.size()) {
+                return false;
+            }
+            for (int i = 0; i < firstList.size(); i++) {
+                if (!AbstractDataView.valueEquals(firstList.get(i), secondList.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // Arrays are compared by their contents, they are copied by some views
+        return Objects.deepEquals(first, second);
+    }
+
+    private static int valueHashCode(final @Nullable Object value) {
+        if (value instanceof final DataView view) {
+            return AbstractDataView.valueHashCode(view.values(false));
+        }
+        if (value instanceof final Map<?, ?> map) {
+            int hash = 0;
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                hash += Objects.hashCode(entry.getKey()) ^ AbstractDataView.valueHashCode(entry.getValue());
+            }
+            return hash;
+        }
+        if (value instanceof final List<?> list) {
+            int hash = 1;
+            for (final Object element : list) {
+                hash = 31 * hash + AbstractDataView.valueHashCode(element);
+            }
+            return hash;
+        }
+        return Arrays.deepHashCode(new Object[] {value});
+    }
+}
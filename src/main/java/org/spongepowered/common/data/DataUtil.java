@@ -64,7 +64,9 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         if (compound == null) {
             return;
         }
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+        // Wraps a copy, as the data stores may keep views of it while the holder keeps modifying its compound.
+        // Only the custom data is read, so the rest of the compound is never translated.
+        final DataContainer allData = NBTTranslator.INSTANCE.wrap(compound.copy());
 
         DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
 
@@ -86,7 +88,8 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
                             });
                         }
                     } else {
-                        dataHolder.bridge$addFailedData(keyNamespace.then(keyValue), dataStoreData);
+                        // Detach the failed data from the holder's compound as it is kept around
+                        dataHolder.bridge$addFailedData(keyNamespace.then(keyValue), NBTTranslator.INSTANCE.wrap(NBTTranslator.INSTANCE.translate(dataStoreData)));
                     }
                 }
             }
@@ -181,7 +184,7 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean se
         compound = compound.copy(); // do not modify the original as it might be shared
         compound.remove(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString(".")); // Remove all previous SpongeData
 
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+        final DataContainer allData = NBTTranslator.INSTANCE.wrap(compound);
 
         // Clear old custom data root
         final DataView customDataRoot = allData.createView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT);
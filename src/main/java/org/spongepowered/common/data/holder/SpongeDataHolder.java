@@ -30,6 +30,7 @@
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 import org.spongepowered.common.data.SpongeDataManager;
 
 import java.util.Collection;
@@ -57,6 +58,9 @@ public interface SpongeDataHolder extends DataHolder {
      */
     default <V extends Value<E>, E> DataProvider<V, E> impl$getProviderFor(final Key<V> key, final DataHolder dataHolder) {
         Objects.requireNonNull(key, "key");
+        if (dataHolder instanceof SpongeDataHolderBridge bridge) {
+            return bridge.bridge$providerLookup().getProvider(key);
+        }
         return SpongeDataManager.getProviderRegistry().getProvider(key, dataHolder.getClass());
     }
 
@@ -70,6 +74,9 @@ public interface SpongeDataHolder extends DataHolder {
     }
 
     default Collection<DataProvider<?, ?>> impl$getAllProviders(final DataHolder dataHolder) {
+        if (dataHolder instanceof SpongeDataHolderBridge bridge) {
+            return bridge.bridge$providerLookup().getAllProviders();
+        }
         return SpongeDataManager.getProviderRegistry().getAllProviders(dataHolder.getClass());
     }
 
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.CompoundTag;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A {@link DataContainer} backed by a {@link CompoundTag}. A shared compound
+ * is copied on the first write, so wrapping a compound never modifies it.
+ *
+ * @see NBTTranslator#wrap(CompoundTag)
+ */
+public final class CompoundTagDataContainer extends CompoundTagDataView implements DataContainer {
+
+    private final DataView.SafetyMode safety;
+    private CompoundTag compound;
+    private boolean shared;
+
+    CompoundTagDataContainer(final CompoundTag compound, final boolean shared, final DataView.SafetyMode safety) {
+        this.compound = Objects.requireNonNull(compound, "compound");
+        this.shared = shared;
+        this.safety = Objects.requireNonNull(safety, "Safety mode");
+    }
+
+    CompoundTag rootCompound(final boolean write) {
+        if (write && this.shared) {
+            this.compound = this.compound.copy();
+            this.shared = false;
+        }
+        return this.compound;
+    }
+
+    boolean isShared() {
+        return this.shared;
+    }
+
+    void markShared() {
+        this.shared = true;
+    }
+
+    DataView.SafetyMode safety() {
+        return this.safety;
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer container() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(final DataQuery path, final Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(final DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+}
@@ -0,0 +1,349 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.AbstractDataView;
+import org.spongepowered.common.data.DataSerializer;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.util.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A {@link DataView} that reads and writes a {@link CompoundTag} in place
+ * rather than holding a translated copy of it.
+ *
+ * <p>Values are converted from their tags only when they are requested, and
+ * written values are converted to tags immediately. Views are positioned by
+ * their path from the owning {@link CompoundTagDataContainer}, so they remain
+ * valid after the container copies its compound on write.</p>
+ */
+public class CompoundTagDataView extends AbstractDataView {
+
+    private final CompoundTagDataContainer root;
+    private final @Nullable DataView parent;
+    private final DataQuery path;
+
+    CompoundTagDataView() {
+        Preconditions.checkState(this instanceof CompoundTagDataContainer, "Cannot construct a root CompoundTagDataView without a container!");
+        this.root = (CompoundTagDataContainer) this;
+        this.parent = null;
+        this.path = DataQuery.of();
+    }
+
+    private CompoundTagDataView(final CompoundTagDataView parent, final DataQuery path) {
+        this.root = parent.root;
+        this.parent = parent;
+        this.path = parent.path.then(path);
+    }
+
+    /**
+     * Gets the compound backing this view, creating it if this view has
+     * since been removed from its container.
+     *
+     * @param write Whether the compound is about to be modified
+     * @return The compound, or null if it doesn't exist and is only read
+     */
+    @Nullable CompoundTag compound(final boolean write) {
+        CompoundTag current = this.root.rootCompound(write);
+        for (final String part : this.path.parts()) {
+            final @Nullable Tag tag = current.get(part);
+            if (tag instanceof final CompoundTag compound) {
+                current = compound;
+            } else if (write) {
+                final CompoundTag created = new CompoundTag();
+                current.put(part, created);
+                current = created;
+            } else {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public DataContainer container() {
+        return this.root;
+    }
+
+    @Override
+    public DataQuery currentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String name() {
+        final List<String> parts = this.path.parts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> parent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> keys(final boolean deep) {
+        final @Nullable CompoundTag compound = this.compound(false);
+        if (compound == null) {
+            return ImmutableSet.of();
+        }
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        CompoundTagDataView.collectKeys(compound, DataQuery.of(), deep, builder);
+        return builder.build();
+    }
+
+    private static void collectKeys(final CompoundTag compound, final DataQuery prefix, final boolean deep,
+        final ImmutableSet.Builder<DataQuery> builder
+    ) {
+        for (final String key : compound.getAllKeys()) {
+            builder.add(prefix.then(CompoundTagDataView.stripBoolean(key)));
+        }
+        if (deep) {
+            for (final String key : compound.getAllKeys()) {
+                if (compound.get(key) instanceof final CompoundTag inner) {
+                    CompoundTagDataView.collectKeys(inner, prefix.then(key), true, builder);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        final @Nullable CompoundTag parent = this.parentOf(path, false);
+        if (parent == null) {
+            return false;
+        }
+        final String key = CompoundTagDataView.lastPart(path);
+        return parent.contains(key) || parent.contains(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+    }
+
+    @Override
+    public Optional<Object> get(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        final List<String> parts = path.parts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final @Nullable CompoundTag parent = this.parentOf(path, false);
+        if (parent == null) {
+            return Optional.empty();
+        }
+        final String key = parts.get(parts.size() - 1);
+        final @Nullable Tag tag = parent.get(key);
+        if (tag == null) {
+            final @Nullable Tag flag = parent.get(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+            if (flag instanceof final NumericTag numeric) {
+                return Optional.of(numeric.getAsByte() != 0);
+            }
+            return Optional.empty();
+        }
+        if (tag instanceof CompoundTag) {
+            return Optional.of(new CompoundTagDataView(this, path));
+        }
+        return Optional.ofNullable(this.fromTag(tag));
+    }
+
+    private @Nullable Object fromTag(final Tag tag) {
+        switch (tag.getId()) {
+            case Constants.NBT.TAG_BYTE:
+            case Constants.NBT.TAG_SHORT:
+            case Constants.NBT.TAG_INT:
+            case Constants.NBT.TAG_LONG:
+            case Constants.NBT.TAG_FLOAT:
+            case Constants.NBT.TAG_DOUBLE:
+                return ((NumericTag) tag).getAsNumber();
+            case Constants.NBT.TAG_STRING:
+                return tag.getAsString();
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                final byte[] bytes = ((ByteArrayTag) tag).getAsByteArray();
+                return this.exposesTags() ? bytes : bytes.clone();
+            case Constants.NBT.TAG_INT_ARRAY:
+                final int[] ints = ((IntArrayTag) tag).getAsIntArray();
+                return this.exposesTags() ? ints : ints.clone();
+            case Constants.NBT.TAG_LONG_ARRAY:
+                final long[] longs = ((LongArrayTag) tag).getAsLongArray();
+                return this.exposesTags() ? longs : longs.clone();
+            case Constants.NBT.TAG_LIST:
+                final ListTag list = (ListTag) tag;
+                final List<Object> values = new ArrayList<>(list.size());
+                for (final Tag element : list) {
+                    if (element instanceof final CompoundTag compound) {
+                        // Elements are detached from this view, so they are copied on their own first write
+                        values.add(new CompoundTagDataContainer(compound, true, this.safetyMode()));
+                    } else {
+                        values.add(this.fromTag(element));
+                    }
+                }
+                return values;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Arrays are handed out as they are only when the compound is owned by
+     * the container and the safety mode permits it, otherwise the source tag
+     * could be modified through them.
+     */
+    private boolean exposesTags() {
+        return !this.root.isShared() && this.safetyMode() == DataView.SafetyMode.NO_DATA_CLONED;
+    }
+
+    @Override
+    public DataView set(final DataQuery path, final Object value) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(value, "value");
+        Preconditions.checkState(!path.parts().isEmpty(), "The path is empty");
+        Preconditions.checkArgument(value != this, "Cannot set a DataView to itself.");
+
+        // Views are converted to tags directly, which copies them regardless of the safety mode
+        final Object serialized = value instanceof DataView ? value : DataSerializer.serialize(this.safetyMode(), value);
+        // Convert before modifying anything, the value may be a view of this same compound
+        final Tag tag = NBTTranslator.getBaseFromObject(serialized);
+        final CompoundTag parent = Objects.requireNonNull(this.parentOf(path, true));
+        final String key = CompoundTagDataView.lastPart(path);
+        if (serialized instanceof Boolean) {
+            parent.remove(key);
+            parent.put(key + NBTTranslator.BOOLEAN_IDENTIFIER, tag);
+        } else {
+            parent.remove(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+            parent.put(key, tag);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView remove(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        if (!this.contains(path)) {
+            return this;
+        }
+        final CompoundTag parent = Objects.requireNonNull(this.parentOf(path, true));
+        final String key = CompoundTagDataView.lastPart(path);
+        parent.remove(key);
+        parent.remove(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+        return this;
+    }
+
+    @Override
+    public DataView createView(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+        Preconditions.checkArgument(!path.parts().isEmpty(), "The size of the query must be at least 1");
+        final CompoundTag parent = Objects.requireNonNull(this.parentOf(path, true));
+        final String key = CompoundTagDataView.lastPart(path);
+        parent.remove(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+        parent.put(key, new CompoundTag());
+        return new CompoundTagDataView(this, path);
+    }
+
+    /**
+     * Gets the compound holding the last part of the given path.
+     */
+    private @Nullable CompoundTag parentOf(final DataQuery path, final boolean write) {
+        @Nullable CompoundTag current = this.compound(write);
+        final List<String> parts = path.parts();
+        for (int i = 0; current != null && i < parts.size() - 1; i++) {
+            final String part = parts.get(i);
+            final @Nullable Tag tag = current.get(part);
+            if (tag instanceof final CompoundTag compound) {
+                current = compound;
+            } else if (write) {
+                final CompoundTag created = new CompoundTag();
+                current.put(part, created);
+                current = created;
+            } else {
+                current = null;
+            }
+        }
+        return current;
+    }
+
+    private static String lastPart(final DataQuery path) {
+        final List<String> parts = path.parts();
+        return parts.get(parts.size() - 1);
+    }
+
+    private static String stripBoolean(final String key) {
+        return key.endsWith(NBTTranslator.BOOLEAN_IDENTIFIER)
+            ? key.substring(0, key.length() - NBTTranslator.BOOLEAN_IDENTIFIER.length())
+            : key;
+    }
+
+    @Override
+    public DataContainer copy() {
+        return this.copy(this.safetyMode());
+    }
+
+    @Override
+    public DataContainer copy(final DataView.SafetyMode safety) {
+        final @Nullable CompoundTag compound = this.compound(false);
+        if (compound == null) {
+            return new CompoundTagDataContainer(new CompoundTag(), false, safety);
+        }
+        // Both sides now copy the compound before their next write
+        this.root.markShared();
+        return new CompoundTagDataContainer(compound, true, safety);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final @Nullable CompoundTag compound = this.compound(false);
+        return compound == null || compound.isEmpty();
+    }
+
+    @Override
+    public DataView.SafetyMode safetyMode() {
+        return this.root.safety();
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner helper = new StringJoiner(", ", CompoundTagDataView.class.getSimpleName() + "[", "]");
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path=" + this.path);
+        }
+        helper.add("safety=" + this.safetyMode().name());
+        return helper.add("compound=" + this.compound(false)).toString();
+    }
+}
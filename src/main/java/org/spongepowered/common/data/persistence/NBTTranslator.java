@@ -63,6 +63,11 @@ public final class NBTTranslator implements DataTranslator<CompoundTag> {
 
     private static CompoundTag containerToCompound(final DataView container) {
         Objects.requireNonNull(container);
+        if (container instanceof final CompoundTagDataView view) {
+            // Already backed by a compound, a copy is all that's needed
+            final CompoundTag compound = view.compound(false);
+            return compound == null ? new CompoundTag() : compound.copy();
+        }
         CompoundTag compound = new CompoundTag();
         NBTTranslator.containerToCompound(container, compound);
         return compound;
@@ -89,7 +94,7 @@ private static void containerToCompound(final DataView container, final Compound
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Tag getBaseFromObject(final Object value) {
+    static Tag getBaseFromObject(final Object value) {
         Objects.requireNonNull(value);
         if (value instanceof Boolean) {
             return ByteTag.valueOf((Boolean) value);
@@ -288,6 +293,21 @@ public void translateContainerToData(CompoundTag node, DataView container) {
         NBTTranslator.containerToCompound(container, node);
     }
 
+    /**
+     * Wraps the given compound in a {@link DataContainer} without translating
+     * it. Values are only converted when they are accessed, and the compound
+     * is copied before the first modification so it is never changed through
+     * the returned container.
+     *
+     * <p>The compound must not be modified while the container is in use.</p>
+     *
+     * @param node The compound to wrap
+     * @return The container
+     */
+    public DataContainer wrap(final CompoundTag node) {
+        return new CompoundTagDataContainer(node, true, DataView.SafetyMode.NO_DATA_CLONED);
+    }
+
     public DataContainer translateFrom(CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
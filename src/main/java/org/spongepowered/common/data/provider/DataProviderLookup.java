@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.data.provider;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -35,10 +35,33 @@
 
 public final class DataProviderLookup {
 
-    private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    // Indexed by SpongeKey#id, null for keys without a provider
+    private final DataProvider<?, ?>[] providers;
+    private final Collection<DataProvider<?, ?>> allProviders;
+    private volatile boolean stale;
 
-    DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
-        this.providerMap = ImmutableMap.copyOf(providerMap);
+    DataProviderLookup(final Map<Key<?>, DataProvider<?, ?>> providerMap) {
+        int length = 0;
+        for (final Key<?> key : providerMap.keySet()) {
+            length = Math.max(length, ((SpongeKey<?, ?>) key).id() + 1);
+        }
+        this.providers = new DataProvider<?, ?>[length];
+        providerMap.forEach((key, provider) -> this.providers[((SpongeKey<?, ?>) key).id()] = provider);
+        this.allProviders = ImmutableList.copyOf(providerMap.values());
+    }
+
+    /**
+     * Gets whether providers were registered since this lookup was
+     * built, in which case it should be obtained again from the registry.
+     *
+     * @return Whether this lookup is stale
+     */
+    public boolean isStale() {
+        return this.stale;
+    }
+
+    void markStale() {
+        this.stale = true;
     }
 
     /**
@@ -47,7 +70,7 @@ public final class DataProviderLookup {
      * @return The delegate data providers
      */
     public Collection<DataProvider<?, ?>> getAllProviders() {
-        return this.providerMap.values();
+        return this.allProviders;
     }
 
     /**
@@ -59,7 +82,15 @@ public final class DataProviderLookup {
      * @return The delegate provider
      */
     @SuppressWarnings("unchecked")
-    public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+    public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key) {
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int id = spongeKey.id();
+        if (id < this.providers.length) {
+            final DataProvider<?, ?> provider = this.providers[id];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -46,7 +47,6 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -54,38 +54,15 @@
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
-
-        final Class<?> holderType;
-
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
-        }
-
-    }
     private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
     private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
+    // Fast path in front of the cache, entries are refreshed once their lookup becomes stale
+    private final ClassValue<CachedLookup> lookupByClass = new ClassValue<>() {
+        @Override
+        protected CachedLookup computeValue(final Class<?> type) {
+            return new CachedLookup();
+        }
+    };
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
         // Filter out data providers of which we know that they will never be relevant.
@@ -96,15 +73,10 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
         return true;
     }
 
-    @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
-    }
-
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
     private DataProviderLookup loadProviderLookup(final Class<?> holderType) {
         final Stream<DataProvider> stream = this.dataProviders.keySet().stream()
-                .map(key -> this.getProvider((Key) key, holderType))
+                .map(key -> this.buildDelegate((Key) key, provider -> DataProviderRegistry.filterHolderType((DataProvider<?, ?>) provider, holderType)))
                 .filter(provider -> !(provider instanceof EmptyDataProvider));
         final Map<Key<?>, DataProvider<?, ?>> map = stream.collect(Collectors.toMap(p -> (Key<?>) p.key(), p -> (DataProvider<?, ?>) p));
         return new DataProviderLookup(map);
@@ -137,7 +109,13 @@ private static <V extends Value<E>, E> DataProvider<V, E> buildDelegateProvider(
      * @return The built lookup
      */
     public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
-        return this.dataProviderLookupCache.computeIfAbsent(dataHolderType, this::loadProviderLookup);
+        final CachedLookup cached = this.lookupByClass.get(dataHolderType);
+        DataProviderLookup lookup = cached.lookup;
+        if (lookup == null || lookup.isStale()) {
+            lookup = this.dataProviderLookupCache.computeIfAbsent(dataHolderType, this::loadProviderLookup);
+            cached.lookup = lookup;
+        }
+        return lookup;
     }
 
     /**
@@ -191,9 +169,8 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      * @param <E> The element type of the value
      * @return The delegate data provider
      */
-    @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        return this.getProviderLookup(dataHolderType).getProvider(key);
     }
 
     /**
@@ -203,7 +180,8 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.key(), provider);
-        this.dataProviderCache.clear();
+        // Lookups are still referenced by the class value, flag them to be rebuilt
+        this.dataProviderLookupCache.values().forEach(DataProviderLookup::markStale);
         this.dataProviderLookupCache.clear();
     }
 
@@ -230,6 +208,10 @@ private void registerDefaultProviders(DataProviderRegistratorBuilder... dataProv
         }
     }
 
+    private static final class CachedLookup {
 
-
+        // Volatile so the stale flag of a lookup published by another
+        // thread is seen together with the lookup itself
+        volatile @Nullable DataProviderLookup lookup;
+    }
 }
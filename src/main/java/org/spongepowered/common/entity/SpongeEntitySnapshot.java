@@ -246,7 +246,7 @@ public EntityArchetype createArchetype() {
         final EntityArchetype.Builder builder = SpongeEntityArchetypeBuilder.pooled();
         builder.type(this.entityType);
         if (this.compound != null) {
-            builder.entityData(NBTTranslator.INSTANCE.translate(this.compound));
+            builder.entityData(NBTTranslator.INSTANCE.wrap(this.compound));
         }
         return builder.build();
     }
@@ -256,7 +256,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(this.compound);
     }
 
     @Override
@@ -27,6 +27,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.mojang.authlib.GameProfile;
+import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtAccounter;
@@ -88,7 +89,6 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -99,6 +99,7 @@
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 
 /**
@@ -421,19 +422,50 @@ public void markDirty() {
     }
 
     public void save() throws IOException {
+        final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
+        try {
+            userManager.queueSave(this).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the current state of this user into its compound and copies it,
+     * so that it can be written to disk on another thread.
+     *
+     * @return The copied compound
+     */
+    public CompoundTag snapshotCompound() {
         synchronized (this) {
-            final SpongeUserManager userManager = ((SpongeServer) SpongeCommon.server()).userManager();
-            final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
-            final Path p = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.uniqueId() + ".dat");
             this.writeCompound(this.compound);
-            try (final OutputStream out = Files.newOutputStream(p)) {
-                NbtIo.writeCompressed(this.compound, out);
-                userManager.unmarkDirty(this);
-            } catch (final IOException e) {
-                // We log the message here because the error may be swallowed by a completable future.
-                SpongeCommon.logger().warn("Failed to save user file [{}]!", p, e);
-                throw e;
-            }
+            return this.compound.copy();
+        }
+    }
+
+    /**
+     * Writes a user's compound to their player data file, replacing the file
+     * in the same way as vanilla player data.
+     *
+     * @param uniqueId The user's unique id
+     * @param compound The compound to write
+     * @throws IOException If the file could not be written
+     */
+    public static void write(final UUID uniqueId, final CompoundTag compound) throws IOException {
+        final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.server()).accessor$storageSource();
+        final Path directory = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR);
+        final Path p = directory.resolve(uniqueId + ".dat");
+        try {
+            final Path temp = Files.createTempFile(directory, uniqueId + "-", ".dat");
+            NbtIo.writeCompressed(compound, temp);
+            Util.safeReplaceFile(p, temp, directory.resolve(uniqueId + ".dat_old"));
+        } catch (final IOException e) {
+            // We log the message here because the error may be swallowed by a completable future.
+            SpongeCommon.logger().warn("Failed to save user file [{}]!", p, e);
+            throw e;
         }
     }
 
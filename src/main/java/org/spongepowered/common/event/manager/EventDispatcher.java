@@ -0,0 +1,212 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.List;
+
+/**
+ * Posts an event to a fixed, ordered set of listeners.
+ *
+ * <p>Instances are created by {@link EventDispatcherFactory} when a
+ * {@link RegisteredListener.Cache} is baked, so that every event type gets
+ * a straight-line dispatch method which the JIT is able to inline
+ * completely. A dispatcher is discarded alongside its cache.</p>
+ */
+public abstract class EventDispatcher {
+
+    // Only replaced by tests, which run without a phase tracker
+    static Environment environment = Environment.SPONGE;
+
+    static final EventDispatcher EMPTY = new EventDispatcher() {
+        @Override
+        protected void dispatch(final Event event) {
+        }
+    };
+
+    protected EventDispatcher() {
+    }
+
+    /**
+     * Invokes every listener of this dispatcher in order.
+     *
+     * @param event The event
+     */
+    protected abstract void dispatch(Event event);
+
+    public final boolean post(final Event event) {
+        this.dispatch(event);
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    /**
+     * Opens the cause frame of a listener invocation. Called by generated
+     * dispatchers before every listener invocation, which keep the frame in
+     * a local variable until it is passed to
+     * {@link #exit(CauseStackManager.StackFrame, PhaseContext, RegisteredListener, Event, Throwable)}.
+     *
+     * @return The frame
+     */
+    public static CauseStackManager.StackFrame enter() {
+        return EventDispatcher.environment.pushCauseFrame();
+    }
+
+    /**
+     * Pushes the plugin of the given listener, switches to its phase
+     * context and sets the current order of the event.
+     *
+     * @param frame The frame opened by {@link #enter()}
+     * @param listener The listener about to be invoked
+     * @param event The event
+     * @return The phase context to close afterwards, if any
+     */
+    public static @Nullable PhaseContext<@NonNull ?> prepare(final CauseStackManager.StackFrame frame,
+            final RegisteredListener<?> listener, final Event event) {
+        frame.pushCause(listener.getPlugin());
+        final @Nullable PhaseContext<@NonNull ?> context = EventDispatcher.environment.createListenerContext(listener.getPlugin());
+        if (context != null) {
+            try {
+                context.buildAndSwitch();
+            } catch (final Throwable e) {
+                // Not handed back to the caller, so close it here
+                try {
+                    context.close();
+                } catch (final Throwable suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = listener.getOrder();
+        }
+        return context;
+    }
+
+    /**
+     * Closes the phase context and frame of a listener invocation and
+     * reports any failure of the listener.
+     *
+     * @param frame The frame, null if opening it failed
+     * @param context The phase context, if any
+     * @param listener The listener that was invoked
+     * @param event The event
+     * @param thrown The exception thrown by the listener, if any
+     */
+    public static void exit(final CauseStackManager.@Nullable StackFrame frame, final @Nullable PhaseContext<@NonNull ?> context,
+            final RegisteredListener<?> listener, final Event event, final @Nullable Throwable thrown) {
+        @Nullable Throwable failure = thrown;
+        try (final CauseStackManager.@Nullable StackFrame ignoredFrame = frame;
+             final @Nullable PhaseContext<@NonNull ?> ignoredContext = context) {
+            // Resources closed in reverse order, same as the listener post loop
+        } catch (final Throwable e) {
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) {
+            EventDispatcher.environment.reportFailure(listener, event, failure);
+        }
+    }
+
+    /**
+     * Dispatcher used when a generated class cannot be created, or when there
+     * are too many listeners to fit into a single generated method.
+     */
+    static final class Iterating extends EventDispatcher {
+
+        private final RegisteredListener<?>[] listeners;
+
+        Iterating(final List<RegisteredListener<?>> listeners) {
+            this.listeners = listeners.toArray(new RegisteredListener<?>[0]);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        protected void dispatch(final Event event) {
+            for (final RegisteredListener listener : this.listeners) {
+                CauseStackManager.@Nullable StackFrame frame = null;
+                @Nullable PhaseContext<@NonNull ?> context = null;
+                @Nullable Throwable thrown = null;
+                try {
+                    frame = EventDispatcher.enter();
+                    context = EventDispatcher.prepare(frame, listener, event);
+                    listener.handle(event);
+                } catch (final Throwable e) {
+                    thrown = e;
+                }
+                EventDispatcher.exit(frame, context, listener, event, thrown);
+            }
+        }
+
+    }
+
+    /**
+     * Where dispatchers get the cause frames and phase contexts of listener
+     * invocations from, and where they report failing listeners to.
+     */
+    interface Environment {
+
+        Environment SPONGE = new Environment() {
+            @Override
+            public CauseStackManager.StackFrame pushCauseFrame() {
+                return PhaseTracker.getCauseStackManager().pushCauseFrame();
+            }
+
+            @Override
+            public @Nullable PhaseContext<@NonNull ?> createListenerContext(final PluginContainer plugin) {
+                return SpongeEventManager.createListenerContext(plugin);
+            }
+
+            @Override
+            public void reportFailure(final RegisteredListener<?> listener, final Event event, final Throwable failure) {
+                SpongeCommon.logger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+                    listener.getPlugin().metadata().id(), failure);
+            }
+        };
+
+        CauseStackManager.StackFrame pushCauseFrame();
+
+        @Nullable PhaseContext<@NonNull ?> createListenerContext(PluginContainer plugin);
+
+        void reportFailure(RegisteredListener<?> listener, Event event, Throwable failure);
+    }
+
+}
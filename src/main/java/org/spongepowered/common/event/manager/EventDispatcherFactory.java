@@ -0,0 +1,253 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V11;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.gen.LoaderClassWriter;
+import org.spongepowered.common.event.tracking.PhaseContext;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Generates an {@link EventDispatcher} per baked {@link EventType} which
+ * invokes all of its listeners in order, without iterating over a list.
+ *
+ * <p>Every listener gets its own call site in the generated method, which
+ * keeps the type profiles monomorphic and allows the listener chain to be
+ * inlined.</p>
+ *
+ * <p>The cause frame and phase context of each listener invocation are kept
+ * in local variables, so dispatching allocates nothing beyond what the
+ * cause stack and phase tracker do.</p>
+ *
+ * <p>Each unrolled listener costs 48 bytes of bytecode, so larger chains are
+ * split into helper methods of {@link #LISTENERS_PER_METHOD} listeners each.
+ * This keeps every generated method below HotSpot's {@code HugeMethodLimit}
+ * of 8000 bytes, above which a method is never compiled.</p>
+ */
+public final class EventDispatcherFactory {
+
+    /**
+     * Upper bound of listeners to generate a dispatcher for, larger chains
+     * fall back to iterating over the listeners.
+     */
+    static final int MAX_GENERATED_LISTENERS = 512;
+
+    /**
+     * Number of listeners unrolled into a single generated method, about
+     * 3 kB of bytecode.
+     */
+    static final int LISTENERS_PER_METHOD = 64;
+
+    /**
+     * The maximum bytecode size of a method that HotSpot will compile.
+     */
+    static final int HUGE_METHOD_LIMIT = 8000;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String STACK_FRAME = Type.getInternalName(CauseStackManager.StackFrame.class);
+    private static final String PHASE_CONTEXT = Type.getInternalName(PhaseContext.class);
+    private static final String REGISTERED_LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT = Type.getInternalName(Event.class);
+
+    private static final String REGISTERED_LISTENER_DESCRIPTOR = 'L' + EventDispatcherFactory.REGISTERED_LISTENER + ';';
+    private static final String EVENT_LISTENER_DESCRIPTOR = 'L' + EventDispatcherFactory.EVENT_LISTENER + ';';
+    private static final String EVENT_DESCRIPTOR = 'L' + EventDispatcherFactory.EVENT + ';';
+    private static final String STACK_FRAME_DESCRIPTOR = 'L' + EventDispatcherFactory.STACK_FRAME + ';';
+    private static final String PHASE_CONTEXT_DESCRIPTOR = 'L' + EventDispatcherFactory.PHASE_CONTEXT + ';';
+    private static final String ENTER_DESCRIPTOR = "()" + EventDispatcherFactory.STACK_FRAME_DESCRIPTOR;
+    private static final String PREPARE_DESCRIPTOR = '(' + EventDispatcherFactory.STACK_FRAME_DESCRIPTOR
+        + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR + EventDispatcherFactory.EVENT_DESCRIPTOR + ')'
+        + EventDispatcherFactory.PHASE_CONTEXT_DESCRIPTOR;
+    private static final String EXIT_DESCRIPTOR = '(' + EventDispatcherFactory.STACK_FRAME_DESCRIPTOR
+        + EventDispatcherFactory.PHASE_CONTEXT_DESCRIPTOR + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR
+        + EventDispatcherFactory.EVENT_DESCRIPTOR + "Ljava/lang/Throwable;)V";
+    private static final String DISPATCH_DESCRIPTOR = '(' + EventDispatcherFactory.EVENT_DESCRIPTOR + ")V";
+
+    private EventDispatcherFactory() {
+    }
+
+    public static EventDispatcher create(final EventType<?> eventType, final List<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return EventDispatcher.EMPTY;
+        }
+        if (listeners.size() > EventDispatcherFactory.MAX_GENERATED_LISTENERS) {
+            return new EventDispatcher.Iterating(listeners);
+        }
+        try {
+            final MethodHandles.Lookup lookup = EventDispatcherFactory.LOOKUP.defineHiddenClass(
+                EventDispatcherFactory.generateClass(eventType, listeners.size()), true);
+            return (EventDispatcher) lookup.findConstructor(lookup.lookupClass(),
+                MethodType.methodType(void.class, RegisteredListener[].class))
+                .invoke(listeners.toArray(new RegisteredListener<?>[0]));
+        } catch (final Throwable e) {
+            SpongeCommon.logger().warn("Failed to generate event dispatcher for {}, falling back to iteration", eventType, e);
+            return new EventDispatcher.Iterating(listeners);
+        }
+    }
+
+    static byte[] generateClass(final EventType<?> eventType, final int size) {
+        final String name = EventDispatcherFactory.BASE_DISPATCHER + '_' + eventType.getType().getSimpleName();
+
+        final ClassWriter cw = new LoaderClassWriter(EventDispatcher.class.getClassLoader(), ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V11, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, EventDispatcherFactory.BASE_DISPATCHER, null);
+
+        for (int i = 0; i < size; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR, null, null)
+                .visitEnd();
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR, null, null)
+                .visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([" + EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, EventDispatcherFactory.BASE_DISPATCHER, "<init>", "()V", false);
+            for (int i = 0; i < size; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitMethodInsn(INVOKEVIRTUAL, EventDispatcherFactory.REGISTERED_LISTENER, "getListener",
+                    "()" + EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR, false);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        if (size <= EventDispatcherFactory.LISTENERS_PER_METHOD) {
+            EventDispatcherFactory.generateDispatch(cw, name, ACC_PROTECTED, "dispatch", 0, size);
+        } else {
+            mv = cw.visitMethod(ACC_PROTECTED, "dispatch", EventDispatcherFactory.DISPATCH_DESCRIPTOR, null, null);
+            mv.visitCode();
+            for (int from = 0, chunk = 0; from < size; from += EventDispatcherFactory.LISTENERS_PER_METHOD, chunk++) {
+                final String chunkName = "dispatch" + chunk;
+                EventDispatcherFactory.generateDispatch(cw, name, ACC_PRIVATE, chunkName, from,
+                    Math.min(from + EventDispatcherFactory.LISTENERS_PER_METHOD, size));
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKESPECIAL, name, chunkName, EventDispatcherFactory.DISPATCH_DESCRIPTOR, false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void generateDispatch(final ClassWriter cw, final String name, final int access, final String methodName,
+        final int from, final int to) {
+        // Local variables: 0 = this, 1 = event, 2 = frame, 3 = context, 4 = thrown
+        final MethodVisitor mv = cw.visitMethod(access, methodName, EventDispatcherFactory.DISPATCH_DESCRIPTOR, null, null);
+        mv.visitCode();
+        for (int i = from; i < to; i++) {
+            final Label start = new Label();
+            final Label end = new Label();
+            final Label handler = new Label();
+            final Label exit = new Label();
+            mv.visitTryCatchBlock(start, end, handler, "java/lang/Throwable");
+
+            mv.visitInsn(ACONST_NULL);
+            mv.visitVarInsn(ASTORE, 2);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitVarInsn(ASTORE, 3);
+
+            mv.visitLabel(start);
+            mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.BASE_DISPATCHER, "enter", EventDispatcherFactory.ENTER_DESCRIPTOR, false);
+            mv.visitVarInsn(ASTORE, 2);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.BASE_DISPATCHER, "prepare", EventDispatcherFactory.PREPARE_DESCRIPTOR, false);
+            mv.visitVarInsn(ASTORE, 3);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, "listener" + i, EventDispatcherFactory.EVENT_LISTENER_DESCRIPTOR);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEINTERFACE, EventDispatcherFactory.EVENT_LISTENER, "handle", EventDispatcherFactory.DISPATCH_DESCRIPTOR, true);
+            mv.visitLabel(end);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitVarInsn(ASTORE, 4);
+            mv.visitJumpInsn(GOTO, exit);
+
+            mv.visitLabel(handler);
+            mv.visitVarInsn(ASTORE, 4);
+
+            mv.visitLabel(exit);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, "registered" + i, EventDispatcherFactory.REGISTERED_LISTENER_DESCRIPTOR);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 4);
+            mv.visitMethodInsn(INVOKESTATIC, EventDispatcherFactory.BASE_DISPATCHER, "exit", EventDispatcherFactory.EXIT_DESCRIPTOR, false);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+}
@@ -73,6 +73,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -98,9 +102,11 @@ public static final class Cache {
         private final List<RegisteredListener<?>> beforeModifications = new ArrayList<>();
         private final List<RegisteredListener<?>> afterModifications = new ArrayList<>();
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final EventDispatcher dispatcher;
 
-        Cache(final List<RegisteredListener<?>> listeners) {
+        Cache(final EventType<?> eventType, final List<RegisteredListener<?>> listeners) {
             this.listeners = listeners;
+            this.dispatcher = EventDispatcherFactory.create(eventType, listeners);
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (final RegisteredListener<?> handler : listeners) {
@@ -118,6 +124,10 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        public EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(final Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(Objects.requireNonNull(order, "order"));
             if (list == null) {
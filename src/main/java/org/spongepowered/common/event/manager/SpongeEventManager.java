@@ -70,6 +70,7 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -84,12 +85,15 @@ public abstract class SpongeEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent;
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the event types which are assignable to the event type of an
+     * added or removed handler are invalidated. Every baked entry carries
+     * its own generated {@link EventDispatcher}, which is therefore
+     * regenerated on the next post of that event type.</p>
      */
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
     private final Set<Object> registeredListeners;
+    private final LongAdder rebakeCount = new LongAdder();
 
     public SpongeEventManager() {
         this.lock = new Object();
@@ -160,6 +164,7 @@ private static <T extends Event> RegisteredListener<T> createRegistration(final
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+        this.rebakeCount.increment();
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
                 .map(GenericTypeReflector::erase)
@@ -186,32 +191,30 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(eventType, handlers);
     }
 
     private void register(final List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             for (final RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
+                    changed.add(raw);
                     this.checker.registerListenerFor(raw);
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     private void register(final RegisteredListener<? extends Event> handler) {
         boolean changed = false;
+        final Class<?> raw = handler.getEventType().getType();
 
         synchronized (this.lock) {
-            final Class<?> raw = handler.getEventType().getType();
             if (this.handlersByEvent.put(raw, handler)) {
                 changed = true;
                 this.checker.registerListenerFor(raw);
@@ -219,8 +222,39 @@ private void register(final RegisteredListener<? extends Event> handler) {
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers(Collections.singleton(raw));
+        }
+    }
+
+    /**
+     * Evicts the baked handlers of every cached {@link EventType} which
+     * would be handled by a listener of one of the given event types.
+     *
+     * @param changedTypes The raw event types of added or removed listeners
+     */
+    private void invalidateHandlers(final Set<Class<?>> changedTypes) {
+        if (changedTypes.isEmpty()) {
+            return;
         }
+        this.handlersCache.asMap().keySet().removeIf(eventType -> {
+            final Class<?> type = eventType.getType();
+            for (final Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Gets the amount of times the handlers of an {@link EventType} were
+     * baked, which happens on first post and after every invalidation.
+     *
+     * @return The rebake count
+     */
+    public long rebakeCount() {
+        return this.rebakeCount.sum();
     }
 
     protected abstract MethodHandles.@Nullable Lookup getLookup(final PluginContainer plugin, final Class<?> handle);
@@ -347,7 +381,7 @@ public SpongeEventManager registerListeners(final PluginContainer plugin, final
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
+        final Set<Class<?>> changed = new ReferenceOpenHashSet<>();
 
         synchronized (this.lock) {
             final Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
@@ -355,16 +389,14 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                 final RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventType().getType());
                     this.checker.unregisterListenerFor(handler.getEventType().getType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
         }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
-        }
+        this.invalidateHandlers(changed);
     }
 
     @Override
@@ -434,7 +466,7 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.getHandlerCache(event).getDispatcher().post(event);
         }
     }
 
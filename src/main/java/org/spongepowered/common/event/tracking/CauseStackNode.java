@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable entry of the cause stack. Pushing creates a new node on top
+ * of the current one, popping just returns to the parent node, so nodes are
+ * shared by every stack state they are part of.
+ *
+ * <p>Each node memoizes the {@link Cause} built from itself for the last
+ * {@link EventContext} it was requested with, which lets the stack return
+ * the same snapshot again after popping back to this depth.</p>
+ */
+final class CauseStackNode implements Iterable<Object> {
+
+    final Object value;
+    final @Nullable CauseStackNode parent;
+    final int size;
+
+    private @Nullable EventContext snapshotContext;
+    private @Nullable Cause snapshot;
+
+    CauseStackNode(final Object value, final @Nullable CauseStackNode parent) {
+        this.value = value;
+        this.parent = parent;
+        this.size = parent == null ? 1 : parent.size + 1;
+    }
+
+    static int size(final @Nullable CauseStackNode node) {
+        return node == null ? 0 : node.size;
+    }
+
+    Cause snapshot(final EventContext context) {
+        if (this.snapshot == null || this.snapshotContext != context) {
+            this.snapshot = Cause.of(context, this);
+            this.snapshotContext = context;
+        }
+        return this.snapshot;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<>() {
+            private @Nullable CauseStackNode next = CauseStackNode.this;
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Object next() {
+                final @Nullable CauseStackNode node = this.next;
+                if (node == null) {
+                    throw new NoSuchElementException();
+                }
+                this.next = node.parent;
+                return node.value;
+            }
+        };
+    }
+
+}
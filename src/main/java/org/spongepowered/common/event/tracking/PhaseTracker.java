@@ -202,7 +202,7 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
         INITIAL_POOL_SIZE = Math.max(0, Math.min(PhaseTracker.MAX_POOL_SIZE, initialPoolSize));
     }
 
-    private final Deque<Object> cause = Queues.newArrayDeque();
+    private @Nullable CauseStackNode cause;
     // Frames in use
     private final Deque<SpongeCauseStackFrame> frames = Queues.newArrayDeque();
     // Frames not currently in use
@@ -212,6 +212,9 @@ public static Block validateBlockForNeighborNotification(final ServerLevel world
     private int[] duplicateCauses = new int[100];
     private @Nullable Cause cached_cause;
     private @Nullable EventContext cached_ctx;
+    // Snapshot of an empty cause stack, only holding the game
+    private @Nullable EventContext empty_cause_ctx;
+    private @Nullable Cause empty_cause;
     private final AtomicBoolean pendingProviders = new AtomicBoolean(false);
     private @Nullable WeakReference<Thread> sidedThread;
     private boolean hasRun = false;
@@ -488,10 +491,16 @@ public String toString() {
     public Cause currentCause() {
         this.enforceMainThread();
         if (this.cached_cause == null || this.cached_ctx == null) {
-            if (this.cause.isEmpty()) {
-                this.cached_cause = Cause.of(this.currentContext(), SpongeCommon.game());
+            final EventContext context = this.currentContext();
+            if (this.cause == null) {
+                if (this.empty_cause == null || this.empty_cause_ctx != context) {
+                    this.empty_cause = Cause.of(context, SpongeCommon.game());
+                    this.empty_cause_ctx = context;
+                }
+                this.cached_cause = this.empty_cause;
             } else {
-                this.cached_cause = Cause.of(this.currentContext(), this.cause);
+                // Reuses the snapshot of this depth if the context didn't change since
+                this.cached_cause = this.cause.snapshot(context);
             }
         }
         return this.cached_cause;
@@ -502,6 +511,12 @@ public EventContext currentContext() {
         this.enforceMainThread();
         if (this.cached_ctx == null) {
             this.cached_ctx = EventContext.of(this.ctx);
+            final @Nullable SpongeCauseStackFrame frame = this.frames.peek();
+            if (frame != null && frame.contextSnapshot == null && frame.getOriginalContextDelta().isEmpty()) {
+                // Nothing changed since the frame was pushed, so the context
+                // is identical to the one it will restore when popped.
+                frame.contextSnapshot = this.cached_ctx;
+            }
         }
         return this.cached_ctx;
     }
@@ -511,14 +526,14 @@ public CauseStackManager pushCause(final Object obj) {
         Objects.requireNonNull(obj, "obj");
         this.enforceMainThread();
         this.cached_cause = null;
-        if (this.cause.peek() == obj) {
+        if (this.cause != null && this.cause.value == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
             // This avoids some odd corner cases of the phase tracking system pushing
             // objects without being able to definitively say if the object is already pushed
             // without generating cause frames forcibly.
             // BUT, we do want to at least mark the index of the duplicated object for later popping (if some consumer is doing manual push and pops)
-            final int dupedIndex = this.cause.size();
+            final int dupedIndex = this.cause.size;
             if (this.duplicateCauses.length <= dupedIndex) {
                 // Make sure that we have enough space. If not, increase by 50%
                 this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (dupedIndex * 1.5));
@@ -528,28 +543,30 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
-        this.cause.push(obj);
+        this.cause = new CauseStackNode(obj, this.cause);
         return this;
     }
 
     @Override
     public Object popCause() {
         this.enforceMainThread();
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
         final int dupeCause = this.duplicateCauses[size];
         if (dupeCause > 0) {
             // Make sure to just decrement the duplicate causes.
             this.duplicateCauses[size] = dupeCause - 1;
-            return Objects.requireNonNull(this.cause.peek());
+            return Objects.requireNonNull(this.cause).value;
         }
         if (size <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                                                 + size + " but mid depth is " + this.min_depth + ")");
         }
         this.cached_cause = null;
-        return this.cause.pop();
+        final CauseStackNode popped = Objects.requireNonNull(this.cause);
+        this.cause = popped.parent;
+        return popped.value;
     }
 
     @Override
@@ -563,14 +580,14 @@ public void popCauses(final int n) {
     @Override
     public Object peekCause() {
         this.enforceMainThread();
-        return this.cause.peek();
+        return this.cause == null ? null : this.cause.value;
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         this.enforceMainThread();
         // Ensure duplicate causes will be correctly sized.
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         if (this.duplicateCauses.length <= size) {
             this.duplicateCauses = Arrays.copyOf(this.duplicateCauses, (int) (size * 1.5));
         }
@@ -587,6 +604,7 @@ public StackFrame pushCauseFrame() {
             frame.old_min_depth = this.min_depth;
             frame.lastCauseSize = this.duplicateCauses[size];
         }
+        frame.contextSnapshot = this.cached_ctx;
 
         this.frames.push(frame);
         this.min_depth = size;
@@ -662,19 +680,23 @@ public void popCauseFrame(final StackFrame oldFrame) {
         this.frames.pop();
 
         // Remove new values
-        for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
-            this.cached_ctx = null;
-            this.cached_cause = null;
-            if (entry.getValue() == null) { // wasn't present before, remove
-                this.ctx.remove(entry.getKey());
-            } else { // was there, replace
-                this.ctx.put(entry.getKey(), entry.getValue());
+        if (!frame.getOriginalContextDelta().isEmpty()) {
+            for (final Map.Entry<EventContextKey<?>, Object> entry : frame.getOriginalContextDelta().entrySet()) {
+                if (entry.getValue() == null) { // wasn't present before, remove
+                    this.ctx.remove(entry.getKey());
+                } else { // was there, replace
+                    this.ctx.put(entry.getKey(), entry.getValue());
+                }
             }
+            // The context is now back to the state it had when the frame was
+            // pushed, so the snapshot taken back then (if any) is valid again.
+            this.cached_ctx = frame.contextSnapshot;
+            this.cached_cause = null;
         }
 
         // If there were any objects left on the stack then we pop them off
-        while (this.cause.size() > this.min_depth) {
-            final int index = this.cause.size();
+        while (CauseStackNode.size(this.cause) > this.min_depth) {
+            final int index = this.cause.size;
 
             // Then, only pop the potential duplicate causes (if any) if and only if
             // there was a duplicate cause pushed prior to the frame being popped.
@@ -684,13 +706,13 @@ public void popCauseFrame(final StackFrame oldFrame) {
                 // And of course, reset the number of duplicates in the entry.
                 this.duplicateCauses[index] = 0;
             }
-            this.cause.pop();
+            this.cause = this.cause.parent;
 
             // and clear the cached causes
             this.cached_cause = null;
         }
         this.min_depth = frame.old_min_depth;
-        final int size = this.cause.size();
+        final int size = CauseStackNode.size(this.cause);
         if (this.duplicateCauses.length > size) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
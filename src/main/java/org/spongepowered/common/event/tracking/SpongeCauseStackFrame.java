@@ -43,6 +43,8 @@ public final class SpongeCauseStackFrame implements CauseStackManager.StackFrame
     private final Map<EventContextKey<?>, Object> storedContext;
     int old_min_depth;
     int lastCauseSize;
+    // Context snapshot valid for the state restored when this frame is popped
+    @Nullable EventContext contextSnapshot;
 
     @Nullable Exception stackDebug = null;
 
@@ -58,6 +60,7 @@ public void clear() {
         this.storedContext.clear();
         this.lastCauseSize = -1;
         this.old_min_depth = -1;
+        this.contextSnapshot = null;
         this.stackDebug = null;
     }
 
@@ -26,7 +26,6 @@
 
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.RandomSource;
@@ -54,6 +53,7 @@
 import org.spongepowered.common.accessor.world.level.chunk.LevelChunk$BoundTickingBlockEntityAccessor;
 import org.spongepowered.common.accessor.world.level.chunk.LevelChunk$RebindableTickingBlockEntityWrapperAccessor;
 import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+import org.spongepowered.common.block.BlockEntityCapture;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
@@ -61,6 +61,7 @@
 import org.spongepowered.common.bridge.world.inventory.ViewableInventoryBridge;
 import org.spongepowered.common.bridge.world.level.TrackableBlockEventDataBridge;
 import org.spongepowered.common.bridge.world.level.block.entity.BlockEntityBridge;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackedBlockEntityBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.bridge.world.level.chunk.TrackedLevelChunkBridge;
@@ -448,8 +449,7 @@ public static void addTileEntityToBuilder(final net.minecraft.world.level.block.
         final SpongeBlockSnapshot.BuilderImpl builder) {
         // TODO - gather custom data.
         try {
-            final CompoundTag compound = existing.saveWithFullMetadata(existing.getLevel().registryAccess());
-            builder.addUnsafeCompound(compound);
+            builder.tileEntity(existing);
         }
         catch (final Throwable t) {
             // ignore
@@ -480,6 +480,26 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         final Supplier<ServerLevel> worldSupplier,
         final Supplier<Optional<UUID>> creatorSupplier,
         final Supplier<Optional<UUID>> notifierSupplier
+    ) {
+        return TrackingUtil.createPooledSnapshot(state, pos, updateFlag, limit, blockEntity, worldSupplier, creatorSupplier, notifierSupplier,
+            false);
+    }
+
+    /**
+     * Creates a pooled snapshot of the given position.
+     *
+     * <p>Block entities which stay in the world can be changed at any time
+     * after the snapshot is taken, so they are saved right away. Only pass
+     * {@code deferBlockEntity} when the block entity is being removed, in
+     * which case saving it is deferred until the snapshot data is read, or
+     * the tracker is about to let {@code onRemove} touch it.</p>
+     */
+    public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
+        final BlockChangeFlag updateFlag, final int limit, final net.minecraft.world.level.block.entity.@Nullable BlockEntity blockEntity,
+        final Supplier<ServerLevel> worldSupplier,
+        final Supplier<Optional<UUID>> creatorSupplier,
+        final Supplier<Optional<UUID>> notifierSupplier,
+        final boolean deferBlockEntity
     ) {
         final SpongeBlockSnapshot.BuilderImpl builder = SpongeBlockSnapshot.BuilderImpl.pooled();
         builder.reset();
@@ -489,7 +509,16 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
-            TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            if (deferBlockEntity) {
+                builder.deferredTileEntity(blockEntity);
+            } else if (((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture() != null) {
+                // Another snapshot is still deferring on this block entity, take that capture
+                // now and share it rather than saving the block entity twice
+                builder.deferredTileEntity(blockEntity);
+                BlockEntityCapture.materialize(blockEntity);
+            } else {
+                TrackingUtil.addTileEntityToBuilder(blockEntity, builder);
+            }
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -30,10 +30,13 @@
 import java.util.Deque;
 
 public class EffectTransactor implements AutoCloseable {
-    final @Nullable ResultingTransactionBySideEffect previousEffect;
-    public final @Nullable GameTransaction<@NonNull ?> parent;
+    // Fields are cleared when the transactor is detached by the TransactionArena
+    @Nullable ResultingTransactionBySideEffect previousEffect;
+    public @Nullable GameTransaction<@NonNull ?> parent;
     private final TransactionalCaptureSupplier supplier;
-    private final ResultingTransactionBySideEffect effect;
+    private ResultingTransactionBySideEffect effect;
+    private boolean closed;
+    private boolean poisoned;
 
     EffectTransactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
         final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier transactor) {
@@ -48,8 +51,24 @@ public class EffectTransactor implements AutoCloseable {
         this.previousEffect = previousEffect;
     }
 
+    @SuppressWarnings("ConstantConditions")
+    void detach(final boolean poison) {
+        this.closed = true;
+        this.poisoned = poison;
+        this.parent = null;
+        this.previousEffect = null;
+        this.effect = null;
+    }
+
     @Override
     public void close() {
+        if (this.poisoned) {
+            throw new IllegalStateException("EffectTransactor closed after its TransactionalCaptureSupplier was cleared");
+        }
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
         if (this.effect.head == null
             && this.parent != null
             && this.parent.sideEffects != null
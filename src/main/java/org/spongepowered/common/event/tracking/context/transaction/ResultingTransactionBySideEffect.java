@@ -34,18 +34,38 @@
 import java.util.Optional;
 
 public class ResultingTransactionBySideEffect {
-    public final ProcessingSideEffect effect;
+    // Reassigned when the node is recycled by the TransactionArena
+    public ProcessingSideEffect effect;
     @Nullable GameTransaction<@NonNull ?> head;
     @Nullable GameTransaction<@NonNull ?> tail;
+    private boolean poisoned;
 
     public ResultingTransactionBySideEffect(final ProcessingSideEffect effect) {
         this.effect = effect;
     }
 
+    void reset(final ProcessingSideEffect effect) {
+        this.effect = effect;
+        this.poisoned = false;
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    void recycle(final boolean poison) {
+        this.head = null;
+        this.tail = null;
+        this.poisoned = poison;
+        if (poison) {
+            this.effect = null;
+        }
+    }
+
     public void addChild(
         final PhaseContext<@NonNull ?> context,
         final GameTransaction<@NonNull ?> child
     ) {
+        if (this.poisoned) {
+            throw new IllegalStateException("ResultingTransactionBySideEffect used after its TransactionalCaptureSupplier was cleared");
+        }
         // Basically attempt to climb up the chain to see if any of the existing
         // transactions will accept the child. This can get expensive at times
         // if the transaction tree reaches hundreds x hundreds of transactions.
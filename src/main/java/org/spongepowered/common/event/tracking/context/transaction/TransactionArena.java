@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recycles the effect nodes handed out by a {@link TransactionalCaptureSupplier}.
+ *
+ * <p>Every block change pushes a handful of {@link ResultingTransactionBySideEffect}s,
+ * all of which are only reachable through the capture supplier of the owning phase
+ * context until it is cleared. Instead of leaving them to the garbage collector,
+ * they are reclaimed when the supplier is cleared and handed out again to the next
+ * transactions of the same context.</p>
+ *
+ * <p>{@link EffectTransactor}s are not reused since some of them are kept in fields
+ * beyond the lifetime of their phase context (the drops transactors of entities and
+ * blocks, the inventory transactor of players), and a late {@link EffectTransactor#close()}
+ * of a recycled one would pop the effect of an unrelated transaction. They are
+ * detached instead so that such a close can not touch a recycled node either.</p>
+ *
+ * <p>Since the arena lives as long as its phase context, which is pooled, the
+ * free list and the bookkeeping lists are capped so that a single large batch
+ * of changes does not stay reachable for the lifetime of the server.</p>
+ *
+ * <p>Setting {@code -Dsponge.debugTransactionArena=true} poisons reclaimed nodes
+ * and never hands them out again, so that any use of a node after its supplier
+ * was cleared fails fast instead of silently aliasing a recycled node.</p>
+ */
+final class TransactionArena {
+
+    static final boolean POISON_RECYCLED = Boolean.getBoolean("sponge.debugTransactionArena");
+    static final int MAX_POOLED_NODES = Integer.getInteger("sponge.transactionArena.maxPooledNodes", 256);
+
+    private final boolean poison;
+    private final int maxPooledNodes;
+    private final ArrayDeque<ResultingTransactionBySideEffect> freeEffects = new ArrayDeque<>();
+    private List<ResultingTransactionBySideEffect> usedEffects = new ArrayList<>();
+    private List<EffectTransactor> usedTransactors = new ArrayList<>();
+
+    TransactionArena() {
+        this(TransactionArena.POISON_RECYCLED, TransactionArena.MAX_POOLED_NODES);
+    }
+
+    TransactionArena(final boolean poison, final int maxPooledNodes) {
+        this.poison = poison;
+        this.maxPooledNodes = maxPooledNodes;
+    }
+
+    ResultingTransactionBySideEffect effect(final ProcessingSideEffect effect) {
+        final @Nullable ResultingTransactionBySideEffect recycled = this.freeEffects.poll();
+        final ResultingTransactionBySideEffect node;
+        if (recycled == null) {
+            node = new ResultingTransactionBySideEffect(effect);
+        } else {
+            node = recycled;
+            node.reset(effect);
+        }
+        this.usedEffects.add(node);
+        return node;
+    }
+
+    EffectTransactor transactor(final ResultingTransactionBySideEffect effect, final @Nullable GameTransaction<@NonNull ?> parent,
+        final @Nullable ResultingTransactionBySideEffect previousEffect, final TransactionalCaptureSupplier supplier
+    ) {
+        final EffectTransactor transactor = new EffectTransactor(effect, parent, previousEffect, supplier);
+        this.usedTransactors.add(transactor);
+        return transactor;
+    }
+
+    /**
+     * Reclaims every node handed out since the last call. Must only be called
+     * once the owning supplier dropped all references to its transactions.
+     */
+    void reclaim() {
+        for (final ResultingTransactionBySideEffect effect : this.usedEffects) {
+            effect.recycle(this.poison);
+            // Poisoned nodes must never be handed out again, reset() would clear the poison
+            if (!this.poison && this.freeEffects.size() < this.maxPooledNodes) {
+                this.freeEffects.push(effect);
+            }
+        }
+        for (final EffectTransactor transactor : this.usedTransactors) {
+            transactor.detach(this.poison);
+        }
+        // Drop the backing arrays of an unusually large batch instead of retaining them
+        if (this.usedEffects.size() > this.maxPooledNodes) {
+            this.usedEffects = new ArrayList<>();
+        } else {
+            this.usedEffects.clear();
+        }
+        if (this.usedTransactors.size() > this.maxPooledNodes) {
+            this.usedTransactors = new ArrayList<>();
+        } else {
+            this.usedTransactors.clear();
+        }
+    }
+
+    int pooledNodes() {
+        return this.freeEffects.size();
+    }
+
+}
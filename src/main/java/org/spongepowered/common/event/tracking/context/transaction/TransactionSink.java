@@ -72,6 +72,7 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.EntityPerformingDropsEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.InventoryEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.inventory.ClickCreativeMenuTransaction;
 import org.spongepowered.common.event.tracking.context.transaction.inventory.ClickMenuTransaction;
 import org.spongepowered.common.event.tracking.context.transaction.inventory.CloseMenuTransaction;
@@ -123,6 +124,8 @@ interface TransactionSink {
 
     EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect);
 
+    EffectTransactor pushEffect(final ProcessingSideEffect effect);
+
     default ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
         final BlockChangeFlag flags
     ) {
@@ -169,12 +172,14 @@ default EffectTransactor logBlockDrops(
             Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             tileEntity,
             worldSupplier,
-            Optional::empty, Optional::empty
+            Optional::empty, Optional::empty,
+            // the block is being destroyed, so the block entity won't be around to be changed afterwards
+            true
         );
         original.blockChange = BlockChange.MODIFY;
         final PrepareBlockDropsTransaction transaction = new PrepareBlockDropsTransaction(pos, state, original);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(PrepareBlockDrops.getInstance()));
+        return this.pushEffect(PrepareBlockDrops.getInstance());
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -258,7 +263,7 @@ default boolean logTileRemoval(final @Nullable BlockEntity tileentity, final Sup
         final EntityPerformingDropsTransaction transaction = new EntityPerformingDropsTransaction(entity);
         this.logTransaction(transaction);
         if (transaction.recorded()) {
-            return this.pushEffect(new ResultingTransactionBySideEffect(EntityPerformingDropsEffect.getInstance()));
+            return this.pushEffect(EntityPerformingDropsEffect.getInstance());
         }
         return null;
     }
@@ -334,44 +339,44 @@ default EffectTransactor logClickContainer(
         final ClickMenuTransaction transaction = new ClickMenuTransaction(
             player, menu, slotNum, buttonNum, clickType, slot, ItemStackUtil.snapshotOf(player.containerMenu.getCarried()));
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logPlayerInventoryChangeWithEffect(final Player player, final PlayerInventoryTransaction.EventCreator eventCreator) {
         final PlayerInventoryTransaction transaction = new PlayerInventoryTransaction(player, eventCreator);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logCreativeClickContainer(final int slotNum, final ItemStackSnapshot creativeStack, final Player player) {
         final ClickCreativeMenuTransaction transaction = new ClickCreativeMenuTransaction(player, slotNum, creativeStack);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
 
     default EffectTransactor logDropFromPlayerInventory(final ServerPlayer player, final boolean dropAll) {
         final DropFromPlayerInventoryTransaction transaction = new DropFromPlayerInventoryTransaction(player, dropAll);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logOpenInventory(final Player player) {
         final OpenMenuTransaction transaction = new OpenMenuTransaction(player);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logCloseInventory(final Player player, final boolean clientSource) {
         final CloseMenuTransaction transaction = new CloseMenuTransaction(player, clientSource);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logPlaceRecipe(final boolean shift, final RecipeHolder<Recipe<?>> recipe, final ServerPlayer player, final CraftingInventory craftInv) {
         final PlaceRecipeTransaction transaction = new PlaceRecipeTransaction(player, shift, recipe, craftInv);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default void logSelectTrade(final ServerPlayer player, final int item) {
@@ -403,12 +408,12 @@ default void logCrafting(final Player player, @Nullable final ItemStack craftedS
     default EffectTransactor logIgnoredInventory(AbstractContainerMenu containerMenu) {
         final ExplicitInventoryOmittedTransaction transaction = new ExplicitInventoryOmittedTransaction(containerMenu);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 
     default EffectTransactor logInventoryTransaction(final AbstractContainerMenu containerMenu) {
         final InventoryTransaction transaction = new InventoryTransaction((Inventory) containerMenu);
         this.logTransaction(transaction);
-        return this.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        return this.pushEffect(InventoryEffect.getInstance());
     }
 }
@@ -38,6 +38,7 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 
 import java.util.Collections;
@@ -63,6 +64,7 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier, Tra
     private @Nullable GameTransaction<@NonNull ?> head;
     private @Nullable ResultingTransactionBySideEffect effect;
     private final PhaseContext<@NonNull ?> context;
+    private final TransactionArena arena = new TransactionArena();
 
     public TransactionalCaptureSupplier(final PhaseContext<@NonNull ?> context) {
         this.context = context;
@@ -98,12 +100,17 @@ public EffectTransactor pushEffect(final ResultingTransactionBySideEffect effect
         final GameTransaction<@NonNull ?> parentTransaction = Optional.ofNullable(this.effect)
             .map(child -> (GameTransaction) child.tail)
             .orElse(Objects.requireNonNull(this.tail, "Somehow pushing a new effect without an owning Transaction"));
-        final EffectTransactor effectTransactor = new EffectTransactor(effect, parentTransaction, this.effect, this);
+        final EffectTransactor effectTransactor = this.arena.transactor(effect, parentTransaction, this.effect, this);
         this.effect = effect;
         parentTransaction.addLast(effect);
         return effectTransactor;
     }
 
+    @Override
+    public EffectTransactor pushEffect(final ProcessingSideEffect effect) {
+        return this.pushEffect(this.arena.effect(effect));
+    }
+
     void popEffect(final EffectTransactor transactor) {
         this.effect = transactor.previousEffect;
     }
@@ -161,6 +168,7 @@ public void clear() {
         this.head = null;
         this.tail = null;
         this.effect = null;
+        this.arena.reclaim();
     }
 
     @SuppressWarnings("unchecked")
@@ -355,6 +363,7 @@ public void reset() {
         if (this.effect != null) {
             this.effect = null;
         }
+        this.arena.reclaim();
     }
 
     @Override
@@ -102,6 +102,8 @@ public final Optional<ChangeBlockEvent.All> generateEvent(
                 }
                 final SpongeBlockSnapshot original = snapshots.get(0);
                 final SpongeBlockSnapshot result = snapshots.get(snapshots.size() - 1);
+                // Listeners may hold on to these, don't let them keep the block entity around
+                snapshots.forEach(SpongeBlockSnapshot::materialize);
                 final ImmutableList<BlockSnapshot> intermediary;
                 if (snapshots.size() > 2) {
                     intermediary = ImmutableList.copyOf(snapshots.subList(1, snapshots.size() - 2));
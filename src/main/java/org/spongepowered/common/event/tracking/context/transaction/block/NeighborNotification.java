@@ -132,7 +132,9 @@ public String toString() {
     ) {
         return Optional.of((context, frame) -> {
             if (parent instanceof ChangeBlock) {
-                frame.pushCause(((ChangeBlock) parent).original);
+                final SpongeBlockSnapshot original = ((ChangeBlock) parent).original;
+                original.materialize();
+                frame.pushCause(original);
             }
             frame.pushCause(this.ticketSupplier.get());
         });
@@ -66,7 +66,10 @@ protected SpongeBlockSnapshot getOriginalSnapshot() {
     public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
         @Nullable final GameTransaction<@NonNull ?> parent
     ) {
-        return Optional.of((context, frame) -> frame.pushCause(this.originalState));
+        return Optional.of((context, frame) -> {
+            this.originalState.materialize();
+            frame.pushCause(this.originalState);
+        });
     }
 
     @Override
@@ -73,7 +73,8 @@ protected void captureState() {
             Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             this.removed,
             this.levelSupplier,
-            Optional::empty, Optional::empty
+            Optional::empty, Optional::empty,
+            true
         );
         snapshot.blockChange = BlockChange.MODIFY;
         this.tileSnapshot = snapshot;
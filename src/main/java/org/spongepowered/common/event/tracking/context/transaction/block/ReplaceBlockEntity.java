@@ -75,7 +75,8 @@ protected void captureState() {
             Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT,
             this.removed,
             this.worldSupplier,
-            Optional::empty, Optional::empty
+            Optional::empty, Optional::empty,
+            true
         );
         snapshot.blockChange = BlockChange.MODIFY;
         this.removedSnapshot = snapshot;
@@ -26,7 +26,6 @@
 
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
@@ -41,7 +40,7 @@ public static BroadcastInventoryChangesEffect getInstance() {
         return Holder.INSTANCE;
     }
     public static EffectTransactor transact(final TransactionalCaptureSupplier transactor) {
-        return transactor.pushEffect(new ResultingTransactionBySideEffect(BroadcastInventoryChangesEffect.getInstance()));
+        return transactor.pushEffect(BroadcastInventoryChangesEffect.getInstance());
     }
 
     BroadcastInventoryChangesEffect() {}
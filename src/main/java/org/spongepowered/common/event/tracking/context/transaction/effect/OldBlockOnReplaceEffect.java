@@ -25,6 +25,7 @@
 package org.spongepowered.common.event.tracking.context.transaction.effect;
 
 import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.common.block.BlockEntityCapture;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
@@ -56,6 +57,12 @@ public EffectResult processSideEffect(
         // However, since we know we're not on the client (ChunkPipeline is not
         // used outside of server world context)
         // we can safely just do oldState.onRemove(this.level, var1, var2, var3).
+        // onRemove may drop the contents of the block entity, so any snapshot
+        // still deferring on it needs to be taken before that can happen. This
+        // includes snapshots only pushed as a cause, e.g. of the drops.
+        if (oldState.tileEntity != null) {
+            BlockEntityCapture.materialize(oldState.tileEntity);
+        }
         oldState.state.onRemove(pipeline.getServerWorld(), oldState.pos, newState, flag.movingBlocks());
         return EffectResult.NULL_PASS;
     }
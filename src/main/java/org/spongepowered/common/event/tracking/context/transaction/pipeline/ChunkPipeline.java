@@ -35,15 +35,14 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.block.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -54,7 +53,7 @@ public final class ChunkPipeline implements BlockPipeline {
     private final @Nullable Supplier<ServerLevel> serverWorld;
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
     private final boolean wasEmpty;
-    private final List<ResultingTransactionBySideEffect> chunkEffects;
+    private final List<ProcessingSideEffect> chunkEffects;
     final ChangeBlock transaction;
 
     public static ChunkPipeline nullReturn(final LevelChunk chunk, final ServerLevel world) {
@@ -85,7 +84,7 @@ public Supplier<LevelChunk> getChunkSupplier() {
         return this.chunkSupplier;
     }
 
-    public List<ResultingTransactionBySideEffect> getChunkEffects() {
+    public List<ProcessingSideEffect> getChunkEffects() {
         return this.chunkEffects;
     }
 
@@ -116,9 +115,9 @@ public LevelChunkSection getAffectedSection() {
         final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         PipelineCursor formerState = new PipelineCursor(currentState, oldOpacity, pos, existing, (Entity) null, limit);
 
-        for (final ResultingTransactionBySideEffect effect : this.chunkEffects) {
+        for (final ProcessingSideEffect effect : this.chunkEffects) {
             try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+                final EffectResult result = effect.processSideEffect(
                     this,
                     formerState,
                     proposedState,
@@ -153,7 +152,7 @@ public static final class Builder {
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
         boolean wasSectionEmpty;
         @MonotonicNonNull ChangeBlock transaction;
-        List<ResultingTransactionBySideEffect> effects;
+        List<ProcessingSideEffect> effects;
 
         public Builder kickOff(final ChangeBlock transaction) {
             this.transaction = Objects.requireNonNull(transaction, "ChangeBlock transaction cannot be null!");
@@ -161,9 +160,9 @@ public Builder kickOff(final ChangeBlock transaction) {
         }
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
             return this;
         }
 
@@ -32,14 +32,13 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -49,7 +48,7 @@ public final class TileEntityPipeline implements BlockPipeline {
     private final @Nullable Supplier<LevelChunk> chunkSupplier;
     private final @Nullable Supplier<ServerLevel> serverWorld;
     private final @Nullable Supplier<LevelChunkSection> sectionSupplier;
-    private final List<ResultingTransactionBySideEffect> effects;
+    private final List<ProcessingSideEffect> effects;
 
     private TileEntityPipeline(final Builder builder) {
         this.chunkSupplier = builder.chunkSupplier;
@@ -98,9 +97,9 @@ public boolean wasEmpty() {
 
     public boolean processEffects(final PhaseContext<?> context, final PipelineCursor initialCursor) {
         PipelineCursor currentCursor = initialCursor;
-        for (final ResultingTransactionBySideEffect effect : this.effects) {
+        for (final ProcessingSideEffect effect : this.effects) {
             try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+                final EffectResult result = effect.processSideEffect(
                     this,
                     currentCursor,
                     currentCursor.state,
@@ -130,13 +129,13 @@ public static final class Builder {
         @Nullable Supplier<ServerLevel> serverWorld;
         @Nullable Supplier<LevelChunk> chunkSupplier;
         @Nullable Supplier<LevelChunkSection> sectionSupplier;
-        List<ResultingTransactionBySideEffect> effects;
+        List<ProcessingSideEffect> effects;
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>();
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
             return this;
         }
 
@@ -24,35 +24,104 @@
  */
 package org.spongepowered.common.inventory.query;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.slots.SlotLens;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 /**
  * Checks immediate child for matches first.
  * If no match is found matching continues using a depth-first search.
+ *
+ * <p>Lens trees are shared between inventories of the same type by the
+ * LensRegistrar, so what can be worked out from the lenses alone is cached
+ * per root lens. Queries that only depend on the lenses cache their
+ * matches, and queries that only match slots reuse the order and offsets of
+ * every slot in the tree. Reducing the matches is not cached, as slot lenses
+ * such as the held hand resolve to a different slot for each fabric.</p>
  */
 public abstract class SpongeDepthQuery extends SpongeQuery {
 
+    // The cached lenses are part of the tree of their key, which keeps the key
+    // reachable, so the caches are bounded by size rather than by weak keys.
+    private static final Cache<Lens, Map<SpongeDepthQuery, LensMatches>> MATCHES = Caffeine.newBuilder()
+            .maximumSize(512)
+            .build();
+    private static final Cache<Lens, SlotPlan> SLOT_PLANS = Caffeine.newBuilder()
+            .maximumSize(512)
+            .build();
+
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Gets whether {@link #matches} only depends on the lenses, and not on
+     * the contents of the inventory. Queries returning true must implement
+     * equals and hashCode, their results are cached.
+     *
+     * @return Whether matches only depends on the lenses
+     */
+    protected boolean matchesLensesOnly() {
+        return false;
+    }
+
+    /**
+     * Gets whether {@link #matches} can only match {@link SlotLens}es,
+     * regardless of their parent.
+     *
+     * @return Whether only slots are matched
+     */
+    protected boolean matchesSlotsOnly() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
+        final @Nullable Lens result = this.resultLens(inventory, fabric, lens);
+        return result == null ? new EmptyInventoryImpl(inventory) : result.getAdapter(fabric, inventory);
+    }
 
-        if (this.matches(lens, null, inventory)) {
-            return lens.getAdapter(fabric, inventory);
+    @Nullable Lens resultLens(Inventory inventory, Fabric fabric, Lens lens) {
+        final Map<Lens, Integer> matches;
+        if (this.matchesLensesOnly()) {
+            final LensMatches cached = SpongeDepthQuery.MATCHES.get(lens, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(this, k -> this.search(inventory, lens));
+            if (cached.root()) {
+                return lens;
+            }
+            // Reduce changes the matches it is given
+            matches = new LinkedHashMap<>(cached.matches());
+        } else if (this.matches(lens, null, inventory)) {
+            return lens;
+        } else if (this.matchesSlotsOnly()) {
+            matches = SpongeDepthQuery.SLOT_PLANS.get(lens, SlotPlan::new).matches(this, inventory);
+        } else {
+            matches = SpongeDepthQuery.depthFirstSearch(lens, (child, parent) -> this.matches(child, parent, inventory));
         }
+        return this.toResultLens(this.reduce(fabric, lens, matches));
+    }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+    private LensMatches search(Inventory inventory, Lens lens) {
+        if (this.matches(lens, null, inventory)) {
+            return new LensMatches(true, Collections.emptyMap());
+        }
+        return new LensMatches(false,
+                Collections.unmodifiableMap(SpongeDepthQuery.depthFirstSearch(lens, (child, parent) -> this.matches(child, parent, inventory))));
     }
 
-    private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
+    private static Map<Lens, Integer> depthFirstSearch(Lens lens, BiPredicate<Lens, Lens> matcher) {
         Map<Lens, Integer> matches = new LinkedHashMap<>();
 
         for (Lens child : lens.getChildren()) {
@@ -60,9 +129,9 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
                 continue;
             }
             if (!child.getChildren().isEmpty()) {
-                matches.putAll(this.depthFirstSearch(inventory, child));
+                matches.putAll(SpongeDepthQuery.depthFirstSearch(child, matcher));
             }
-            if (this.matches(child, lens, inventory)) {
+            if (matcher.test(child, lens)) {
                 matches.put(child, 0);
             }
         }
@@ -73,4 +142,44 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
 
         return matches;
     }
+
+    /**
+     * The matches of a query that only depends on the lenses, before they
+     * are reduced.
+     */
+    private record LensMatches(boolean root, Map<Lens, Integer> matches) {
+    }
+
+    /**
+     * Every slot of a lens tree in search order, with its offset. As slot
+     * matches don't depend on where a slot is in the tree, the matches of a
+     * search are exactly the matching slots of this plan.
+     */
+    private static final class SlotPlan {
+
+        private final Lens[] slots;
+        private final int[] offsets;
+
+        SlotPlan(Lens root) {
+            final Map<Lens, Integer> all = SpongeDepthQuery.depthFirstSearch(root, (child, parent) -> child instanceof SlotLens);
+            this.slots = new Lens[all.size()];
+            this.offsets = new int[all.size()];
+            int i = 0;
+            for (Map.Entry<Lens, Integer> entry : all.entrySet()) {
+                this.slots[i] = entry.getKey();
+                this.offsets[i] = entry.getValue();
+                i++;
+            }
+        }
+
+        Map<Lens, Integer> matches(SpongeDepthQuery query, Inventory inventory) {
+            final Map<Lens, Integer> matches = new LinkedHashMap<>();
+            for (int i = 0; i < this.slots.length; i++) {
+                if (query.matches(this.slots[i], null, inventory)) {
+                    matches.put(this.slots[i], this.offsets[i]);
+                }
+            }
+            return matches;
+        }
+    }
 }
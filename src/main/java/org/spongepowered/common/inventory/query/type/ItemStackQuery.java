@@ -54,6 +54,11 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return false;
     }
 
+    @Override
+    protected boolean matchesSlotsOnly() {
+        return true;
+    }
+
     protected abstract boolean matches(ItemStack itemStack, T arg);
 
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.network.channel;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.network.Connection;
 import net.minecraft.network.PacketSendListener;
 import net.minecraft.network.protocol.Packet;
@@ -32,9 +33,12 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.EngineConnectionSide;
+import org.spongepowered.api.network.channel.ChannelBuf;
 import org.spongepowered.common.network.SpongeEngineConnection;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -59,6 +63,46 @@ public static void sendTo(final EngineConnection connection, final Packet<?> pac
         });
     }
 
+    /**
+     * Sends an already encoded payload to all the given connections. Each
+     * connection receives a retained duplicate of the payload, which is
+     * released once its packet was written, the payload itself is released
+     * after all the packets were handed off.
+     *
+     * @param connections The connections to send the payload to
+     * @param payload The encoded payload, ownership is transferred
+     * @param packetFactory Creates the packet for a connection from a payload duplicate
+     * @return The future, completed once the payload was sent to all the connections
+     */
+    public static CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final ChannelBuf payload,
+            final BiFunction<EngineConnection, ChannelBuf, Packet<?>> packetFactory) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[connections.size()];
+        int index = 0;
+        try {
+            for (final EngineConnection connection : connections) {
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                futures[index++] = future;
+                final ChannelBuf duplicate = ChannelBuffers.wrap(((ByteBuf) payload).retainedDuplicate());
+                try {
+                    PacketSender.sendTo(connection, packetFactory.apply(connection, duplicate), throwable -> {
+                        ChannelBuffers.release(duplicate);
+                        if (throwable == null) {
+                            future.complete(null);
+                        } else {
+                            future.completeExceptionally(throwable);
+                        }
+                    });
+                } catch (final Throwable ex) {
+                    ChannelBuffers.release(duplicate);
+                    future.completeExceptionally(ex);
+                }
+            }
+        } finally {
+            ChannelBuffers.release(payload);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
     public static final class SpongePacketSendListener implements PacketSendListener {
         private final BlockableEventLoop<?> executor;
         private final Consumer<@Nullable  Throwable> listener;
@@ -49,6 +49,9 @@
 import org.spongepowered.common.network.channel.TransactionStore;
 import org.spongepowered.common.util.Constants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -328,6 +331,51 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final P
         return future;
     }
 
+    /**
+     * Sends the {@link Packet} to all the given connections. The packet is
+     * encoded once and shared by all the connections in the play phase, login
+     * phase connections and {@link RequestPacket}s require a transaction id
+     * per connection and are sent individually.
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet to send
+     * @return The future, completed once the packet was sent to all the connections
+     */
+    public CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        final List<EngineConnection> broadcast = new ArrayList<>(connections.size());
+        for (final EngineConnection connection : connections) {
+            if (packet instanceof RequestPacket || ConnectionUtil.isLoginPhase(connection)) {
+                futures.add(this.sendTo(connection, packet));
+                continue;
+            }
+            final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            if (this.checkSupported(connection, state, future)) {
+                broadcast.add(connection);
+            } else {
+                futures.add(future);
+            }
+        }
+
+        if (!broadcast.isEmpty()) {
+            final SpongePacketBinding<Packet> binding = this.requireBinding(packet.getClass());
+            final ChannelBuf payload = this.manager().getBufferAllocator().buffer();
+            payload.writeVarLong(SpongePacketChannel.packTypeAndValue(SpongePacketChannel.TYPE_NORMAL, binding.opcode()));
+            try {
+                this.encodePayload(payload, packet);
+                futures.add(PacketSender.sendTo(broadcast, payload,
+                        (connection, duplicate) -> PacketUtil.createPlayPayload(this.payloadType(), duplicate, connection.side())));
+            } catch (final Throwable ex) {
+                futures.add(CompletableFuture.failedFuture(ex));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
     private void handleResponsePacket(final EngineConnection connection, final EngineConnectionState state, final int transactionId, final @Nullable ChannelBuf payload,
             final int dynamicOpcode) {
         final TransactionStore store = ConnectionUtil.getTransactionStore(connection);
@@ -37,7 +37,9 @@
 import org.spongepowered.common.network.channel.PacketSender;
 import org.spongepowered.common.network.channel.SpongeChannel;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -111,6 +113,42 @@ public CompletableFuture<Void> sendTo(final EngineConnection connection, final C
         return future;
     }
 
+    /**
+     * Sends the payload to all the given connections. The payload is only
+     * written once and shared by all the connections.
+     *
+     * @param connections The connections to send the payload to
+     * @param consumer The consumer writing the payload
+     * @return The future, completed once the payload was sent to all the connections
+     */
+    public CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Consumer<ChannelBuf> consumer) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(consumer, "payload");
+
+        final List<EngineConnection> targets = new ArrayList<>(connections.size());
+        for (final EngineConnection connection : connections) {
+            ConnectionUtil.checkPlayPhase(connection);
+            targets.add(connection);
+        }
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final ChannelBuf payload;
+        try {
+            payload = this.parent.encodePayload(consumer);
+        } catch (final Throwable ex) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            for (final EngineConnection connection : targets) {
+                final EngineConnectionState state = (EngineConnectionState) ((SpongeEngineConnection) connection).connection().getPacketListener();
+                this.parent.handleException(connection, state, ex, future);
+            }
+            return future;
+        }
+        return PacketSender.sendTo(targets, payload,
+                (connection, duplicate) -> PacketUtil.createPlayPayload(this.parent.payloadType(), duplicate, connection.side()));
+    }
+
     private <S extends EngineConnectionState> Collection<RawPlayDataHandler<? super S>> getHandlers(final S state) {
         return (Collection) SpongeChannel.getResponseHandlers(state, this.handlers.get());
     }
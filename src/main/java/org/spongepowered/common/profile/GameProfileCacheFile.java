@@ -0,0 +1,120 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.profile;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A compact binary replacement for the vanilla {@code usercache.json}.
+ *
+ * <p>Entries are stored most recently used first, each as the unique id, the
+ * name and the expiration time in milliseconds.</p>
+ */
+public final class GameProfileCacheFile {
+
+    private static final int MAGIC = 0x53504743;
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    public GameProfileCacheFile(final Path file) {
+        this.file = file;
+    }
+
+    public boolean exists() {
+        return Files.exists(this.file);
+    }
+
+    /**
+     * Reads the entries from the file.
+     *
+     * @return The entries, most recently used first, or null if the file is
+     *     missing or unreadable
+     */
+    public @Nullable List<Entry> read() {
+        if (Files.notExists(this.file)) {
+            return null;
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (in.readInt() != GameProfileCacheFile.MAGIC || in.readInt() != GameProfileCacheFile.VERSION) {
+                SpongeCommon.logger().warn("Game profile cache {} is not a supported format", this.file);
+                return null;
+            }
+            final int count = in.readInt();
+            final List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                entries.add(new Entry(uniqueId, in.readUTF(), in.readLong()));
+            }
+            return entries;
+        } catch (final IOException e) {
+            SpongeCommon.logger().warn("Failed to read game profile cache {}", this.file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the file with the given entries.
+     *
+     * @param entries The entries, most recently used first
+     * @throws IOException If the file could not be written
+     */
+    public void write(final List<Entry> entries) throws IOException {
+        final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(GameProfileCacheFile.MAGIC);
+            out.writeInt(GameProfileCacheFile.VERSION);
+            out.writeInt(entries.size());
+            for (final Entry entry : entries) {
+                out.writeLong(entry.uniqueId().getMostSignificantBits());
+                out.writeLong(entry.uniqueId().getLeastSignificantBits());
+                out.writeUTF(entry.name());
+                out.writeLong(entry.expiresOn());
+            }
+        }
+        try {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public record Entry(UUID uniqueId, String name, long expiresOn) {
+    }
+}
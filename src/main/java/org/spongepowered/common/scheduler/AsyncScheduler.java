@@ -26,16 +26,25 @@
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -48,27 +57,69 @@ public final class AsyncScheduler extends SpongeScheduler {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executor of asynchronous tasks, either a dynamic thread pool or
+    // a virtual thread per task depending on the configured execution mode.
+    private final ExecutorService executor;
+    private final boolean virtual;
+    // Per plugin permits limiting concurrently executing tasks, virtual mode only.
+    private final int maxConcurrentTasksPerPlugin;
+    private final Map<String, Semaphore> pluginPermits = new ConcurrentHashMap<>();
+    private final @Nullable VirtualThreadPinningMonitor pinningMonitor;
     private volatile boolean running = true;
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
+
+    private static final String VIRTUAL_THREAD_PREFIX = "Sponge-AsyncScheduler-Virtual-";
 
     public AsyncScheduler() {
+        this(SpongeConfigs.getCommon().get().scheduler);
+    }
+
+    AsyncScheduler(final SchedulerCategory config) {
         super("A");
 
+        this.virtual = config.asyncExecutionMode == SchedulerCategory.ExecutionMode.VIRTUAL;
+        if (this.virtual) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                                   .name(AsyncScheduler.VIRTUAL_THREAD_PREFIX, 0)
+                                                                   .factory());
+            this.maxConcurrentTasksPerPlugin = Math.max(0, config.maxConcurrentTasksPerPlugin);
+            this.pinningMonitor = config.monitorPinnedThreads
+                    ? AsyncScheduler.createPinningMonitor(Duration.ofMillis(config.pinnedThreadThresholdMillis)) : null;
+        } else {
+            this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                                                                  .setNameFormat("Sponge-AsyncScheduler-%d")
+                                                                  .build());
+            this.maxConcurrentTasksPerPlugin = 0;
+            this.pinningMonitor = null;
+        }
+
         final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
         thread.setName("Sponge Async Scheduler Thread");
         thread.setDaemon(true);
         thread.start();
     }
 
+    private static @Nullable VirtualThreadPinningMonitor createPinningMonitor(final Duration threshold) {
+        try {
+            return new VirtualThreadPinningMonitor(threshold);
+        } catch (final Throwable t) {
+            SpongeCommon.logger().warn("Could not start monitoring of pinned async scheduler threads", t);
+            return null;
+        }
+    }
+
+    static @Nullable String pluginFromThreadName(final String name) {
+        if (!name.startsWith(AsyncScheduler.VIRTUAL_THREAD_PREFIX)) {
+            return null;
+        }
+        final String plugin = name.substring(AsyncScheduler.VIRTUAL_THREAD_PREFIX.length());
+        // Threads which did not start a task yet still carry their index
+        return plugin.isEmpty() || Character.isDigit(plugin.charAt(0)) ? null : plugin;
+    }
+
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -76,45 +127,9 @@ private void mainLoop() {
     }
 
     private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.tasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                final long timeSinceLast = now - task.timestamp();
-
-                if (task.task.delay > 0 && task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.state().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                final long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
+        // Only the heads of the task queues need to be checked, tasks which are
+        // still executing will signal the condition once they complete.
+        this.minimumTimeout = this.nanosUntilNextTask();
     }
 
     @Override
@@ -122,6 +137,9 @@ protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            // Also flag the change, the task may be due before the timeout
+            // which was calculated prior to its submission.
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -144,19 +162,13 @@ protected void preTick() {
             // Continue on without handling the Exception.
         } catch (final IllegalMonitorStateException e) {
             SpongeCommon.logger().error("The scheduler internal state machine suffered a catastrophic error", e);
+        } finally {
+            // Due tasks are polled from the concurrent task queue, so there
+            // is no need to block task submissions while processing them.
+            this.lock.unlock();
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
-    }
-
     @Override
     protected void onTaskCompletion(final SpongeScheduledTask task) {
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
@@ -171,8 +183,66 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
     }
 
     @Override
-    protected void executeRunnable(final Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void executeRunnable(final SpongeScheduledTask task, final SpongeScheduledTask.ScheduledTaskState previous,
+        final Runnable runnable) {
+        if (!this.virtual) {
+            this.executor.submit(runnable);
+            return;
+        }
+        final String plugin = task.task().plugin().metadata().id();
+        this.executor.submit(() -> {
+            // Name the thread after the plugin so pinning events can be attributed
+            Thread.currentThread().setName(AsyncScheduler.VIRTUAL_THREAD_PREFIX + plugin);
+            this.runWithPermit(task, previous, plugin, runnable);
+        });
+    }
+
+    void runWithPermit(final SpongeScheduledTask task, final SpongeScheduledTask.ScheduledTaskState previous,
+        final String plugin, final Runnable runnable) {
+        if (this.maxConcurrentTasksPerPlugin == 0) {
+            runnable.run();
+            return;
+        }
+        // The task remains in the switching state until a permit is
+        // available, blocking is cheap on a virtual thread.
+        final Semaphore permits = this.pluginPermits.computeIfAbsent(plugin, k -> new Semaphore(this.maxConcurrentTasksPerPlugin));
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            // The task never ran, so it must not stay switching or it
+            // would be parked forever. A cancellation in the meantime wins.
+            if (task.state() == SpongeScheduledTask.ScheduledTaskState.SWITCHING) {
+                task.setState(previous);
+                this.onTaskCompletion(task);
+            }
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            runnable.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Gets the number of times a virtual thread running a task of the given
+     * plugin pinned its carrier thread for longer than the configured threshold.
+     *
+     * @param plugin The plugin
+     * @return The pinned count, 0 if pinning is not monitored
+     */
+    public long pinnedThreadCount(final PluginContainer plugin) {
+        return this.pinningMonitor == null ? 0 : this.pinningMonitor.pinnedCount(plugin.metadata().id());
+    }
+
+    /**
+     * Gets the pinned counts of all plugins, keyed by plugin id.
+     *
+     * @return The pinned counts
+     */
+    public Map<String, Long> pinnedThreadCounts() {
+        return this.pinningMonitor == null ? Collections.emptyMap() : this.pinningMonitor.pinnedCounts();
     }
 
     public <T> CompletableFuture<T> submit(final Callable<T> callable) {
@@ -199,6 +269,9 @@ public void close() {
 
         // Shut down the executor
         this.executor.shutdown();
+        if (this.pinningMonitor != null) {
+            this.pinningMonitor.close();
+        }
 
         try {
             if (!this.executor.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -0,0 +1,181 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A delay queue of {@link SpongeScheduledTask}s ordered by their next
+ * execution timestamp, so that a scheduler tick only ever touches the
+ * tasks which are actually due.
+ *
+ * <p>Tick based and wall clock based timestamps are not comparable with
+ * each other, which is why each of them gets its own queue. Every task has
+ * at most one entry in one of the queues at any time, it is re-scheduled
+ * by the scheduler after it has been started.</p>
+ *
+ * <p>Cancelled tasks are not removed from the queues right away, since that
+ * is a linear search. Instead they are dropped once they become due, or
+ * purged in bulk once enough of them piled up.</p>
+ */
+final class ScheduledTaskQueue {
+
+    static final int PURGE_THRESHOLD = 256;
+
+    private final PriorityBlockingQueue<Entry> tickBased = new PriorityBlockingQueue<>();
+    private final PriorityBlockingQueue<Entry> wallClock = new PriorityBlockingQueue<>();
+    // Due tasks whose previous execution is still running, only accessed by the ticking thread
+    private final List<SpongeScheduledTask> parked = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Cancellations since the last purge, an upper bound of the cancelled entries in the queues
+    private final AtomicInteger cancelled = new AtomicInteger();
+
+    /**
+     * Queues the task for its next execution, based on its current state
+     * and timestamp.
+     *
+     * @param task The task
+     */
+    void schedule(final SpongeScheduledTask task) {
+        final boolean tickBased = task.nextExecutionTickBased();
+        final Entry entry = new Entry(task.nextExecutionTimestamp(), this.sequence.getAndIncrement(), task);
+        (tickBased ? this.tickBased : this.wallClock).offer(entry);
+    }
+
+    /**
+     * Records that a task was cancelled, its entry stays queued until it is
+     * polled or purged.
+     */
+    void cancelled() {
+        this.cancelled.incrementAndGet();
+    }
+
+    /**
+     * Removes the entries of cancelled tasks from the queues, if they may
+     * make up a significant part of them.
+     */
+    void purgeCancelled() {
+        final int cancelled = this.cancelled.get();
+        if (cancelled < ScheduledTaskQueue.PURGE_THRESHOLD || cancelled < (this.tickBased.size() + this.wallClock.size()) / 2) {
+            return;
+        }
+        this.cancelled.addAndGet(-cancelled);
+        this.tickBased.removeIf(entry -> entry.task.isCancelled());
+        this.wallClock.removeIf(entry -> entry.task.isCancelled());
+    }
+
+    /**
+     * Keeps a due task aside until its current execution finished.
+     *
+     * @param task The task
+     */
+    void park(final SpongeScheduledTask task) {
+        this.parked.add(task);
+    }
+
+    /**
+     * Moves every parked task which is no longer executing back into the
+     * queues.
+     */
+    void unpark() {
+        if (this.parked.isEmpty()) {
+            return;
+        }
+        for (final Iterator<SpongeScheduledTask> it = this.parked.iterator(); it.hasNext(); ) {
+            final SpongeScheduledTask task = it.next();
+            if (task.state() != SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+                it.remove();
+                this.schedule(task);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the next task which is due at the given time.
+     *
+     * @param tickBased Whether to poll the tick based queue
+     * @param now The current timestamp of the queue's clock
+     * @return The due task, or null if no task is due
+     */
+    @Nullable SpongeScheduledTask pollDue(final boolean tickBased, final long now) {
+        final PriorityBlockingQueue<Entry> queue = tickBased ? this.tickBased : this.wallClock;
+        final @Nullable Entry head = queue.peek();
+        if (head == null || head.timestamp - now > 0) {
+            return null;
+        }
+        // Only the ticking thread polls, so anything polled now is due as well
+        final @Nullable Entry entry = queue.poll();
+        return entry == null ? null : entry.task;
+    }
+
+    /**
+     * Gets the amount of nanoseconds until the next task of the given queue
+     * is due.
+     *
+     * @param tickBased Whether to check the tick based queue
+     * @param now The current timestamp of the queue's clock
+     * @return The nanoseconds, zero if a task is already due or
+     *     {@link Long#MAX_VALUE} if the queue is empty
+     */
+    long nanosUntilNext(final boolean tickBased, final long now) {
+        final @Nullable Entry head = (tickBased ? this.tickBased : this.wallClock).peek();
+        if (head == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, head.timestamp - now);
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+
+        final long timestamp;
+        final long sequence;
+        final SpongeScheduledTask task;
+
+        Entry(final long timestamp, final long sequence, final SpongeScheduledTask task) {
+            this.timestamp = timestamp;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(final Entry other) {
+            // Compare the difference, timestamps may be based on System.nanoTime()
+            final long diff = this.timestamp - other.timestamp;
+            if (diff != 0) {
+                return diff < 0 ? -1 : 1;
+            }
+            return Long.compare(this.sequence, other.sequence);
+        }
+
+    }
+
+}
@@ -80,6 +80,7 @@ public boolean cancel() {
                 || this.state() == ScheduledTaskState.EXECUTING;
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.cancelTask(this);
         return success;
     }
 
@@ -110,6 +111,18 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    /**
+     * Gets whether {@link #nextExecutionTimestamp()} is based on ticks.
+     *
+     * @return True if the next execution is tick based
+     */
+    boolean nextExecutionTickBased() {
+        if (this.state.isActive) {
+            return this.task.tickBasedInterval;
+        }
+        return this.task.tickBasedDelay;
+    }
+
     ScheduledTaskState state() {
         return this.state;
     }
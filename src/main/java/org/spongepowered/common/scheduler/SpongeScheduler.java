@@ -61,8 +61,10 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, by their id
     private final Map<UUID, SpongeScheduledTask> tasks = new ConcurrentHashMap<>();
+    // The pending ScheduledTasks, ordered by their next execution
+    private final ScheduledTaskQueue queue = new ScheduledTaskQueue();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(final String tag) {
@@ -85,14 +87,15 @@ protected long timestamp(final boolean tickBased) {
     }
 
     /**
-     * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * Adds the task to the task map and queue, will attempt to process the
+     * task on the first call to {@link #runTick} after it is due.
      *
      * @param task The task to add
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.timestamp(task.task.tickBasedDelay));
         this.tasks.put(task.uniqueId(), task);
+        this.queue.schedule(task);
     }
 
     /**
@@ -100,10 +103,33 @@ protected void addTask(final SpongeScheduledTask task) {
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.tasks.remove(task.uniqueId());
     }
 
+    /**
+     * Removes a cancelled task from the task map, its queue entry is purged
+     * later on.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(final SpongeScheduledTask task) {
+        this.removeTask(task);
+        this.queue.cancelled();
+    }
+
+    /**
+     * Gets the amount of nanoseconds until the next queued task is due.
+     *
+     * @return The nanoseconds, or {@link Long#MAX_VALUE} if nothing is queued
+     */
+    protected long nanosUntilNextTask() {
+        return Math.min(
+            this.queue.nanosUntilNext(true, this.timestamp(true)),
+            this.queue.nanosUntilNext(false, this.timestamp(false))
+        );
+    }
+
     @Override
     public Optional<ScheduledTask> findTask(final UUID id) {
         Objects.requireNonNull(id, "id");
@@ -176,18 +202,30 @@ public SpongeScheduledTask submit(Task task, String name) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all due tasks in the queue.
      */
     final void runTick() {
         this.preTick();
         try {
-            this.tasks.values().forEach(this::processTask);
+            this.queue.purgeCancelled();
+            this.queue.unpark();
+            this.processDueTasks(true);
+            this.processDueTasks(false);
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    private void processDueTasks(final boolean tickBased) {
+        // This moment is 'now'
+        final long now = this.timestamp(tickBased);
+        @Nullable SpongeScheduledTask task;
+        while ((task = this.queue.pollDue(tickBased, now)) != null) {
+            this.processTask(task);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -208,12 +246,12 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which became due.
      *
      * @param task The task to process
      */
     private void processTask(final SpongeScheduledTask task) {
-        // If the task is now slated to be cancelled, we just remove it as if it
+        // If the task is now slated to be cancelled, we just drop it as if it
         // no longer exists.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
@@ -222,39 +260,27 @@ private void processTask(final SpongeScheduledTask task) {
         // If the task is already being processed, we wait for the previous
         // occurrence to terminate.
         if (task.state() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
+            this.queue.park(task);
             return;
         }
-        final long threshold;
-        final boolean tickBased;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.state() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-            tickBased = task.task.tickBasedDelay;
-        } else if (task.state() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-            tickBased = task.task.tickBasedInterval;
-        } else {
-            threshold = Long.MAX_VALUE;
-            tickBased = false;
+        if (task.state() != SpongeScheduledTask.ScheduledTaskState.WAITING
+            && task.state() != SpongeScheduledTask.ScheduledTaskState.RUNNING) {
+            // Switching, nothing to start until it settles
+            this.queue.park(task);
+            return;
         }
-        // This moment is 'now'
-        final long now = this.timestamp(tickBased);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.timestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            // It is always interval here because that's the only thing that matters
-            // at this point.
-            task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
-            this.startTask(task);
+        final SpongeScheduledTask.ScheduledTaskState previous = task.state();
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        // It is always interval here because that's the only thing that matters
+        // at this point. Repeating tasks get a reset-timestamp each time they are
+        // started.
+        task.setTimestamp(this.timestamp(task.task.tickBasedInterval));
+        this.startTask(task, previous);
+        if (task.task.interval == 0L) {
             // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+            this.removeTask(task);
+        } else if (!task.isCancelled()) {
+            this.queue.schedule(task);
         }
     }
 
@@ -262,9 +288,10 @@ private void processTask(final SpongeScheduledTask task) {
      * Begin the execution of a task. Exceptions are caught and logged.
      *
      * @param task The task to start
+     * @param previous The state of the task before it began switching
      */
-    private void startTask(final SpongeScheduledTask task) {
-        this.executeRunnable(() -> {
+    private void startTask(final SpongeScheduledTask task, final SpongeScheduledTask.ScheduledTaskState previous) {
+        this.executeRunnable(task, previous, () -> {
             task.setState(SpongeScheduledTask.ScheduledTaskState.EXECUTING);
             try (final @Nullable PhaseContext<@NonNull ?> context = this.createContext(task, task.task().plugin())) {
                 if (context != null) {
@@ -299,7 +326,16 @@ protected void onTaskCompletion(final SpongeScheduledTask task) {
         // no-op for sync methods.
     }
 
-    protected void executeRunnable(final Runnable runnable) {
+    /**
+     * Runs the given task body. If the body ends up never being run, the
+     * task must be put back into its previous state.
+     *
+     * @param task The task being started
+     * @param previous The state of the task before it began switching
+     * @param runnable The task body
+     */
+    protected void executeRunnable(final SpongeScheduledTask task, final SpongeScheduledTask.ScheduledTaskState previous,
+        final Runnable runnable) {
         runnable.run();
     }
 
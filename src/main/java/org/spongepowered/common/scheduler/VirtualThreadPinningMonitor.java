@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records {@code jdk.VirtualThreadPinned} flight recorder events raised by
+ * the virtual threads of the {@link AsyncScheduler}. Task threads are named
+ * after the plugin owning the task, which is how events are attributed.
+ */
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream stream;
+    private final Map<String, LongAdder> pinnedByPlugin = new ConcurrentHashMap<>();
+
+    VirtualThreadPinningMonitor(final Duration threshold) {
+        this.stream = new RecordingStream();
+        this.stream.enable(VirtualThreadPinningMonitor.PINNED_EVENT).withThreshold(threshold);
+        this.stream.onEvent(VirtualThreadPinningMonitor.PINNED_EVENT, event -> {
+            final @Nullable RecordedThread thread = event.getThread();
+            final @Nullable String plugin = thread == null ? null : AsyncScheduler.pluginFromThreadName(thread.getJavaName());
+            if (plugin != null) {
+                this.pinnedByPlugin.computeIfAbsent(plugin, k -> new LongAdder()).increment();
+            }
+        });
+        this.stream.setReuse(true);
+        this.stream.startAsync();
+    }
+
+    long pinnedCount(final String plugin) {
+        final @Nullable LongAdder count = this.pinnedByPlugin.get(plugin);
+        return count == null ? 0 : count.sum();
+    }
+
+    Map<String, Long> pinnedCounts() {
+        final Map<String, Long> counts = new HashMap<>();
+        this.pinnedByPlugin.forEach((plugin, count) -> counts.put(plugin, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        this.stream.close();
+    }
+}
@@ -37,16 +37,21 @@
 import org.spongepowered.api.service.permission.TransferMethod;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * A subject data implementation storing all contained data in memory.
@@ -64,6 +69,14 @@ public class MemorySubjectData implements SubjectData {
     protected final ConcurrentMap<Set<Context>, NodeTree> permissions = new ConcurrentHashMap<>();
     protected final ConcurrentMap<Set<Context>, List<SubjectReference>> parents = new ConcurrentHashMap<>();
 
+    // The subject data currently resolving a permission on this thread, used
+    // to track which data depends on the data it consults.
+    private static final ThreadLocal<Deque<MemorySubjectData>> RESOLVING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ConcurrentMap<String, ResolvedPermission> resolvedPermissions = new ConcurrentHashMap<>();
+    private final Set<MemorySubjectData> dependents = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private final AtomicInteger resolutionVersion = new AtomicInteger();
+
     /**
      * Creates a new subject data instance, using the provided service to
      * request instances of permission subjects.
@@ -82,6 +95,72 @@ protected void onUpdate() {
         // Do nothing - users of the class will override.
     }
 
+    private void update() {
+        this.invalidateResolvedPermissions();
+        this.onUpdate();
+    }
+
+    /**
+     * Resolves the value of a permission in the global context through the
+     * given resolver. The result is cached until this data, its parents or
+     * any other subject data consulted by the resolver is mutated.
+     *
+     * @param permission The permission to resolve
+     * @param resolver The resolver computing the value of the permission
+     * @return The permission value
+     */
+    public Tristate resolvePermission(final String permission, final Function<String, Tristate> resolver) {
+        final Deque<MemorySubjectData> resolving = MemorySubjectData.RESOLVING.get();
+        final @Nullable MemorySubjectData dependent = resolving.peek();
+        if (dependent != null && dependent != this) {
+            this.dependents.add(dependent);
+        }
+
+        // Parents may be computed rather than stored, so compare them as well
+        final List<SubjectReference> parents = this.parents(SubjectData.GLOBAL_CONTEXT);
+        final @Nullable ResolvedPermission cached = this.resolvedPermissions.get(permission);
+        if (cached != null && cached.parents.equals(parents)) {
+            return cached.value;
+        }
+
+        final int version = this.resolutionVersion.get();
+        final Tristate value;
+        resolving.push(this);
+        try {
+            value = resolver.apply(permission);
+        } finally {
+            resolving.pop();
+        }
+        if (this.resolutionVersion.get() == version) {
+            this.resolvedPermissions.put(permission, new ResolvedPermission(value, parents));
+            // Don't keep the value if it was invalidated in the meantime
+            if (this.resolutionVersion.get() != version) {
+                this.resolvedPermissions.remove(permission);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates the cached permission values of this subject data and of
+     * all subject data which consulted it while resolving a permission.
+     */
+    protected final void invalidateResolvedPermissions() {
+        this.resolutionVersion.incrementAndGet();
+        this.resolvedPermissions.clear();
+        final List<MemorySubjectData> dependents;
+        synchronized (this.dependents) {
+            if (this.dependents.isEmpty()) {
+                return;
+            }
+            dependents = new ArrayList<>(this.dependents);
+            this.dependents.clear();
+        }
+        for (final MemorySubjectData dependent : dependents) {
+            dependent.invalidateResolvedPermissions();
+        }
+    }
+
     @Override
     public Subject subject() {
         return this.subject;
@@ -142,7 +221,7 @@ public CompletableFuture<Boolean> setPermission(Set<Context> contexts, final Str
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -176,7 +255,7 @@ public CompletableFuture<Boolean> setPermissions(Set<Context> contexts, final Ma
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -217,7 +296,7 @@ public CompletableFuture<Boolean> setFallbackPermissionValue(Set<Context> contex
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -237,7 +316,7 @@ public CompletableFuture<Boolean> clearFallbackPermissionValues() {
                 }
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(anyUpdated);
     }
 
@@ -246,7 +325,7 @@ public CompletableFuture<Boolean> clearPermissions() {
         final boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -255,7 +334,7 @@ public CompletableFuture<Boolean> clearPermissions() {
     public CompletableFuture<Boolean> clearPermissions(final Set<Context> context) {
         final boolean changed = this.permissions.remove(Objects.requireNonNull(context, "context")) != null;
         if (changed) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -302,7 +381,7 @@ public CompletableFuture<Boolean> setParents(Set<Context> contexts, final List<?
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -323,7 +402,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, final Subject
                     .build();
 
             if (this.updateCollection(this.parents, contexts, oldParents, newParents)) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -354,7 +433,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, final Subj
             newParents.remove(parent);
 
             if (this.updateCollection(this.parents, contexts, oldParents, ImmutableList.copyOf(newParents))) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -365,7 +444,7 @@ public CompletableFuture<Boolean> clearParents() {
         final boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -374,7 +453,7 @@ public CompletableFuture<Boolean> clearParents() {
     public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
         final boolean changed = this.parents.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (changed) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(changed);
     }
@@ -402,7 +481,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
 
             if ((origMap = this.options.putIfAbsent(contexts, Collections.singletonMap(key.toLowerCase(), value))) == null) {
-                this.onUpdate();
+                this.update();
                 return CompletableFuture.completedFuture(true);
             }
         }
@@ -419,7 +498,7 @@ public CompletableFuture<Boolean> setOption(Set<Context> contexts, final String
             }
             newMap = ImmutableMap.copyOf(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -449,7 +528,7 @@ public CompletableFuture<Boolean> setOptions(Set<Context> contexts, final Map<St
                     throw new IllegalStateException("Unhandled enum state " + method);
             }
         }
-        this.onUpdate();
+        this.update();
         return CompletableFuture.completedFuture(true);
     }
 
@@ -458,7 +537,7 @@ public CompletableFuture<Boolean> clearOptions() {
         final boolean wasEmpty = this.options.isEmpty();
         this.options.clear();
         if (!wasEmpty) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(!wasEmpty);
     }
@@ -467,7 +546,7 @@ public CompletableFuture<Boolean> clearOptions() {
     public CompletableFuture<Boolean> clearOptions(final Set<Context> contexts) {
         final boolean ret = this.options.remove(Objects.requireNonNull(contexts, "contexts")) != null;
         if (ret) {
-            this.onUpdate();
+            this.update();
         }
         return CompletableFuture.completedFuture(ret);
     }
@@ -484,6 +563,7 @@ public CompletableFuture<Boolean> copyFrom(final SubjectData other, final Transf
             this.permissions.clear();
             this.parents.clear();
             this.options.clear();
+            this.invalidateResolvedPermissions();
         }
 
         otherPerms.forEach((ctx, permissions) -> this.setPermissions(ctx, permissions, method));
@@ -498,4 +578,7 @@ public CompletableFuture<Boolean> moveFrom(final SubjectData other, final Transf
         return this.copyFrom(other, method).thenCompose(res ->
                 CompletableFuture.allOf(other.clearOptions(), other.clearParents(), other.clearPermissions()).thenApply(x -> res));
     }
+
+    private record ResolvedPermission(Tristate value, List<SubjectReference> parents) {
+    }
 }
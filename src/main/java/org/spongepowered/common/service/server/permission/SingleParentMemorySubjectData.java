@@ -90,6 +90,7 @@ public CompletableFuture<Boolean> clearParents(final Set<Context> contexts) {
 
     public void setParent(final @Nullable SubjectReference parent) {
         this.parent = parent;
+        this.invalidateResolvedPermissions();
     }
 
     public @Nullable SubjectReference parent() {
@@ -81,18 +81,20 @@ public final Tristate permissionValue(final String permission, final Set<Context
     }
 
     protected Tristate dataPermissionValue(final MemorySubjectData subject, final String permission) {
-        Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
-
-        if (res == Tristate.UNDEFINED) {
-            for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().permissionValue(permission, (Cause) null);
-                if (res != Tristate.UNDEFINED) {
-                    return res;
+        return subject.resolvePermission(permission, node -> {
+            Tristate res = subject.nodeTree(SubjectData.GLOBAL_CONTEXT).get(node);
+
+            if (res == Tristate.UNDEFINED) {
+                for (final SubjectReference parent : subject.parents(SubjectData.GLOBAL_CONTEXT)) {
+                    res = parent.resolve().join().permissionValue(node, (Cause) null);
+                    if (res != Tristate.UNDEFINED) {
+                        return res;
+                    }
                 }
             }
-        }
 
-        return res;
+            return res;
+        });
     }
 
     @Override
@@ -24,19 +24,26 @@
  */
 package org.spongepowered.common.service.server.permission;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.service.permission.NodeTree;
 import org.spongepowered.api.util.Tristate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 public final class SpongeNodeTree implements NodeTree {
 
-    private static final Pattern NODE_SPLIT = Pattern.compile("\\.");
+    // Permission nodes are checked far more often than they are defined, keep
+    // the lower cased and split representation of recently used nodes around.
+    private static final LoadingCache<String, String[]> NODE_PARTS = Caffeine.newBuilder()
+            .maximumSize(8192)
+            .build(SpongeNodeTree::split);
     private final Node rootNode;
 
     SpongeNodeTree(final Tristate value) {
@@ -48,18 +55,36 @@ public final class SpongeNodeTree implements NodeTree {
         this.rootNode = rootNode;
     }
 
+    /**
+     * Gets the lower cased parts of the given permission node, split at
+     * each {@code .}, keeping empty parts.
+     *
+     * @param node The permission node
+     * @return The parts, must not be modified
+     */
+    static String[] parts(final String node) {
+        return SpongeNodeTree.NODE_PARTS.get(node);
+    }
+
+    private static String[] split(final String node) {
+        final String lowerCase = node.toLowerCase();
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = lowerCase.indexOf('.', start)) != -1) {
+            parts.add(lowerCase.substring(start, index).intern());
+            start = index + 1;
+        }
+        parts.add(lowerCase.substring(start).intern());
+        return parts.toArray(new String[0]);
+    }
+
     <T> void populate(final Map<String, T> values, final Function<T, Tristate> converter) {
         for (final Map.Entry<String, T> value : values.entrySet()) {
-            final String[] parts = SpongeNodeTree.NODE_SPLIT.split(value.getKey().toLowerCase(), -1);
+            final String[] parts = SpongeNodeTree.parts(value.getKey());
             Node currentNode = this.rootNode;
             for (final String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    final Node newNode = new Node(new HashMap<>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
-                }
+                currentNode = currentNode.children.computeIfAbsent(part, k -> new Node(new HashMap<>()));
             }
             currentNode.value = converter.apply(value.getValue());
         }
@@ -67,14 +92,14 @@ <T> void populate(final Map<String, T> values, final Function<T, Tristate> conve
 
     @Override
     public Tristate get(final String node) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.parts(node);
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        for (final String str : parts) {
+            currentNode = currentNode.children.get(str);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
@@ -116,7 +141,7 @@ private void populateMap(final ImmutableMap.Builder<String, Boolean> values, fin
 
     @Override
     public NodeTree withValue(final String node, final Tristate value) {
-        final String[] parts = SpongeNodeTree.NODE_SPLIT.split(node.toLowerCase(), -1);
+        final String[] parts = SpongeNodeTree.parts(node);
         final Node newRoot = new Node(new HashMap<>(this.rootNode.children));
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
@@ -28,6 +28,7 @@
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectReference;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 public class SpongeSubjectReference implements SubjectReference {
@@ -62,4 +63,21 @@ public synchronized CompletableFuture<Subject> resolve() {
         return CompletableFuture.completedFuture(this.cache);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpongeSubjectReference)) {
+            return false;
+        }
+        final SpongeSubjectReference that = (SpongeSubjectReference) o;
+        return this.collectionId.equals(that.collectionId) && this.subjectId.equals(that.subjectId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.collectionId, this.subjectId);
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A file holding the unique ids of every player data file, so that they
+ * don't have to be found by listing the player data directory.
+ *
+ * <p>The ids are stored sorted as pairs of longs after a small header. The
+ * header records whether the index was written as the server stopped, an
+ * index left behind by a server that didn't stop cleanly may have missed
+ * files and is not trusted.</p>
+ */
+final class PlayerDataIndex {
+
+    private static final int MAGIC = 0x53504458;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + 1;
+
+    private final Path file;
+
+    PlayerDataIndex(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the unique ids from the index.
+     *
+     * @return The unique ids, or null if the index is missing, unreadable
+     *     or wasn't written as the server stopped
+     */
+    @Nullable Set<UUID> read() {
+        if (Files.notExists(this.file)) {
+            return null;
+        }
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.file));
+            if (buffer.getInt() != PlayerDataIndex.MAGIC || buffer.getInt() != PlayerDataIndex.VERSION) {
+                SpongeCommon.logger().warn("Player data index {} is not a supported format", this.file);
+                return null;
+            }
+            if (buffer.get() == 0) {
+                SpongeCommon.logger().info("Player data index {} may be out of date as the server didn't stop cleanly", this.file);
+                return null;
+            }
+            final int count = buffer.getInt();
+            final Set<UUID> uniqueIds = new HashSet<>(Math.max(16, (int) (count / 0.75f) + 1));
+            for (int i = 0; i < count; i++) {
+                uniqueIds.add(new UUID(buffer.getLong(), buffer.getLong()));
+            }
+            return uniqueIds;
+        } catch (final IOException | BufferUnderflowException e) {
+            SpongeCommon.logger().warn("Failed to read player data index {}", this.file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the index with the given unique ids.
+     *
+     * @param uniqueIds The unique ids
+     * @param clean Whether the server is stopping, and no more player data will be written
+     * @throws IOException If the index could not be written
+     */
+    void write(final Collection<UUID> uniqueIds, final boolean clean) throws IOException {
+        final UUID[] sorted = uniqueIds.toArray(new UUID[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(UUID::getMostSignificantBits).thenComparingLong(UUID::getLeastSignificantBits));
+        final ByteBuffer buffer = ByteBuffer.allocate(PlayerDataIndex.HEADER_SIZE + sorted.length * Long.BYTES * 2);
+        buffer.putInt(PlayerDataIndex.MAGIC);
+        buffer.putInt(PlayerDataIndex.VERSION);
+        buffer.put((byte) (clean ? 1 : 0));
+        buffer.putInt(sorted.length);
+        for (final UUID uniqueId : sorted) {
+            buffer.putLong(uniqueId.getMostSignificantBits());
+            buffer.putLong(uniqueId.getLeastSignificantBits());
+        }
+
+        final Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        try {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -28,7 +28,6 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.server.MinecraftServer;
-import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -40,7 +39,6 @@
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.user.UserManager;
 import org.spongepowered.common.SpongeCommon;
-import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
 import org.spongepowered.common.entity.player.SpongeUserData;
@@ -55,6 +53,7 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
@@ -69,16 +68,18 @@
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 @DefaultQualifier(NonNull.class)
 public final class SpongeUserManager implements UserManager {
 
     public static final UUID FAKEPLAYER_UUID = UUID.fromString("41C82C87-7AFB-4024-BA57-13D2C99CAE77");
+    private static final String PLAYER_DATA_INDEX = "sponge_playerdata.idx";
 
     // This is the important set - this tells us if a User file actually exists,
     // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    private final Set<UUID> knownUUIDs = ConcurrentHashMap.newKeySet();
     private final Cache<UUID, SpongeUserData> userCache = Caffeine.newBuilder()
             .expireAfterAccess(1, TimeUnit.HOURS)
             .build();
@@ -90,17 +91,38 @@ public final class SpongeUserManager implements UserManager {
             .setDaemon(true)
             .setNameFormat("Sponge-User-Data-Loader")
             .build());
+    private final ExecutorService saveExecutorService = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)),
+            new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("Sponge-User-Data-Writer-%d")
+                    .build());
+    private final UserSaveQueue saves = new UserSaveQueue(this.saveExecutorService, SpongeUserData::write);
 
     private @Nullable WatchService filesystemWatchService = null;
     private @Nullable WatchKey watchKey = null;
+    private @Nullable PlayerDataIndex playerDataIndex = null;
+    private final AtomicBoolean indexDirty = new AtomicBoolean();
 
     public SpongeUserManager(final MinecraftServer server) {
         this.server = server;
     }
 
     public void init() {
-        this.refreshFilesystemProfiles();
+        this.playerDataIndex = new PlayerDataIndex(this.getSaveHandlerDirectory().resolveSibling(SpongeUserManager.PLAYER_DATA_INDEX));
         this.setupWatchers();
+        final @Nullable Set<UUID> indexed = this.playerDataIndex.read();
+        if (indexed == null) {
+            // Lookups go through the known files, so they have to be listed before anything can ask
+            this.rebuildPlayerDataIndex();
+            this.writePlayerDataIndex(false);
+        } else {
+            this.knownUUIDs.clear();
+            this.knownUUIDs.addAll(indexed);
+            // Mark the index as in use, so that it is rebuilt if the server doesn't stop cleanly
+            this.indexDirty.set(true);
+            this.writePlayerDataIndex(false);
+        }
     }
 
     @Override
@@ -187,6 +209,9 @@ public CompletableFuture<Boolean> delete(final UUID uuid) {
             if (dataFile != null) {
                 try {
                     if (Files.deleteIfExists(dataFile)) {
+                        if (this.knownUUIDs.remove(uuid)) {
+                            this.indexDirty.set(true);
+                        }
                         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
                         if (data != null) {
                             this.dirtyUsers.remove(data);
@@ -217,15 +242,7 @@ public boolean removeFromCache(final UUID uuid) {
     public CompletableFuture<Boolean> forceSave(final UUID uuid) {
         final @Nullable SpongeUserData data = this.userCache.getIfPresent(uuid);
         if (data != null && this.dirtyUsers.contains(data)) {
-            return CompletableFuture.supplyAsync(() -> {
-                try {
-                    data.save();
-                } catch (final IOException e) {
-                    throw new CompletionException(e);
-                }
-                return true;
-            });
-
+            return this.queueSave(data).thenApply(v -> true);
         }
         return CompletableFuture.completedFuture(false);
     }
@@ -233,9 +250,8 @@ public CompletableFuture<Boolean> forceSave(final UUID uuid) {
     @Override
     public boolean exists(final UUID playerUuid) {
         if (this.userCache.getIfPresent(playerUuid) == null) {
-            // Does the file exist?
-            final @Nullable Path path = this.getPlayerDataFile(playerUuid);
-            return path != null && Files.exists(path);
+            // Does the file exist? The watcher, polled each tick, keeps the known ids in line with the filesystem.
+            return this.knownUUIDs.contains(playerUuid);
         }
         return true;
     }
@@ -260,16 +276,29 @@ private UUID ensureNonEmptyUUID(final UUID uuid) {
 
     public void handlePlayerLogin(final com.mojang.authlib.GameProfile mcProfile) throws IOException {
         final @Nullable SpongeUserData currentUser = this.userCache.getIfPresent(mcProfile.getId());
+        // If currentUser have this then we know that the user has changed.
+        if (currentUser != null && this.dirtyUsers.contains(currentUser)) {
+            currentUser.save();
+        }
+        // A save queued earlier may still be writing the file vanilla is about to read.
+        this.saves.flush(mcProfile.getId());
         if (currentUser != null) {
-            // If currentUser have this then we know that the user has changed.
-            if (this.dirtyUsers.contains(currentUser)) {
-                currentUser.save();
-            }
             // The views will now point at the player.
             this.userCache.invalidate(currentUser.uniqueId());
         }
     }
 
+    /**
+     * Picks up changes to the player data directory. Called at the start of
+     * each server tick, so that lookups from other threads only read the
+     * known ids.
+     */
+    public void tick() {
+        if (this.playerDataIndex != null) {
+            this.pollFilesystemWatcher();
+        }
+    }
+
     private void createUser(final com.mojang.authlib.GameProfile profile) throws IOException {
         this.pollFilesystemWatcher();
         final @Nullable SpongeUserData user = SpongeUserData.create(profile);
@@ -329,18 +358,26 @@ void teardownWatchers() {
         }
     }
 
-    void refreshFilesystemProfiles() {
-        if (this.watchKey != null && this.watchKey.isValid()) {
-            this.watchKey.reset();
-        }
-        this.knownUUIDs.clear();
-        this.userCache.invalidateAll();
+    /**
+     * Rebuilds the known player data files by listing the player data
+     * directory, and rewrites the index from it. This is only needed when
+     * the index is missing or may have missed changes to the directory.
+     *
+     * @return A future completing once the index has been rebuilt
+     */
+    public CompletableFuture<Void> repairPlayerDataIndex() {
+        return CompletableFuture.runAsync(() -> {
+            this.rebuildPlayerDataIndex();
+            this.writePlayerDataIndex(false);
+        }, this.executorService);
+    }
 
-        // Add all known profiles from the data files
-        final Path playerDataDir = ((MinecraftServerAccessor) this.server).accessor$storageSource().getLevelPath(LevelResource.PLAYER_DATA_DIR);
+    private void rebuildPlayerDataIndex() {
+        final Set<UUID> found = new HashSet<>();
+        final Path playerDataDir = this.getSaveHandlerDirectory();
         if (Files.isDirectory(playerDataDir)) {
-            try (Stream<Path> list = Files.list(playerDataDir)) {
-                list.map(Path::toString)
+            try (final Stream<Path> list = Files.list(playerDataDir)) {
+                list.map(file -> file.getFileName().toString())
                         .filter(file -> file.endsWith(".dat")) // only .dat files
                         .map(file -> file.substring(0, file.length() - 4))
                         .filter(uuid -> !uuid.contains(".")) // fail fast for invalid uuid
@@ -352,18 +389,61 @@ void refreshFilesystemProfiles() {
                             }
                         })
                         .filter(Objects::nonNull)
-                        .forEach(this.knownUUIDs::add);
-            } catch (IOException e) {
+                        .forEach(found::add);
+            } catch (final IOException e) {
                 SpongeCommon.logger().error("Failed to get player files");
+                return;
             }
         }
+        this.knownUUIDs.retainAll(found);
+        this.knownUUIDs.addAll(found);
+        this.indexDirty.set(true);
+    }
+
+    /**
+     * Writes the known player data files to the index if they have changed
+     * since it was last written.
+     *
+     * @param stopping Whether the server is stopping, and no more player
+     *     data will be written
+     */
+    public void writePlayerDataIndex(final boolean stopping) {
+        if (this.playerDataIndex == null) {
+            return;
+        }
+        if (stopping) {
+            // Pick up the files written while players were saved, there is no
+            // time left for a repair to run in the background
+            this.pollFilesystemWatcher(true);
+        } else if (!this.indexDirty.get()) {
+            return;
+        }
+        this.indexDirty.set(false);
+        try {
+            this.playerDataIndex.write(this.knownUUIDs, stopping);
+        } catch (final IOException e) {
+            this.indexDirty.set(true);
+            SpongeCommon.logger().warn("Failed to write the player data index", e);
+        }
     }
 
     private void pollFilesystemWatcher() {
+        this.pollFilesystemWatcher(false);
+    }
+
+    private void pollFilesystemWatcher(final boolean repairNow) {
         if (this.watchKey == null || !this.watchKey.isValid()) {
-            // Reboot this if it's somehow failed.
-            this.refreshFilesystemProfiles();
+            // Reboot this if it's somehow failed, changes made in the meantime need a repair.
             this.setupWatchers();
+            if (this.watchKey == null) {
+                // Still no watcher, don't list the directory on every lookup
+                return;
+            }
+            if (repairNow) {
+                this.rebuildPlayerDataIndex();
+            } else {
+                this.repairPlayerDataIndex();
+            }
             return;
         }
         // We've already got the UUIDs, so we need to just see if the file system
@@ -374,6 +454,17 @@ private void pollFilesystemWatcher() {
                 @SuppressWarnings("unchecked") final WatchEvent<Path> ev = (WatchEvent<Path>) event;
                 final @Nullable Path file = ev.context();
 
+                if (ev.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Events were lost, only a listing can tell what changed
+                    SpongeCommon.logger().warn("Missed changes to the player data directory, rebuilding the player data index");
+                    if (repairNow) {
+                        this.rebuildPlayerDataIndex();
+                    } else {
+                        this.repairPlayerDataIndex();
+                    }
+                    continue;
+                }
+
                 // It is possible that the context is null, in which case, ignore it.
                 if (file != null) {
                     final String filename = file.getFileName().toString();
@@ -395,9 +486,13 @@ private void pollFilesystemWatcher() {
 
                             // It will only be create or delete here.
                             if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                this.knownUUIDs.add(uuid);
+                                if (this.knownUUIDs.add(uuid)) {
+                                    this.indexDirty.set(true);
+                                }
                             } else {
-                                this.knownUUIDs.remove(uuid);
+                                if (this.knownUUIDs.remove(uuid)) {
+                                    this.indexDirty.set(true);
+                                }
                                 // We don't do this, in case we were caught at a bad time.
                                 // Everything else should handle it for us, however.
                                 // this.userCache.invalidate(uuid);
@@ -432,17 +527,72 @@ public void saveDirtyUsers() {
         // If they are online, Minecraft will do the save automatically.
         this.dirtyUsers.removeIf(SpongeUserData::isOnline);
         for (final SpongeUserData user : new HashSet<>(this.dirtyUsers)) {
-            try {
-                user.save();
-            } catch (final IOException ignored) {
-                // There isn't much we can do here. The error has been logged, but
-                // the user is still available at this time so let's continue...
-            }
+            // Failures are logged, and the user is marked dirty again to be retried
+            // with the next save as the user is still available.
+            this.queueSave(user);
+        }
+        if (!this.server.isRunning()) {
+            // The server is stopping, the files must be written before it exits
+            this.awaitPendingSaves();
+        } else {
+            this.pollFilesystemWatcher();
+            this.writePlayerDataIndex(false);
         }
     }
 
-    public void unmarkDirty(final SpongeUserData user) {
+    /**
+     * Snapshots the user's data on the calling thread and queues it to be
+     * written to disk. If an earlier snapshot of the same user is still
+     * waiting to be written, it is replaced rather than written twice.
+     *
+     * @param user The user to save
+     * @return A future completing once the snapshot has been written
+     */
+    public CompletableFuture<Void> queueSave(final SpongeUserData user) {
+        // Unmark first, so that changes made from here on dirty the user again
         this.dirtyUsers.remove(user);
+        final UUID uniqueId = user.uniqueId();
+        return this.saves.queue(uniqueId, user.snapshotCompound(), () -> {
+            // Retried with the next save if the user is still available
+            if (this.userCache.getIfPresent(uniqueId) == user) {
+                this.dirtyUsers.add(user);
+            }
+        });
+    }
+
+    /**
+     * Blocks until every queued user save has been written.
+     */
+    public void awaitPendingSaves() {
+        this.saves.flushAll();
+    }
+
+    /**
+     * Gets the number of user snapshots waiting to be written.
+     *
+     * @return The number of queued saves
+     */
+    public int queuedSaves() {
+        return this.saves.queued();
+    }
+
+    /**
+     * Gets the number of user saves that have been attempted.
+     *
+     * @return The number of completed saves
+     */
+    public long completedSaves() {
+        return this.saves.completed();
+    }
+
+    /**
+     * Gets the average time between a user being snapshotted and their
+     * data being written.
+     *
+     * @return The average save latency
+     */
+    public Duration averageSaveLatency() {
+        return this.saves.averageLatency();
     }
 
     public @Nullable SpongeUserData userFromCache(final UUID uuid) {
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The user data writes that are queued or running. Writes of the same user
+ * run one after another, and a snapshot waiting to be written is replaced
+ * by a newer one rather than written twice.
+ */
+final class UserSaveQueue {
+
+    private final Executor executor;
+    private final Writer writer;
+    // The latest snapshot of each user that is waiting to be written, a newer one replaces it
+    private final Map<UUID, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+    // The last write scheduled for each user, writes of the same user run one after another
+    private final Map<UUID, CompletableFuture<Void>> saveTasks = new ConcurrentHashMap<>();
+    private final LongAdder completedSaves = new LongAdder();
+    private final LongAdder totalSaveNanos = new LongAdder();
+
+    UserSaveQueue(final Executor executor, final Writer writer) {
+        this.executor = executor;
+        this.writer = writer;
+    }
+
+    /**
+     * Queues a snapshot of a user to be written.
+     *
+     * @param uniqueId The user's unique id
+     * @param compound The snapshot to write
+     * @param onFailure Run if the snapshot could not be written
+     * @return A future completing once the snapshot has been written
+     */
+    CompletableFuture<Void> queue(final UUID uniqueId, final CompoundTag compound, final Runnable onFailure) {
+        final PendingSave save = new PendingSave(compound, System.nanoTime(), onFailure);
+        if (this.pendingSaves.put(uniqueId, save) != null) {
+            // The queued write hasn't started yet and will pick up this snapshot
+            final @Nullable CompletableFuture<Void> queued = this.saveTasks.get(uniqueId);
+            return queued == null ? CompletableFuture.completedFuture(null) : queued;
+        }
+        final CompletableFuture<Void> task = this.saveTasks.compute(uniqueId, (id, previous) -> previous == null
+                ? CompletableFuture.runAsync(() -> this.writePendingSave(id), this.executor)
+                : previous.exceptionally(e -> null).thenRunAsync(() -> this.writePendingSave(id), this.executor));
+        task.whenComplete((v, e) -> this.saveTasks.remove(uniqueId, task));
+        return task;
+    }
+
+    /**
+     * Blocks until every queued or running write of the given user has
+     * finished. Failed writes are not rethrown, they have been logged and
+     * reported already.
+     *
+     * @param uniqueId The user's unique id
+     */
+    void flush(final UUID uniqueId) {
+        final @Nullable CompletableFuture<Void> task = this.saveTasks.get(uniqueId);
+        if (task != null) {
+            task.exceptionally(e -> null).join();
+        }
+    }
+
+    /**
+     * Blocks until every queued write has finished.
+     */
+    void flushAll() {
+        CompletableFuture.allOf(this.saveTasks.values().toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    int queued() {
+        return this.pendingSaves.size();
+    }
+
+    long completed() {
+        return this.completedSaves.sum();
+    }
+
+    Duration averageLatency() {
+        final long completed = this.completedSaves.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalSaveNanos.sum() / completed);
+    }
+
+    private void writePendingSave(final UUID uniqueId) {
+        final @Nullable PendingSave save = this.pendingSaves.remove(uniqueId);
+        if (save == null) {
+            // Written along with an earlier request
+            return;
+        }
+        try {
+            this.writer.write(uniqueId, save.compound());
+        } catch (final IOException e) {
+            save.onFailure().run();
+            throw new CompletionException(e);
+        } finally {
+            this.completedSaves.increment();
+            this.totalSaveNanos.add(System.nanoTime() - save.queuedAt());
+        }
+    }
+
+    @FunctionalInterface
+    interface Writer {
+
+        void write(UUID uniqueId, CompoundTag compound) throws IOException;
+    }
+
+    private record PendingSave(CompoundTag compound, long queuedAt, Runnable onFailure) {
+    }
+}
@@ -155,6 +155,7 @@ public static final class V3 {
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
         public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        public static final String SPONGE_BLOCK_TRACKER_SECTIONS = "BlockTrackerSections";
 
         @Deprecated
         public static final String LEGACY_SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
@@ -40,22 +40,31 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public final class UsernameCache {
 
     private static final Charset CHARSET = StandardCharsets.UTF_8;
+    // Sorts before any character allowed in a username
+    private static final char SEPARATOR = '\0';
 
     private final Map<UUID, String> usernameByUniqueId;
+    // Keyed by the lower case name followed by the unique id, as several ids may have
+    // been known by the same name over time. All names with a prefix form a single range.
+    private final ConcurrentNavigableMap<String, UUID> uniqueIdByName;
     private final Gson gson;
     private final Path cacheFile;
     private boolean dirty = false;
 
     public UsernameCache(final Server server) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
+        this.uniqueIdByName = new ConcurrentSkipListMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
         this.cacheFile = server.game().gameDirectory().resolve("usernamecache.json");
     }
@@ -68,14 +77,22 @@ public void setUsername(final UUID uniqueId, final String username) {
             return;
         }
 
-        this.usernameByUniqueId.put(uniqueId, username);
+        this.usernameByUniqueId.compute(uniqueId, (id, previous) -> {
+            if (previous != null) {
+                this.uniqueIdByName.remove(UsernameCache.indexKey(previous, id));
+            }
+            this.uniqueIdByName.put(UsernameCache.indexKey(username, id), id);
+            return username;
+        });
         this.dirty = true;
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Objects.requireNonNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
+        final @Nullable String previous = this.usernameByUniqueId.remove(uniqueId);
+        if (previous != null) {
+            this.uniqueIdByName.remove(UsernameCache.indexKey(previous, uniqueId));
             this.dirty = true;
             return true;
         }
@@ -92,10 +109,10 @@ public boolean removeUsername(final UUID uniqueId) {
     public @Nullable UUID getLastKnownUUID(final String username) {
         Objects.requireNonNull(username);
 
-        for (Map.Entry<UUID, String> mapEntry : this.usernameByUniqueId.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
+        final String name = username.toLowerCase(Locale.ROOT) + UsernameCache.SEPARATOR;
+        final Map.@Nullable Entry<String, UUID> entry = this.uniqueIdByName.ceilingEntry(name);
+        if (entry != null && entry.getKey().startsWith(name)) {
+            return entry.getValue();
         }
 
         return null;
@@ -113,6 +130,7 @@ public Map<UUID, String> getAll() {
 
     public void load() {
         this.usernameByUniqueId.clear();
+        this.uniqueIdByName.clear();
 
         if (Files.notExists(this.cacheFile)) {
             return;
@@ -121,6 +139,7 @@ public void load() {
         try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
             final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
             this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
+            this.usernameByUniqueId.forEach((uniqueId, username) -> this.uniqueIdByName.put(UsernameCache.indexKey(username, uniqueId), uniqueId));
         } catch (final JsonSyntaxException e) {
             SpongeCommon.logger().error("Could not parse username cache file as valid json, deleting file", e);
             this.deleteCacheFile();
@@ -130,6 +149,10 @@ public void load() {
         }
     }
 
+    private static String indexKey(final String username, final UUID uniqueId) {
+        return username.toLowerCase(Locale.ROOT) + UsernameCache.SEPARATOR + uniqueId;
+    }
+
     private void deleteCacheFile() {
         try {
             Files.deleteIfExists(this.cacheFile);
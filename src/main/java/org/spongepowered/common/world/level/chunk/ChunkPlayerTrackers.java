@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The creator and notifier of tracked block positions in a chunk.
+ *
+ * <p>Positions are grouped by chunk section, each section maps the
+ * position within the section to the creator and notifier indexes packed
+ * into a long. An index of -1 means there is no creator or notifier, so
+ * a missing position reads as both being -1.</p>
+ */
+public final class ChunkPlayerTrackers {
+
+    public static final int NONE = -1;
+    private static final long ABSENT = ChunkPlayerTrackers.pack(ChunkPlayerTrackers.NONE, ChunkPlayerTrackers.NONE);
+
+    private static final String SECTION_Y = "Y";
+    private static final String POSITIONS = "Positions";
+    private static final String CREATORS = "Creators";
+    private static final String NOTIFIERS = "Notifiers";
+
+    // Every loaded chunk has one of these but few ever track a position, and
+    // those that do mostly keep them within a couple of sections, so the maps
+    // are created on first use and start small.
+    private static final int EXPECTED_SECTIONS = 4;
+    private static final int EXPECTED_POSITIONS = 2;
+
+    private @Nullable Int2ObjectMap<Short2LongOpenHashMap> sections;
+
+    public boolean isEmpty() {
+        if (this.sections == null) {
+            return true;
+        }
+        for (final Short2LongOpenHashMap section : this.sections.values()) {
+            if (!section.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(final BlockPos pos) {
+        final @Nullable Short2LongOpenHashMap section = this.existingSection(pos);
+        return section != null && section.containsKey(ChunkPlayerTrackers.localIndex(pos));
+    }
+
+    public int creator(final BlockPos pos) {
+        return ChunkPlayerTrackers.creator(this.get(pos));
+    }
+
+    public int notifier(final BlockPos pos) {
+        return ChunkPlayerTrackers.notifier(this.get(pos));
+    }
+
+    public void set(final BlockPos pos, final int creator, final int notifier) {
+        this.section(SectionPos.blockToSectionCoord(pos.getY())).put(ChunkPlayerTrackers.localIndex(pos), ChunkPlayerTrackers.pack(creator, notifier));
+    }
+
+    public void remove(final BlockPos pos) {
+        final @Nullable Short2LongOpenHashMap section = this.existingSection(pos);
+        if (section != null) {
+            section.remove(ChunkPlayerTrackers.localIndex(pos));
+        }
+    }
+
+    /**
+     * Writes the tracked positions, one entry per section holding parallel
+     * arrays of positions, creators and notifiers.
+     *
+     * @return The sections
+     */
+    public ListTag write() {
+        final ListTag list = new ListTag();
+        if (this.sections == null) {
+            return list;
+        }
+        for (final Int2ObjectMap.Entry<Short2LongOpenHashMap> entry : this.sections.int2ObjectEntrySet()) {
+            final Short2LongOpenHashMap section = entry.getValue();
+            if (section.isEmpty()) {
+                continue;
+            }
+            final int[] positions = new int[section.size()];
+            final int[] creators = new int[positions.length];
+            final int[] notifiers = new int[positions.length];
+            int i = 0;
+            for (final Short2LongMap.Entry position : section.short2LongEntrySet()) {
+                positions[i] = position.getShortKey();
+                creators[i] = ChunkPlayerTrackers.creator(position.getLongValue());
+                notifiers[i] = ChunkPlayerTrackers.notifier(position.getLongValue());
+                i++;
+            }
+            final CompoundTag tag = new CompoundTag();
+            tag.putInt(ChunkPlayerTrackers.SECTION_Y, entry.getIntKey());
+            tag.putIntArray(ChunkPlayerTrackers.POSITIONS, positions);
+            tag.putIntArray(ChunkPlayerTrackers.CREATORS, creators);
+            tag.putIntArray(ChunkPlayerTrackers.NOTIFIERS, notifiers);
+            list.add(tag);
+        }
+        return list;
+    }
+
+    public void read(final ListTag list) {
+        for (final Tag element : list) {
+            final CompoundTag tag = (CompoundTag) element;
+            final int[] positions = tag.getIntArray(ChunkPlayerTrackers.POSITIONS);
+            final int[] creators = tag.getIntArray(ChunkPlayerTrackers.CREATORS);
+            final int[] notifiers = tag.getIntArray(ChunkPlayerTrackers.NOTIFIERS);
+            if (creators.length != positions.length || notifiers.length != positions.length) {
+                continue;
+            }
+            final Short2LongOpenHashMap section = this.section(tag.getInt(ChunkPlayerTrackers.SECTION_Y));
+            for (int i = 0; i < positions.length; i++) {
+                if (creators[i] != ChunkPlayerTrackers.NONE || notifiers[i] != ChunkPlayerTrackers.NONE) {
+                    section.put((short) positions[i], ChunkPlayerTrackers.pack(creators[i], notifiers[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads positions written as the older table of packed block positions.
+     *
+     * @param list The table
+     */
+    public void readLegacy(final ListTag list) {
+        for (final Tag element : list) {
+            final CompoundTag data = (CompoundTag) element;
+            final int creator = data.contains("owner") ? data.getInt("owner") : ChunkPlayerTrackers.NONE;
+            final int notifier = data.contains("notifier") ? data.getInt("notifier") : ChunkPlayerTrackers.NONE;
+            if (creator == ChunkPlayerTrackers.NONE && notifier == ChunkPlayerTrackers.NONE) {
+                continue;
+            }
+            final BlockPos pos;
+            if (data.contains("pos")) {
+                final int packed = data.getShort("pos");
+                pos = new BlockPos(packed & 0xF, (packed >> 4) & 0xFF, (packed >> 12) & 0xF);
+            } else {
+                final int packed = data.getInt("ipos");
+                // The y coordinate is 24 bits, shift it to the top to restore the sign
+                pos = new BlockPos(packed & 0xF, (packed << 4) >> 8, (packed >> 28) & 0xF);
+            }
+            this.set(pos, creator, notifier);
+        }
+    }
+
+    private long get(final BlockPos pos) {
+        final @Nullable Short2LongOpenHashMap section = this.existingSection(pos);
+        return section == null ? ChunkPlayerTrackers.ABSENT : section.get(ChunkPlayerTrackers.localIndex(pos));
+    }
+
+    private @Nullable Short2LongOpenHashMap existingSection(final BlockPos pos) {
+        return this.sections == null ? null : this.sections.get(SectionPos.blockToSectionCoord(pos.getY()));
+    }
+
+    private Short2LongOpenHashMap section(final int sectionY) {
+        if (this.sections == null) {
+            this.sections = new Int2ObjectOpenHashMap<>(ChunkPlayerTrackers.EXPECTED_SECTIONS);
+        }
+        Short2LongOpenHashMap section = this.sections.get(sectionY);
+        if (section == null) {
+            section = new Short2LongOpenHashMap(ChunkPlayerTrackers.EXPECTED_POSITIONS);
+            section.defaultReturnValue(ChunkPlayerTrackers.ABSENT);
+            this.sections.put(sectionY, section);
+        }
+        return section;
+    }
+
+    private static short localIndex(final BlockPos pos) {
+        return (short) ((pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | pos.getX() & 15);
+    }
+
+    private static long pack(final int creator, final int notifier) {
+        return (long) creator << 32 | notifier & 0xFFFFFFFFL;
+    }
+
+    private static int creator(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int notifier(final long packed) {
+        return (int) packed;
+    }
+}
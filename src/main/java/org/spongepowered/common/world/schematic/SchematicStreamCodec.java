@@ -0,0 +1,589 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.mojang.datafixers.DataFixer;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NumericTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import net.minecraft.util.datafix.DataFixTypes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.biome.ByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Reads and writes Sponge schematics (version 3) directly between NBT
+ * streams and the backing buffers of a {@link SpongeArchetypeVolume}.
+ *
+ * <p>Unlike {@link SchematicTranslator}, the block and biome data arrays,
+ * which make up nearly all of a schematic, never exist as a byte array or a
+ * {@link DataView}: their palette ids are decoded from, or encoded to, the
+ * stream one varint at a time. The remaining, comparatively tiny, parts of
+ * the schematic (palettes, metadata, block entities and entities) are still
+ * handled through the translator so the two stay in agreement.</p>
+ *
+ * <p>Older schematic versions are handed over to the {@link SchematicTranslator}
+ * as they need to be upgraded as a whole. In turn, the translator reads
+ * version 3 schematics through this codec, so that schematics loaded through
+ * the data format and translator of the API decode their data the same way.
+ * Saving through the translator still builds a {@link DataView}, as that is
+ * what it has to return.</p>
+ */
+public final class SchematicStreamCodec {
+
+    private static final String SCHEMATIC = "Schematic";
+    private static final String VERSION = "Version";
+    private static final String DATA_VERSION = "DataVersion";
+    private static final String WIDTH = "Width";
+    private static final String HEIGHT = "Height";
+    private static final String LENGTH = "Length";
+    private static final String OFFSET = "Offset";
+    private static final String METADATA = "Metadata";
+    private static final String BLOCKS = "Blocks";
+    private static final String BIOMES = "Biomes";
+    private static final String PALETTE = "Palette";
+    private static final String DATA = "Data";
+    private static final String BLOCK_ENTITIES = "BlockEntities";
+    private static final String ENTITIES = "Entities";
+
+    private SchematicStreamCodec() {
+    }
+
+    public static Schematic read(final DataInput input) throws IOException {
+        return SchematicStreamCodec.parse(input).finish();
+    }
+
+    /**
+     * Reads a schematic from an already loaded compound. The block and biome
+     * data arrays are decoded straight into the buffers of the schematic.
+     *
+     * <p>The compound is not modified.</p>
+     */
+    public static Schematic read(final CompoundTag root) throws IOException {
+        return SchematicStreamCodec.parse(root).finish();
+    }
+
+    static Reader parse(final DataInput input) throws IOException {
+        if (input.readByte() != Tag.TAG_COMPOUND) {
+            throw new InvalidDataException("A schematic must be stored in a compound tag");
+        }
+        input.readUTF();
+        final Reader reader = new Reader();
+        reader.readBody(input, new CompoundTag());
+        return reader;
+    }
+
+    static Reader parse(final CompoundTag root) {
+        final Reader reader = new Reader();
+        reader.readTag(root.contains(SchematicStreamCodec.SCHEMATIC, Tag.TAG_COMPOUND)
+            ? root.getCompound(SchematicStreamCodec.SCHEMATIC)
+            : root);
+        return reader;
+    }
+
+    public static void write(final Schematic schematic, final DataOutput output) throws IOException {
+        final int xMin = schematic.min().x();
+        final int yMin = schematic.min().y();
+        final int zMin = schematic.min().z();
+        final int width = schematic.size().x();
+        final int height = schematic.size().y();
+        final int length = schematic.size().z();
+        if (width > Constants.Sponge.Schematic.MAX_SIZE || height > Constants.Sponge.Schematic.MAX_SIZE || length > Constants.Sponge.Schematic.MAX_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)", width,
+                height, length, Constants.Sponge.Schematic.MAX_SIZE
+            ));
+        }
+        final Set<String> requiredMods = new HashSet<>();
+
+        output.writeByte(Tag.TAG_COMPOUND);
+        output.writeUTF("");
+        output.writeByte(Tag.TAG_COMPOUND);
+        output.writeUTF(SchematicStreamCodec.SCHEMATIC);
+
+        output.writeByte(Tag.TAG_SHORT);
+        output.writeUTF(SchematicStreamCodec.WIDTH);
+        output.writeShort(width);
+        output.writeByte(Tag.TAG_SHORT);
+        output.writeUTF(SchematicStreamCodec.HEIGHT);
+        output.writeShort(height);
+        output.writeByte(Tag.TAG_SHORT);
+        output.writeUTF(SchematicStreamCodec.LENGTH);
+        output.writeShort(length);
+        output.writeByte(Tag.TAG_INT);
+        output.writeUTF(SchematicStreamCodec.VERSION);
+        output.writeInt(Constants.Sponge.Schematic.CURRENT_VERSION);
+        output.writeByte(Tag.TAG_INT);
+        output.writeUTF(SchematicStreamCodec.DATA_VERSION);
+        output.writeInt(SharedConstants.getCurrentVersion().getDataVersion().getVersion());
+        output.writeByte(Tag.TAG_INT_ARRAY);
+        output.writeUTF(SchematicStreamCodec.OFFSET);
+        output.writeInt(3);
+        output.writeInt(xMin);
+        output.writeInt(yMin);
+        output.writeInt(zMin);
+
+        if (schematic.blockPalette().highestId() != 0) {
+            output.writeByte(Tag.TAG_COMPOUND);
+            output.writeUTF(SchematicStreamCodec.BLOCKS);
+            final Palette.Mutable<BlockState, BlockType> palette = schematic.blockPalette().asMutable(Sponge.server());
+            final Reference2IntMap<BlockState> ids = new Reference2IntOpenHashMap<>();
+            SchematicStreamCodec.writeData(output, schematic.min(), schematic.size(),
+                (x, y, z) -> ids.computeIntIfAbsent(schematic.block(x, y, z), palette::orAssign));
+            SchematicStreamCodec.writePalette(output, palette, VolumeStreamUtils.nativeToSpongeRegistry(
+                SpongeCommon.server().registryAccess().registryOrThrow(Registries.BLOCK)),
+                BlockState::type, requiredMods);
+            final ListTag blockEntities = new ListTag();
+            for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : schematic.blockEntityArchetypes().entrySet()) {
+                blockEntities.add(NBTTranslator.INSTANCE.translate(
+                    SchematicTranslator.writeBlockEntity(entry.getKey(), entry.getValue(), xMin, yMin, zMin, requiredMods)));
+            }
+            SchematicStreamCodec.writeTag(output, SchematicStreamCodec.BLOCK_ENTITIES, blockEntities);
+            output.writeByte(Tag.TAG_END);
+        }
+
+        if (schematic.biomePalette().highestId() != 0) {
+            output.writeByte(Tag.TAG_COMPOUND);
+            output.writeUTF(SchematicStreamCodec.BIOMES);
+            final Palette.Mutable<Biome, Biome> palette = schematic.biomePalette().asMutable(Sponge.game());
+            final Reference2IntMap<Biome> ids = new Reference2IntOpenHashMap<>();
+            SchematicStreamCodec.writeData(output, schematic.min(), schematic.size(),
+                (x, y, z) -> ids.computeIntIfAbsent(schematic.biome(x, y, z), palette::orAssign));
+            SchematicStreamCodec.writePalette(output, palette, VolumeStreamUtils.nativeToSpongeRegistry(
+                SpongeCommon.server().registryAccess().registryOrThrow(Registries.BIOME)),
+                Function.identity(), requiredMods);
+            output.writeByte(Tag.TAG_END);
+        }
+
+        final ListTag entities = new ListTag();
+        for (final EntityArchetypeEntry entry : schematic.entityArchetypesByPosition()) {
+            entities.add(NBTTranslator.INSTANCE.translate(SchematicTranslator.writeEntity(entry, requiredMods)));
+        }
+        SchematicStreamCodec.writeTag(output, SchematicStreamCodec.ENTITIES, entities);
+
+        final DataContainer metadata = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        for (final DataQuery metaKey : schematic.metadata().keys(false)) {
+            metadata.set(metaKey, schematic.metadata().get(metaKey).get());
+        }
+        if (!requiredMods.isEmpty()) {
+            metadata.set(Constants.Sponge.Schematic.REQUIRED_MODS, requiredMods);
+        }
+        SchematicStreamCodec.writeTag(output, SchematicStreamCodec.METADATA, NBTTranslator.INSTANCE.translate(metadata));
+
+        output.writeByte(Tag.TAG_END);
+        output.writeByte(Tag.TAG_END);
+    }
+
+    private static void writeTag(final DataOutput output, final String name, final Tag tag) throws IOException {
+        output.writeByte(tag.getId());
+        output.writeUTF(name);
+        tag.write(output);
+    }
+
+    private static <T, P> void writePalette(final DataOutput output, final Palette.Mutable<T, P> palette,
+        final Registry<P> registry, final Function<T, P> parentGetter, final Set<String> requiredMods
+    ) throws IOException {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        SchematicTranslator.writePaletteToView(container, palette, registry, DataQuery.of(), parentGetter, requiredMods);
+        SchematicStreamCodec.writeTag(output, SchematicStreamCodec.PALETTE, NBTTranslator.INSTANCE.translate(container));
+    }
+
+    /**
+     * Writes the palette ids of every position as a byte array tag of
+     * varints, in schematic order. The ids are resolved twice, first to size
+     * the array and then to write it, rather than buffering the encoded data.
+     */
+    static void writeData(final DataOutput output, final Vector3i min, final Vector3i size, final IdLookup lookup)
+        throws IOException {
+        long byteLength = 0;
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    byteLength += SchematicStreamCodec.varIntSize(lookup.id(min.x() + x, min.y() + y, min.z() + z));
+                }
+            }
+        }
+        if (byteLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Schematic data is too large to be stored in a single byte array");
+        }
+        output.writeByte(Tag.TAG_BYTE_ARRAY);
+        output.writeUTF(SchematicStreamCodec.DATA);
+        output.writeInt((int) byteLength);
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    SchematicStreamCodec.writeVarInt(output, lookup.id(min.x() + x, min.y() + y, min.z() + z));
+                }
+            }
+        }
+    }
+
+    static int varIntSize(final int value) {
+        int size = 1;
+        int remaining = value;
+        while ((remaining & -128) != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    static void writeVarInt(final DataOutput output, final int value) throws IOException {
+        int id = value;
+        while ((id & -128) != 0) {
+            output.writeByte(id & 127 | 128);
+            id >>>= 7;
+        }
+        output.writeByte(id);
+    }
+
+    /**
+     * Decodes {@code byteLength} bytes of varints from the input, passing each
+     * value to the sink along with the index it would have in a buffer of the
+     * given size, whose indices are ordered x, then z, then y (which is the
+     * reverse of the schematic order the values are stored in).
+     */
+    static void readData(final DataInput input, final int byteLength, final int width, final int height, final int length,
+        final IdSink sink
+    ) throws IOException {
+        final int volume = width * height * length;
+        final int xStride = height * length;
+        int read = 0;
+        int count = 0;
+        int x = 0;
+        int y = 0;
+        int z = 0;
+        while (read < byteLength) {
+            int value = 0;
+            int varIntLength = 0;
+            byte current;
+            do {
+                if (read++ == byteLength) {
+                    throw new InvalidDataException("Schematic data ends in the middle of a VarInt");
+                }
+                current = input.readByte();
+                value |= (current & 127) << (varIntLength++ * 7);
+                if (varIntLength > 5) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                }
+            } while ((current & 128) == 128);
+            if (count++ == volume) {
+                throw new InvalidDataException("Schematic data holds more entries than its dimensions allow");
+            }
+            sink.accept(x * xStride + z * height + y, value);
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface IdLookup {
+
+        int id(int x, int y, int z);
+    }
+
+    @FunctionalInterface
+    interface IdSink {
+
+        void accept(int index, int id);
+    }
+
+    /**
+     * Holds the decoded ids of a block or biome container until the palette,
+     * which may appear after the data in the stream, is known.
+     */
+    static final class ContainerData {
+
+        final boolean blocks;
+        int maxId;
+        char @Nullable [] blockIds;
+        byte @Nullable [] biomeIds;
+        // Only kept when the data preceded the dimensions of the schematic
+        byte @Nullable [] raw;
+
+        ContainerData(final boolean blocks) {
+            this.blocks = blocks;
+        }
+
+        void read(final DataInput input, final int byteLength, final int width, final int height, final int length) throws IOException {
+            final int volume = width * height * length;
+            if (this.blocks) {
+                final char[] ids = new char[volume];
+                SchematicStreamCodec.readData(input, byteLength, width, height, length, (index, id) -> {
+                    if (id > Character.MAX_VALUE) {
+                        throw new InvalidDataException("Block palette id " + id + " is out of range");
+                    }
+                    ids[index] = (char) id;
+                    this.maxId = Math.max(this.maxId, id);
+                });
+                this.blockIds = ids;
+            } else {
+                final byte[] ids = new byte[volume];
+                SchematicStreamCodec.readData(input, byteLength, width, height, length, (index, id) -> {
+                    // Biome ids are stored as unsigned bytes
+                    if (id > 255) {
+                        throw new InvalidDataException("Biome palette id " + id + " is out of range");
+                    }
+                    ids[index] = (byte) id;
+                    this.maxId = Math.max(this.maxId, id);
+                });
+                this.biomeIds = ids;
+            }
+        }
+
+        /**
+         * Checks that every decoded id is known to the palette, which is only
+         * read once the whole container is.
+         */
+        void checkPalette(final Palette<?, ?> palette) {
+            if (this.maxId > palette.highestId()) {
+                throw new InvalidDataException((this.blocks ? "Block" : "Biome") + " palette id " + this.maxId
+                    + " is out of range of the palette (highest id: " + palette.highestId() + ")");
+            }
+        }
+
+        boolean isPresent() {
+            return this.blockIds != null || this.biomeIds != null || this.raw != null;
+        }
+    }
+
+    static final class Reader {
+
+        final NbtAccounter accounter = NbtAccounter.unlimitedHeap();
+        final ContainerData blocks = new ContainerData(true);
+        final ContainerData biomes = new ContainerData(false);
+        @Nullable CompoundTag body;
+        int width = -1;
+        int height = -1;
+        int length = -1;
+        boolean streamed;
+
+        void readBody(final DataInput input, final CompoundTag body) throws IOException {
+            if (this.body == null) {
+                this.body = body;
+            }
+            byte type;
+            while ((type = input.readByte()) != Tag.TAG_END) {
+                final String name = input.readUTF();
+                if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.SCHEMATIC.equals(name)) {
+                    // The actual schematic is wrapped, read it in place of the root
+                    final CompoundTag schematic = new CompoundTag();
+                    this.body = schematic;
+                    this.readBody(input, schematic);
+                } else if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.BLOCKS.equals(name)) {
+                    body.put(name, this.readContainer(input, this.blocks));
+                } else if (type == Tag.TAG_COMPOUND && SchematicStreamCodec.BIOMES.equals(name)) {
+                    body.put(name, this.readContainer(input, this.biomes));
+                } else {
+                    final Tag tag = TagTypes.getType(type).load(input, this.accounter);
+                    body.put(name, tag);
+                    if (tag instanceof final NumericTag numeric) {
+                        switch (name) {
+                            case SchematicStreamCodec.WIDTH -> this.width = numeric.getAsShort();
+                            case SchematicStreamCodec.HEIGHT -> this.height = numeric.getAsShort();
+                            case SchematicStreamCodec.LENGTH -> this.length = numeric.getAsShort();
+                            default -> {}
+                        }
+                    }
+                }
+            }
+        }
+
+        void readTag(final CompoundTag schematic) {
+            // Copied shallowly, so that the data arrays can be left out of the containers
+            final CompoundTag body = new CompoundTag();
+            for (final String name : schematic.getAllKeys()) {
+                final Tag tag = schematic.get(name);
+                if (tag instanceof final CompoundTag compound && SchematicStreamCodec.BLOCKS.equals(name)) {
+                    body.put(name, this.readContainer(compound, this.blocks));
+                } else if (tag instanceof final CompoundTag compound && SchematicStreamCodec.BIOMES.equals(name)) {
+                    body.put(name, this.readContainer(compound, this.biomes));
+                } else {
+                    body.put(name, tag);
+                }
+            }
+            this.body = body;
+            this.width = schematic.getShort(SchematicStreamCodec.WIDTH);
+            this.height = schematic.getShort(SchematicStreamCodec.HEIGHT);
+            this.length = schematic.getShort(SchematicStreamCodec.LENGTH);
+        }
+
+        private CompoundTag readContainer(final CompoundTag source, final ContainerData data) {
+            final CompoundTag container = new CompoundTag();
+            for (final String name : source.getAllKeys()) {
+                final Tag tag = source.get(name);
+                if (tag instanceof final ByteArrayTag bytes && SchematicStreamCodec.DATA.equals(name)) {
+                    // Decoded in finish() once the dimensions are known
+                    data.raw = bytes.getAsByteArray();
+                    this.streamed = true;
+                } else {
+                    container.put(name, tag);
+                }
+            }
+            return container;
+        }
+
+        private CompoundTag readContainer(final DataInput input, final ContainerData data) throws IOException {
+            final CompoundTag container = new CompoundTag();
+            byte type;
+            while ((type = input.readByte()) != Tag.TAG_END) {
+                final String name = input.readUTF();
+                if (type == Tag.TAG_BYTE_ARRAY && SchematicStreamCodec.DATA.equals(name)) {
+                    final int byteLength = input.readInt();
+                    if (this.width > 0 && this.height > 0 && this.length > 0) {
+                        data.read(input, byteLength, this.width, this.height, this.length);
+                    } else {
+                        final byte[] raw = new byte[byteLength];
+                        input.readFully(raw);
+                        data.raw = raw;
+                    }
+                    this.streamed = true;
+                } else {
+                    container.put(name, TagTypes.getType(type).load(input, this.accounter));
+                }
+            }
+            return container;
+        }
+
+        /**
+         * Decodes the data arrays that were kept raw, as they were read before
+         * the dimensions of the schematic were known.
+         */
+        void decodeData() throws IOException {
+            if (this.width <= 0 || this.height <= 0 || this.length <= 0) {
+                throw new InvalidDataException(String.format(
+                    "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
+                    this.width, this.height, this.length, Constants.Sponge.Schematic.MAX_SIZE
+                ));
+            }
+            for (final ContainerData data : new ContainerData[] {this.blocks, this.biomes}) {
+                if (data.raw != null) {
+                    data.read(new DataInputStream(new ByteArrayInputStream(data.raw)), data.raw.length, this.width, this.height, this.length);
+                    data.raw = null;
+                }
+            }
+        }
+
+        Schematic finish() throws IOException {
+            final CompoundTag body = this.body;
+            final int version = body.getInt(SchematicStreamCodec.VERSION);
+            if (version != Constants.Sponge.Schematic.CURRENT_VERSION) {
+                if (this.streamed) {
+                    throw new InvalidDataException("Schematic version " + version + " does not use block or biome containers");
+                }
+                return SchematicTranslator.get().translate(NBTTranslator.INSTANCE.translate(body));
+            }
+            this.decodeData();
+
+            final int dataVersion = body.getInt(SchematicStreamCodec.DATA_VERSION);
+            final @Nullable DataFixer fixer = SchematicTranslator.vanillaFixer();
+            final boolean needsFixers = dataVersion < SharedConstants.getCurrentVersion().getDataVersion().getVersion() && fixer != null;
+            final DataView view = NBTTranslator.INSTANCE.translate(needsFixers
+                ? DataFixTypes.CHUNK.updateToCurrentVersion(fixer, body, dataVersion)
+                : body);
+
+            final int[] offsetArray = (int[]) view.get(Constants.Sponge.Schematic.OFFSET).orElse(new int[3]);
+            if (offsetArray.length != 3) {
+                throw new InvalidDataException("Schematic offset was not of length 3");
+            }
+            final Vector3i offset = new Vector3i(offsetArray[0], offsetArray[1], offsetArray[2]);
+            final Vector3i size = new Vector3i(this.width, this.height, this.length);
+
+            final @Nullable DataView blocksView = view.getView(Constants.Sponge.Schematic.BLOCK_CONTAINER).orElse(null);
+            final ArrayMutableBlockBuffer blocks;
+            if (blocksView != null && this.blocks.isPresent()) {
+                final MutableBimapPalette<BlockState, BlockType> palette = SchematicTranslator.readBlockPalette(blocksView);
+                this.blocks.checkPalette(palette);
+                blocks = new ArrayMutableBlockBuffer(palette, offset, size, this.blocks.blockIds);
+            } else {
+                blocks = new ArrayMutableBlockBuffer(offset, size);
+            }
+            final @Nullable DataView biomesView = view.getView(Constants.Sponge.Schematic.BIOME_CONTAINER).orElse(null);
+            final ByteArrayMutableBiomeBuffer biomes;
+            if (biomesView != null && this.biomes.isPresent()) {
+                final MutableBimapPalette<Biome, Biome> palette = SchematicTranslator.readBiomePalette(biomesView);
+                this.biomes.checkPalette(palette);
+                biomes = new ByteArrayMutableBiomeBuffer(palette, this.biomes.biomeIds, offset, size);
+            } else {
+                biomes = new ByteArrayMutableBiomeBuffer(PaletteTypes.BIOME_PALETTE.get().create(Sponge.server(), RegistryTypes.BIOME), offset, size);
+            }
+
+            final SpongeArchetypeVolume archetypeVolume = new SpongeArchetypeVolume(blocks, biomes);
+            if (blocksView != null) {
+                SchematicTranslator.readBlockEntities(blocksView, archetypeVolume, offset, needsFixers);
+            }
+            SchematicTranslator.readEntities(view, archetypeVolume);
+
+            final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
+            SchematicTranslator.readMetadata(view, builder);
+            builder.volume(archetypeVolume);
+            return builder.build();
+        }
+    }
+}
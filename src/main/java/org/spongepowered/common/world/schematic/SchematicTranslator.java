@@ -106,11 +106,16 @@ public TypeToken<Schematic> token() {
         return SchematicTranslator.TYPE_TOKEN;
     }
 
-    @Override
-    public Schematic translate(final DataView unprocessed) throws InvalidDataException {
+    static @Nullable DataFixer vanillaFixer() {
         if (SchematicTranslator.VANILLA_FIXER == null) {
             SchematicTranslator.VANILLA_FIXER = SpongeCommon.server().getFixerUpper();
         }
+        return SchematicTranslator.VANILLA_FIXER;
+    }
+
+    @Override
+    public Schematic translate(final DataView unprocessed) throws InvalidDataException {
+        SchematicTranslator.vanillaFixer();
         final DataView schematicView = unprocessed.getView(Constants.Sponge.Schematic.SCHEMATIC)
             .orElse(unprocessed);
         final int version = schematicView.getInt(Constants.Sponge.Schematic.VERSION).get();
@@ -120,6 +125,13 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
                 String.format("Unknown schematic version %d (current version is %d)", version,
                     Constants.Sponge.Schematic.CURRENT_VERSION
                 ));
+        } else if (version == Constants.Sponge.Schematic.CURRENT_VERSION) {
+            // Decodes the block and biome data straight into the schematic buffers
+            try {
+                return SchematicStreamCodec.read(NBTTranslator.INSTANCE.translate(schematicView));
+            } catch (final IOException e) {
+                throw new InvalidDataException("Could not read schematic", e);
+            }
         } else if (version == 1) {
             SchematicTranslator.V2_TO_3.update(SchematicTranslator.V1_TO_2.update(schematicView));
         } else if (version == 2) {
@@ -141,34 +153,7 @@ public Schematic translate(final DataView unprocessed) throws InvalidDataExcepti
         }
 
         final SpongeSchematicBuilder builder = new SpongeSchematicBuilder();
-        final Optional<DataView> metadataView = updatedView.getView(Constants.Sponge.Schematic.METADATA);
-        metadataView.ifPresent(metadata -> {
-            metadata.getView(DataQuery.of(".")).ifPresent(data -> {
-                for (final DataQuery key : data.keys(false)) {
-                    if (!metadata.contains(key)) {
-                        metadata.set(key, data.get(key).get());
-                    }
-                }
-            });
-            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
-            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
-                for (final String modId : mods) {
-                    if (!Sponge.pluginManager().plugin(modId).isPresent()) {
-                        if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
-                            SpongeCommon.logger().warn(
-                                "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
-                                schematicName, modId
-                            );
-                        }
-                    }
-                }
-            });
-            final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-            for (final DataQuery key : metadata.keys(false)) {
-                meta.set(key, metadata.get(key).get());
-            }
-            builder.metadata(meta);
-        });
+        SchematicTranslator.readMetadata(updatedView, builder);
 
         final int width = updatedView.getShort(Constants.Sponge.Schematic.WIDTH)
             .orElseThrow(() -> new InvalidDataException("Missing value for: " + Constants.Sponge.Schematic.WIDTH));
@@ -210,6 +195,44 @@ offset, new Vector3i(width, height, length),
 
 
 
+        SchematicTranslator.readEntities(updatedView, archetypeVolume);
+
+        builder.volume(archetypeVolume);
+        return builder.build();
+    }
+
+    static void readMetadata(final DataView updatedView, final SpongeSchematicBuilder builder) {
+        final Optional<DataView> metadataView = updatedView.getView(Constants.Sponge.Schematic.METADATA);
+        metadataView.ifPresent(metadata -> {
+            metadata.getView(DataQuery.of(".")).ifPresent(data -> {
+                for (final DataQuery key : data.keys(false)) {
+                    if (!metadata.contains(key)) {
+                        metadata.set(key, data.get(key).get());
+                    }
+                }
+            });
+            final String schematicName = metadata.getString(Constants.Sponge.Schematic.NAME).orElse("unknown");
+            metadata.getStringList(Constants.Sponge.Schematic.REQUIRED_MODS).ifPresent(mods -> {
+                for (final String modId : mods) {
+                    if (!Sponge.pluginManager().plugin(modId).isPresent()) {
+                        if (SchematicTranslator.MISSING_MOD_IDS.add(modId)) {
+                            SpongeCommon.logger().warn(
+                                "When attempting to load the Schematic: {} there is a missing modid {} some blocks/tiles/entities may not load correctly.",
+                                schematicName, modId
+                            );
+                        }
+                    }
+                }
+            });
+            final DataContainer meta = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+            for (final DataQuery key : metadata.keys(false)) {
+                meta.set(key, metadata.get(key).get());
+            }
+            builder.metadata(meta);
+        });
+    }
+
+    static void readEntities(final DataView updatedView, final SpongeArchetypeVolume archetypeVolume) {
         updatedView.getViewList(Constants.Sponge.Schematic.ENTITIES)
             .map(List::stream)
             .orElse(Stream.of())
@@ -221,9 +244,6 @@ offset, new Vector3i(width, height, length),
             .filter(Optional::isPresent)
             .map(Optional::get)
             .forEach(archetypeVolume::addEntity);
-
-        builder.volume(archetypeVolume);
-        return builder.build();
     }
 
     private static Function<DataView, Optional<EntityArchetypeEntry>> deserializeEntityArchetype() {
@@ -282,6 +302,18 @@ private static void deserializeBlockContainer(
         final Vector3i offset,
         final boolean needsFixers
     ) {
+        final MutableBimapPalette<BlockState, BlockType> palette = SchematicTranslator.readBlockPalette(view);
+
+        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
+            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+        SchematicTranslator.readByteArrayData(
+            width, (width * length), offset, palette, blockData, archetypeVolume,
+            BlockVolume.Modifiable::setBlock
+        );
+        SchematicTranslator.readBlockEntities(view, archetypeVolume, offset, needsFixers);
+    }
+
+    static MutableBimapPalette<BlockState, BlockType> readBlockPalette(final DataView view) {
         final MutableBimapPalette<BlockState, BlockType> palette;
         final DataView paletteMap = view.getView(Constants.Sponge.Schematic.BLOCK_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BlockPalette as required by Schematic Specification"));
@@ -301,13 +333,12 @@ private static void deserializeBlockContainer(
                 .orElseThrow(() -> new IllegalStateException("Somehow got a missing biome in the palette map for schematic"))
             );
         }
+        return palette;
+    }
 
-        final byte[] blockData = (byte[]) view.get(Constants.Sponge.Schematic.BLOCK_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, palette, blockData, archetypeVolume,
-            BlockVolume.Modifiable::setBlock
-        );
+    static void readBlockEntities(final DataView view, final SpongeArchetypeVolume archetypeVolume, final Vector3i offset,
+        final boolean needsFixers
+    ) {
         view.getViewList(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER)
             .ifPresent(tileData ->
                 tileData.forEach(
@@ -322,6 +353,16 @@ private static void deserializeBiomeContainer(
         final int length,
         final Vector3i offset
     ) {
+        final MutableBimapPalette<Biome, Biome> biomePalette = SchematicTranslator.readBiomePalette(view);
+        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
+            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
+        SchematicTranslator.readByteArrayData(
+            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
+            BiomeVolume.Modifiable::setBiome
+        );
+    }
+
+    static MutableBimapPalette<Biome, Biome> readBiomePalette(final DataView view) {
         final MutableBimapPalette<Biome, Biome> biomePalette;
         final DataView biomeMap = view.getView(Constants.Sponge.Schematic.BIOME_PALETTE)
             .orElseThrow(() -> new InvalidDataException("Missing BiomePalette as required by the schematic spec"));
@@ -340,12 +381,7 @@ private static void deserializeBiomeContainer(
             final Biome biome = biomeRegistry.findValue(key).get();
             biomePalette.assign(biome, biomeMap.getInt(biomeKey).get());
         }
-        final byte[] biomeData = (byte[]) view.get(Constants.Sponge.Schematic.BIOME_DATA)
-            .orElseThrow(() -> new InvalidDataException("Missing BlockData for Schematic"));
-        SchematicTranslator.readByteArrayData(
-            width, (width * length), offset, biomePalette, biomeData, archetypeVolume,
-            BiomeVolume.Modifiable::setBiome
-        );
+        return biomePalette;
     }
 
 
@@ -461,22 +497,9 @@ public DataView addTo(final Schematic schematic, final DataView data) {
                 requiredMods
             );
 
-            final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream().map(entry -> {
-                final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-                final Vector3i pos = entry.getKey();
-                final BlockEntityArchetype archetype = entry.getValue();
-                final DataContainer entityData = archetype.blockEntityData();
-                final int[] apos = new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin};
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
-                container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
-                final ResourceKey key = archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE);
-                container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.asString());
-                final String namespace = key.namespace();
-                if (!ResourceKey.MINECRAFT_NAMESPACE.equals(namespace)) {
-                    requiredMods.add(namespace);
-                }
-                return container;
-            }).collect(Collectors.toList());
+            final List<DataView> blockEntities = schematic.blockEntityArchetypes().entrySet().stream()
+                .map(entry -> SchematicTranslator.writeBlockEntity(entry.getKey(), entry.getValue(), xMin, yMin, zMin, requiredMods))
+                .collect(Collectors.toList());
 
             blockData.set(Constants.Sponge.Schematic.BLOCKENTITY_CONTAINER, blockEntities);
 
@@ -514,23 +537,9 @@ public DataView addTo(final Schematic schematic, final DataView data) {
             );
         }
 
-        final List<DataView> entities = schematic.entityArchetypesByPosition().stream().map(entry -> {
-            final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
-
-            final List<Double> entityPosition = new ArrayList<>();
-            entityPosition.add(entry.position().x());
-            entityPosition.add(entry.position().y());
-            entityPosition.add(entry.position().z());
-            container.set(Constants.Sponge.Schematic.ENTITIES_POS, entityPosition);
-            final ResourceKey key = entry.archetype().type().key(RegistryTypes.ENTITY_TYPE);
-            if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
-                requiredMods.add(key.namespace());
-            }
-            container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.toString());
-            final DataContainer entityData = entry.archetype().entityData();
-            container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
-            return container;
-        }).collect(Collectors.toList());
+        final List<DataView> entities = schematic.entityArchetypesByPosition().stream()
+            .map(entry -> SchematicTranslator.writeEntity(entry, requiredMods))
+            .collect(Collectors.toList());
 
         data.set(Constants.Sponge.Schematic.ENTITIES, entities);
 
@@ -541,7 +550,42 @@ public DataView addTo(final Schematic schematic, final DataView data) {
         return data;
     }
 
-    private static <T, P> void writePaletteToView(
+    static DataContainer writeBlockEntity(final Vector3i pos, final BlockEntityArchetype archetype, final int xMin, final int yMin,
+        final int zMin, final Set<String> requiredMods
+    ) {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        final DataContainer entityData = archetype.blockEntityData();
+        final int[] apos = new int[]{pos.x() - xMin, pos.y() - yMin, pos.z() - zMin};
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_POS, apos);
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
+        final ResourceKey key = archetype.blockEntityType().key(RegistryTypes.BLOCK_ENTITY_TYPE);
+        container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.asString());
+        final String namespace = key.namespace();
+        if (!ResourceKey.MINECRAFT_NAMESPACE.equals(namespace)) {
+            requiredMods.add(namespace);
+        }
+        return container;
+    }
+
+    static DataContainer writeEntity(final EntityArchetypeEntry entry, final Set<String> requiredMods) {
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+
+        final List<Double> entityPosition = new ArrayList<>();
+        entityPosition.add(entry.position().x());
+        entityPosition.add(entry.position().y());
+        entityPosition.add(entry.position().z());
+        container.set(Constants.Sponge.Schematic.ENTITIES_POS, entityPosition);
+        final ResourceKey key = entry.archetype().type().key(RegistryTypes.ENTITY_TYPE);
+        if (!ResourceKey.MINECRAFT_NAMESPACE.equals(key.namespace())) {
+            requiredMods.add(key.namespace());
+        }
+        container.set(Constants.Sponge.Schematic.ENTITIES_ID, key.toString());
+        final DataContainer entityData = entry.archetype().entityData();
+        container.set(Constants.Sponge.Schematic.BLOCKENTITY_DATA, entityData);
+        return container;
+    }
+
+    static <T, P> void writePaletteToView(
         final DataView view,
         final Palette.Mutable<T, P> palette,
         final Registry<P> parentRegistryType,
@@ -75,7 +75,6 @@
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.LoadWorldEvent;
 import org.spongepowered.api.event.world.UnloadWorldEvent;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
@@ -105,12 +104,10 @@
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -120,10 +117,10 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public abstract class SpongeWorldManager implements WorldManager {
@@ -132,8 +129,12 @@ public abstract class SpongeWorldManager implements WorldManager {
     private final Path defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
 
+    private final Map<net.minecraft.resources.ResourceKey<Level>, WorldLoadFuture> pendingLoads = new ConcurrentHashMap<>();
+
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
 
+    private final WorldLoadDriver loadDriver = new WorldLoadDriver(SpongeWorldManager.SPAWN_CHUNKS);
+
     public SpongeWorldManager(final MinecraftServer server) {
         this.server = server;
         this.defaultWorldDirectory = ((LevelStorageSource_LevelStorageAccessAccessor) ((MinecraftServerAccessor) this.server).accessor$storageSource()).accessor$levelDirectory().path();
@@ -294,25 +295,115 @@ public CompletableFuture<ServerWorld> loadWorld(final ResourceKey key) {
     }
 
     private CompletableFuture<ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey, final LevelStem levelStem) {
+        final @Nullable WorldLoadFuture pendingLoad = this.pendingLoads.get(registryKey);
+        if (pendingLoad != null) {
+            return pendingLoad;
+        }
+
         final ResourceKey worldKey = (ResourceKey) (Object) registryKey.location();
         final DimensionType dimensionType = levelStem.type().value();
         final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(dimensionType);
 
         MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey.map(ResourceKey::toString).orElse("inline"));
 
+        final WorldLoadFuture future = new WorldLoadFuture(worldKey);
         final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
         final ServerLevel world;
         try {
-            world = this.createNonDefaultLevel(registryKey, levelStem, worldKey, worldTypeKey.orElse(null), chunkStatusListener);
+            // The level is only added to the server once it is ready, until then its chunks are driven by the load itself
+            world = this.createNonDefaultLevel(registryKey, levelStem, worldKey, worldTypeKey.orElse(null), chunkStatusListener, false);
         } catch (final IOException e) {
             return FutureUtil.completedWithException(new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e));
         }
+        this.pendingLoads.put(registryKey, future);
+
+        final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
+        final PrimaryLevelDataBridge levelDataBridge = (PrimaryLevelDataBridge) levelData;
+        final boolean isInitialized = levelData.isInitialized();
+
+        // Spawn search and preparation run off the main thread, their chunk requests are served by the
+        // load driver. Only adding the world to the server happens on the main thread.
+        final Executor async = SpongeCommon.asyncScheduler().executor(Launch.instance().platformPlugin());
+        this.loadDriver.start(world);
+        final CompletableFuture<ServerLevel> prepared;
+        if (!levelDataBridge.bridge$performsSpawnLogic()) {
+            prepared = CompletableFuture.supplyAsync(() -> {
+                future.enter(WorldLoadFuture.Stage.INITIALIZE);
+                return this.prepareWorld(world, false);
+            }, async);
+        } else {
+            // Generate the area around the expected spawn in parallel first, so the
+            // initial spawn placement finds its chunks loaded.
+            prepared = CompletableFuture.supplyAsync(() -> {
+                future.enter(WorldLoadFuture.Stage.GENERATE_SPAWN_AREA);
+                return isInitialized || levelDataBridge.bridge$customSpawnPosition()
+                        ? new ChunkPos(world.getSharedSpawnPos())
+                        : new ChunkPos(world.getChunkSource().randomState().sampler().findSpawnPosition());
+            }, async).thenCompose(expectedSpawn -> this.loadDriver.loadSpawnArea(world, expectedSpawn, future)
+                .thenApplyAsync(w -> {
+                    future.enter(WorldLoadFuture.Stage.INITIALIZE);
+                    return this.prepareWorld(w, false);
+                }, async)
+                .thenCompose(w -> {
+                    future.enter(WorldLoadFuture.Stage.LOAD_SPAWN_AREA);
+                    final ChunkPos spawn = new ChunkPos(w.getSharedSpawnPos());
+                    if (spawn.equals(expectedSpawn)) {
+                        return CompletableFuture.completedFuture(w);
+                    }
+                    return this.loadDriver.loadSpawnArea(w, spawn, future).thenApplyAsync(w2 -> {
+                        w2.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, expectedSpawn, WorldLoadDriver.SPAWN_AREA_RADIUS + 1,
+                                w2.dimension().location());
+                        return w2;
+                    }, this.server);
+                }));
+        }
+
+        prepared.whenCompleteAsync((w, throwable) -> {
+            this.loadDriver.stop(world);
+            this.pendingLoads.remove(registryKey);
+            if (throwable != null) {
+                this.failLoad(future, world, throwable);
+                return;
+            }
+            future.enter(WorldLoadFuture.Stage.PUBLISH);
+            this.worlds.put(registryKey, w);
+            try {
+                ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
+                this.updateForcedChunks(w, w.getChunkSource());
+                this.fireLoadWorldEvent(w, isInitialized);
+            } catch (final Throwable e) {
+                // Never leave a world on the server whose load reported a failure
+                this.worlds.remove(registryKey);
+                this.failLoad(future, world, e);
+                return;
+            }
+            future.enter(WorldLoadFuture.Stage.DONE);
+
+            MinecraftServerAccessor.accessor$LOGGER().info("Done loading world '{}' ({}) in {} ms", worldKey,
+                    worldTypeKey.map(ResourceKey::toString).orElse("inline"), future.elapsed().toMillis());
+            future.complete((ServerWorld) w);
+        }, this.server);
+        return future;
+    }
+
+    private void failLoad(final WorldLoadFuture future, final ServerLevel world, final Throwable throwable) {
+        future.enter(WorldLoadFuture.Stage.DONE);
+        try {
+            world.close();
+        } catch (final IOException e) {
+            throwable.addSuppressed(e);
+        }
+        future.completeExceptionally(throwable);
+    }
 
-        return SpongeCommon.asyncScheduler().submit(() -> this.prepareWorld(world)).thenApply(w -> {
-                    ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
-                    return w;
-                }).thenCompose(w -> this.postWorldLoad(world, false))
-                  .thenApply(w -> (ServerWorld) w);
+    /**
+     * Gets the load of the given world, while it is being loaded.
+     *
+     * @param key The key of the world
+     * @return The load, if the world is being loaded
+     */
+    public Optional<WorldLoadFuture> pendingLoad(final ResourceKey key) {
+        return Optional.ofNullable(this.pendingLoads.get(SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"))));
     }
 
     private LevelStorageSource.LevelStorageAccess getLevelStorageAccess(final ResourceKey worldKey) throws IOException {
@@ -482,8 +573,11 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         boolean disableLevelSaving = false;
 
         if (loadedWorld != null) {
+            // The copy runs while the world is still loaded, flush everything to disk
+            // and keep the world from saving again until the copy is done so that
+            // region files aren't written to while being copied
             disableLevelSaving = loadedWorld.noSave;
-            loadedWorld.save(null, true, loadedWorld.noSave);
+            loadedWorld.save(null, true, false);
             loadedWorld.noSave = true;
         }
 
@@ -491,75 +585,49 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
 
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
+        final boolean restoreLevelSaving = disableLevelSaving;
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        return WorldCopier.copy(originalDirectory, copyDirectory, dir -> {
+                    final String directoryName = dir.getFileName().toString();
                     // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
+                    if (directoryName.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                        return false;
                     }
-
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    return !isDefaultWorld || !this.isVanillaSubWorld(directoryName);
+                }, file -> {
                     final String fileName = file.getFileName().toString();
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
-
-                    return FileVisitResult.CONTINUE;
+                    return !fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) && !fileName.equals(Constants.World.LEVEL_DAT_OLD);
+                })
+            .handleAsync((v, throwable) -> {
+                if (loadedWorld != null) {
+                    loadedWorld.noSave = restoreLevelSaving;
+                }
+                if (throwable != null) {
+                    // Bail the whole deal if we hit IO problems!
+                    WorldCopier.executor().execute(() -> {
+                        try {
+                            Files.walkFileTree(copyDirectory, DeleteFileVisitor.INSTANCE);
+                        } catch (final IOException ignore) {
+                        }
+                    });
+                    throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(throwable);
                 }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
-            try {
-                Files.walkFileTree(copyDirectory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException ignore) {
-            }
-
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path copyConfigFile = this.getConfigFile(copyKey);
 
-        try {
-            Files.createDirectories(copyConfigFile.getParent());
-            Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                final Path configFile = this.getConfigFile(key);
+                final Path copyConfigFile = this.getConfigFile(copyKey);
 
-        try {
-            this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                try {
+                    Files.createDirectories(copyConfigFile.getParent());
+                    Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                    this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
+                } catch (final IOException e) {
+                    throw new CompletionException(e);
+                }
 
-        return CompletableFuture.completedFuture(true);
+                return true;
+            }, this.server);
     }
 
     @Override
@@ -590,30 +658,19 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
 
-        try {
-            Files.createDirectories(movedDirectory);
-            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        final Path configFile = this.getConfigFile(key);
-        final Path movedConfigFile = this.getConfigFile(movedKey);
-
-        try {
-            Files.createDirectories(movedConfigFile.getParent());
-            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        return WorldCopier.move(originalDirectory, movedDirectory).thenApplyAsync(v -> {
+            final Path configFile = this.getConfigFile(key);
+            final Path movedConfigFile = this.getConfigFile(movedKey);
 
-        try {
-            this.server().dataPackManager().move(this.findPack(key), key, movedKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+            try {
+                Files.createDirectories(movedConfigFile.getParent());
+                Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                this.server().dataPackManager().move(this.findPack(key), key, movedKey);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }, this.server);
     }
 
     @Override
@@ -732,14 +789,14 @@ public void loadLevel() {
                 ((ResourceKeyBridge) levelData).bridge$setKey(((ResourceKey) (Object) registryKey.location()));
                 final List<CustomSpawner> spawners = ImmutableList.of(new PhantomSpawner(), new PatrolSpawner(), new CatSpawner(), new VillageSiege(), new WanderingTraderSpawner(levelData));
 
-                final ServerLevel world = this.createLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), storageSource, levelData, spawners, chunkStatusListener);
+                final ServerLevel world = this.createLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), storageSource, levelData, spawners, chunkStatusListener, true);
 
                 // Ensure that the world border is registered.
                 world.getWorldBorder().applySettings(levelData.getWorldBorder());
                 this.prepareWorld(world);
             } else {
                 try {
-                    final ServerLevel world = this.createNonDefaultLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), chunkStatusListener);
+                    final ServerLevel world = this.createNonDefaultLevel(registryKey, template, worldKey, worldTypeKey.orElse(null), chunkStatusListener, true);
                     // Ensure that the world border is registered.
                     world.getWorldBorder().applySettings(((PrimaryLevelData) world.getLevelData()).getWorldBorder());
                     this.prepareWorld(world);
@@ -754,11 +811,7 @@ public void loadLevel() {
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
         for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
-            }
+            this.postWorldLoad(entry.getValue());
         }
 
         ((SpongeUserManager) Sponge.server().userManager()).init();
@@ -804,7 +857,8 @@ private ServerLevel createNonDefaultLevel(
             final LevelStem levelStem,
             final ResourceKey worldKey,
             @Nullable final ResourceKey worldTypeKey,
-            final ChunkProgressListener chunkStatusListener) throws IOException {
+            final ChunkProgressListener chunkStatusListener,
+            final boolean publish) throws IOException {
         final String directoryName = this.getDirectoryName(worldKey);
         final LevelStorageSource.LevelStorageAccess storageSource = this.getLevelStorageAccess(worldKey);
         Dynamic<?> dataTag;
@@ -815,7 +869,7 @@ private ServerLevel createNonDefaultLevel(
         }
         final PrimaryLevelData levelData = this.getOrCreateLevelData(dataTag, levelStem, directoryName);
         ((ResourceKeyBridge) levelData).bridge$setKey(worldKey);
-        return this.createLevel(registryKey, levelStem, worldKey, worldTypeKey, storageSource, levelData, ImmutableList.of(), chunkStatusListener);
+        return this.createLevel(registryKey, levelStem, worldKey, worldTypeKey, storageSource, levelData, ImmutableList.of(), chunkStatusListener, publish);
     }
 
     private ServerLevel createLevel(
@@ -826,7 +880,8 @@ private ServerLevel createLevel(
             final LevelStorageSource.LevelStorageAccess storageSource,
             final PrimaryLevelData levelData,
             final List<CustomSpawner> spawners,
-            final ChunkProgressListener chunkStatusListener) {
+            final ChunkProgressListener chunkStatusListener,
+            final boolean publish) {
 
         ((PrimaryLevelDataBridge) levelData).bridge$populateFromLevelStem(levelStem);
 
@@ -839,12 +894,18 @@ private ServerLevel createLevel(
         final Executor executor = ((MinecraftServerAccessor) this.server).accessor$executor();
         final ServerLevel world = new ServerLevel(this.server, executor, storageSource, levelData,
                 registryKey, levelStem, chunkStatusListener, levelData.isDebugWorld(), seed, spawners, true, null);
-        this.worlds.put(registryKey, world);
+        if (publish) {
+            this.worlds.put(registryKey, world);
+        }
 
         return world;
     }
 
     private ServerLevel prepareWorld(final ServerLevel world) {
+        return this.prepareWorld(world, true);
+    }
+
+    private ServerLevel prepareWorld(final ServerLevel world, final boolean fireLoadEvent) {
         final boolean isDefaultWorld = Level.OVERWORLD.equals(world.dimension());
         final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
         final PrimaryLevelDataBridge levelDataBridge = (PrimaryLevelDataBridge) levelData;
@@ -858,9 +919,9 @@ private ServerLevel prepareWorld(final ServerLevel world) {
 
         final boolean isInitialized = levelData.isInitialized();
 
-        final LoadWorldEvent loadWorldEvent = SpongeEventFactory.createLoadWorldEvent(PhaseTracker.getCauseStackManager().currentCause(), (ServerWorld) world, isInitialized);
-        SpongeCommon.post(loadWorldEvent);
-        PlatformHooks.INSTANCE.getWorldHooks().postLoadWorld(world);
+        if (fireLoadEvent) {
+            this.fireLoadWorldEvent(world, isInitialized);
+        }
 
         levelDataBridge.bridge$triggerViewDistanceLogic();
 
@@ -911,66 +972,27 @@ private ServerLevel prepareWorld(final ServerLevel world) {
         return world;
     }
 
-    private CompletableFuture<ServerLevel> postWorldLoad(final ServerLevel world, final boolean blocking) {
+    private void fireLoadWorldEvent(final ServerLevel world, final boolean isInitialized) {
+        final LoadWorldEvent loadWorldEvent = SpongeEventFactory.createLoadWorldEvent(PhaseTracker.getCauseStackManager().currentCause(), (ServerWorld) world, isInitialized);
+        SpongeCommon.post(loadWorldEvent);
+        PlatformHooks.INSTANCE.getWorldHooks().postLoadWorld(world);
+    }
+
+    private void postWorldLoad(final ServerLevel world) {
         final PrimaryLevelData levelData = (PrimaryLevelData) world.getLevelData();
         final PrimaryLevelDataBridge levelBridge = (PrimaryLevelDataBridge) levelData;
         if (Level.OVERWORLD.equals(world.dimension()) || levelBridge.bridge$performsSpawnLogic()) {
             final Optional<ResourceKey> worldTypeKey = this.worldTypeKey(world.dimensionType());
             MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
                     worldTypeKey.map(ResourceKey::toString).orElse("inline"));
-            if (blocking) {
-                this.loadSpawnChunks(world);
-                return CompletableFuture.completedFuture(world); // Chunk are generated
-            } else {
-                return this.loadSpawnChunksAsync(world); // Chunks are NOT generated yet BUT will be when the future returns
-            }
+            this.loadSpawnChunks(world);
         }
-        return CompletableFuture.completedFuture(world); // Chunks are NOT generated AND will not generate unless prompted
     }
 
     private Optional<ResourceKey> worldTypeKey(final DimensionType type) {
         return Optional.ofNullable(SpongeCommon.vanillaRegistry(Registries.DIMENSION_TYPE).getKey(type)).map(ResourceKey.class::cast);
     }
 
-    private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel world) {
-
-        final BlockPos spawnPoint = world.getSharedSpawnPos();
-        final ChunkPos chunkPos = new ChunkPos(spawnPoint);
-        final ServerChunkCache serverChunkProvider = world.getChunkSource();
-//        serverChunkProvider.getLightEngine().setTaskPerBatch(500); was 5 in 1.19.4 , final 1000 in 1.20
-
-        final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
-                                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
-            this.updateForcedChunks(world, serverChunkProvider);
-//            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
-
-            // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
-            if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
-            }
-            return world;
-        });
-    }
-
     private void loadSpawnChunks(final ServerLevel world) {
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         final ChunkPos chunkPos = new ChunkPos(spawnPoint);
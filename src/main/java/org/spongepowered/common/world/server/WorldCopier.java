@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.util.file.DeleteFileVisitor;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Copies and moves world directories on a dedicated I/O executor. Files are
+ * copied in parallel through {@link FileChannel#transferTo}, which lets the
+ * platform perform an in-kernel or copy-on-write copy where the file system
+ * supports it.
+ */
+final class WorldCopier {
+
+    private static final int THREADS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final ExecutorService EXECUTOR = WorldCopier.createExecutor();
+
+    private static ExecutorService createExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(WorldCopier.THREADS, WorldCopier.THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sponge-WorldCopy-%d").build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static ExecutorService executor() {
+        return WorldCopier.EXECUTOR;
+    }
+
+    /**
+     * Copies the source directory into the target directory.
+     *
+     * @param source The source directory
+     * @param target The target directory
+     * @param directoryFilter Filters the directories to copy
+     * @param fileFilter Filters the files to copy
+     * @return The future, completed once all files are copied
+     */
+    static CompletableFuture<Void> copy(final Path source, final Path target, final Predicate<Path> directoryFilter,
+            final Predicate<Path> fileFilter) {
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            try {
+                Files.walkFileTree(source, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                        if (!dir.equals(source) && !directoryFilter.test(dir)) {
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+                        Files.createDirectories(target.resolve(source.relativize(dir)));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        if (fileFilter.test(file)) {
+                            files.add(file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return files;
+        }, WorldCopier.EXECUTOR).thenCompose(files -> {
+            final CompletableFuture<?>[] copies = new CompletableFuture<?>[files.size()];
+            for (int i = 0; i < copies.length; i++) {
+                final Path file = files.get(i);
+                copies[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        WorldCopier.copyFile(file, target.resolve(source.relativize(file)));
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, WorldCopier.EXECUTOR);
+            }
+            return CompletableFuture.allOf(copies);
+        });
+    }
+
+    /**
+     * Moves the source directory to the target directory. Where the directory
+     * can't be moved as a whole, because the target is on another file store,
+     * it is copied and the source deleted afterwards.
+     *
+     * @param source The source directory
+     * @param target The target directory
+     * @return The future, completed once the directory is moved
+     */
+    static CompletableFuture<Void> move(final Path source, final Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target);
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+                return true;
+            } catch (final AtomicMoveNotSupportedException | DirectoryNotEmptyException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldCopier.EXECUTOR).thenCompose(moved -> {
+            if (moved) {
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            // Chained rather than joined, as waiting on the copier from one of its own
+            // threads could starve it.
+            return WorldCopier.copy(source, target, dir -> true, file -> true).thenRunAsync(() -> {
+                try {
+                    Files.walkFileTree(source, DeleteFileVisitor.INSTANCE);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, WorldCopier.EXECUTOR);
+        });
+    }
+
+    private static void copyFile(final Path source, final Path target) throws IOException {
+        final BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+        try (final FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             final FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final long transferred = in.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    // The source shrank while being copied
+                    throw new EOFException(source + " ended after " + position + " of " + size + " bytes");
+                }
+                position += transferred;
+            }
+        }
+        Files.setLastModifiedTime(target, sourceAttributes.lastModifiedTime());
+    }
+
+    private WorldCopier() {
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import net.minecraft.Util;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.util.TimeUtil;
+import net.minecraft.world.level.ChunkPos;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.common.launch.Launch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Drives the chunk system of worlds which are loading but not yet added to
+ * the server, as the server only polls the main thread chunk work of the
+ * worlds it knows about. All loading worlds share a single per tick budget,
+ * so loading several worlds at once can't stall a tick.
+ */
+final class WorldLoadDriver {
+
+    // The time spent per tick driving the chunk system of all worlds which are still loading
+    private static final long TICK_BUDGET = 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND;
+    static final int SPAWN_AREA_RADIUS = 10;
+
+    private final TicketType<ResourceLocation> ticketType;
+    private final List<ServerLevel> worlds = new ArrayList<>();
+    private final List<SpawnArea> spawnAreas = new ArrayList<>();
+    private @Nullable ScheduledTask task;
+
+    WorldLoadDriver(final TicketType<ResourceLocation> ticketType) {
+        this.ticketType = ticketType;
+    }
+
+    synchronized void start(final ServerLevel world) {
+        this.worlds.add(world);
+        if (this.task == null) {
+            this.task = Sponge.server().scheduler().submit(Task.builder()
+                    .plugin(Launch.instance().platformPlugin())
+                    .execute(task -> this.tick())
+                    .interval(Ticks.single())
+                    .build());
+        }
+    }
+
+    synchronized void stop(final ServerLevel world) {
+        this.worlds.remove(world);
+        this.spawnAreas.removeIf(area -> {
+            if (area.world != world) {
+                return false;
+            }
+            area.future.cancel(false);
+            return true;
+        });
+        if (this.worlds.isEmpty() && this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Loads the spawn area of a world which is being driven. The ticket is
+     * added on the main thread, the chunks are generated by the chunk worker
+     * pool.
+     *
+     * @param world The world
+     * @param center The chunk at the center of the spawn area
+     * @param progress The load future to report progress to
+     * @return The future, completed on the main thread once all chunks are loaded
+     */
+    synchronized CompletableFuture<ServerLevel> loadSpawnArea(final ServerLevel world, final ChunkPos center, final WorldLoadFuture progress) {
+        final SpawnArea area = new SpawnArea(world, center, progress);
+        this.spawnAreas.add(area);
+        return area.future;
+    }
+
+    private void tick() {
+        final ServerLevel[] worlds;
+        final SpawnArea[] spawnAreas;
+        synchronized (this) {
+            worlds = this.worlds.toArray(ServerLevel[]::new);
+            spawnAreas = this.spawnAreas.toArray(SpawnArea[]::new);
+        }
+        for (final SpawnArea area : spawnAreas) {
+            if (!area.ticketed) {
+                area.world.getChunkSource().addRegionTicket(this.ticketType, area.center, WorldLoadDriver.SPAWN_AREA_RADIUS + 1,
+                        area.world.dimension().location());
+                area.ticketed = true;
+            }
+        }
+
+        // Round robin over the worlds so that one busy world can't use up the budget of the others
+        final long deadline = Util.getNanos() + WorldLoadDriver.TICK_BUDGET;
+        boolean polled = true;
+        while (polled && Util.getNanos() < deadline) {
+            polled = false;
+            for (final ServerLevel world : worlds) {
+                polled |= world.getChunkSource().pollTask();
+            }
+        }
+
+        final List<SpawnArea> loaded = new ArrayList<>();
+        for (final SpawnArea area : spawnAreas) {
+            if (area.poll()) {
+                loaded.add(area);
+            }
+        }
+        if (!loaded.isEmpty()) {
+            synchronized (this) {
+                this.spawnAreas.removeAll(loaded);
+            }
+            loaded.forEach(area -> area.future.complete(area.world));
+        }
+    }
+
+    private static final class SpawnArea {
+
+        final ServerLevel world;
+        final ChunkPos center;
+        final WorldLoadFuture progress;
+        final CompletableFuture<ServerLevel> future = new CompletableFuture<>();
+        boolean ticketed;
+
+        SpawnArea(final ServerLevel world, final ChunkPos center, final WorldLoadFuture progress) {
+            this.world = world;
+            this.center = center;
+            this.progress = progress;
+        }
+
+        boolean poll() {
+            final ServerChunkCache chunkSource = this.world.getChunkSource();
+            final int radius = WorldLoadDriver.SPAWN_AREA_RADIUS;
+            final int diameter = radius * 2 + 1;
+            int loaded = 0;
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    if (chunkSource.getChunkNow(this.center.x + x, this.center.z + z) != null) {
+                        loaded++;
+                    }
+                }
+            }
+            this.progress.progress(loaded, diameter * diameter);
+            return loaded == diameter * diameter;
+        }
+    }
+}
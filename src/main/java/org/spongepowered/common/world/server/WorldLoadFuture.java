@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.world.server.ServerWorld;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The future of a world being loaded by the {@link SpongeWorldManager},
+ * exposing the stage the load is in and the time spent in each stage.
+ * Available through {@link SpongeWorldManager#pendingLoad(ResourceKey)}
+ * until the world is added to the server.
+ */
+public final class WorldLoadFuture extends CompletableFuture<ServerWorld> {
+
+    public enum Stage {
+        /**
+         * The level is being created.
+         */
+        CREATE,
+        /**
+         * The area around the expected spawn position is being generated.
+         */
+        GENERATE_SPAWN_AREA,
+        /**
+         * The world is being initialized, placing the initial spawn.
+         */
+        INITIALIZE,
+        /**
+         * The area around the final spawn position is being loaded.
+         */
+        LOAD_SPAWN_AREA,
+        /**
+         * The world is being added to the server.
+         */
+        PUBLISH,
+        /**
+         * The world is loaded, or failed to load.
+         */
+        DONE
+    }
+
+    private final ResourceKey key;
+    private final long startTime = System.nanoTime();
+    private final Map<Stage, Duration> timings = new EnumMap<>(Stage.class);
+    private volatile Stage stage = Stage.CREATE;
+    private long stageStartTime = this.startTime;
+    private volatile int loadedChunks;
+    private volatile int totalChunks;
+
+    WorldLoadFuture(final ResourceKey key) {
+        this.key = key;
+    }
+
+    public ResourceKey key() {
+        return this.key;
+    }
+
+    public Stage stage() {
+        return this.stage;
+    }
+
+    /**
+     * Gets the progress of the current spawn area stage, between 0 and 1.
+     *
+     * @return The progress
+     */
+    public double progress() {
+        final int total = this.totalChunks;
+        return total == 0 ? 0 : (double) this.loadedChunks / total;
+    }
+
+    /**
+     * Gets the time spent in each of the stages entered so far.
+     *
+     * @return The timings
+     */
+    public synchronized Map<Stage, Duration> timings() {
+        final Map<Stage, Duration> timings = new EnumMap<>(this.timings);
+        if (this.stage != Stage.DONE) {
+            timings.put(this.stage, Duration.ofNanos(System.nanoTime() - this.stageStartTime));
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - this.startTime);
+    }
+
+    synchronized void enter(final Stage stage) {
+        final long now = System.nanoTime();
+        this.timings.merge(this.stage, Duration.ofNanos(now - this.stageStartTime), Duration::plus);
+        this.stage = stage;
+        this.stageStartTime = now;
+        this.loadedChunks = 0;
+        this.totalChunks = 0;
+    }
+
+    void progress(final int loadedChunks, final int totalChunks) {
+        this.loadedChunks = loadedChunks;
+        this.totalChunks = totalChunks;
+    }
+}
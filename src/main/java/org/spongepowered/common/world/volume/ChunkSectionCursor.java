@@ -0,0 +1,221 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * A {@link SectionCursor} walking the {@link LevelChunkSection sections} of
+ * every chunk intersecting a region, one section at a time. Within a section
+ * positions are visited in palette order (x fastest, then z, then y) through
+ * a single {@link BlockPos.MutableBlockPos}, so no per-element objects are
+ * created by the cursor itself.
+ *
+ * <p>Chunks are only resolved once the cursor reaches them.</p>
+ *
+ * @param <R> The volume type
+ * @param <T> The element type
+ */
+final class ChunkSectionCursor<R extends Volume, T> implements SectionCursor<T> {
+
+    private final Supplier<R> volumeSupplier;
+    private final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor;
+    private final SectionReader<T> reader;
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    private final int chunkMinZ;
+    private final int chunkMaxX;
+    private final int chunkMaxZ;
+
+    private int nextChunkX;
+    private int nextChunkZ;
+    private @Nullable ChunkAccess chunk;
+    private int sectionIndex;
+    private @Nullable LevelChunkSection section;
+    private int xStart;
+    private int xEnd;
+    private int zStart;
+    private int zEnd;
+    private int yEnd;
+    private int x;
+    private int y;
+    private int z;
+
+    ChunkSectionCursor(final Supplier<R> volumeSupplier, final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor,
+        final Vector3i min, final Vector3i max, final SectionReader<T> reader
+    ) {
+        this.volumeSupplier = volumeSupplier;
+        this.chunkAccessor = chunkAccessor;
+        this.reader = reader;
+        this.minX = min.x();
+        this.minY = min.y();
+        this.minZ = min.z();
+        this.maxX = max.x();
+        this.maxY = max.y();
+        this.maxZ = max.z();
+        this.chunkMinZ = min.z() >> 4;
+        this.chunkMaxX = max.x() >> 4;
+        this.chunkMaxZ = max.z() >> 4;
+        this.nextChunkX = min.x() >> 4;
+        this.nextChunkZ = this.chunkMinZ;
+    }
+
+    @Override
+    public boolean tryAdvance(final ElementVisitor<? super T> visitor) {
+        if (!this.advance()) {
+            return false;
+        }
+        this.pos.set(this.x, this.y, this.z);
+        visitor.visit(this.x, this.y, this.z, this.reader.read(this.chunk, this.section, this.pos));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final ElementVisitor<? super T> visitor) {
+        // Step onto the next unvisited position, which may be part way through
+        // a section, then walk whole sections without re-checking the state.
+        if (!this.advance()) {
+            return;
+        }
+        do {
+            final ChunkAccess chunk = this.chunk;
+            final LevelChunkSection section = this.section;
+            int x = this.x;
+            int z = this.z;
+            for (int y = this.y; y <= this.yEnd; y++) {
+                for (; z <= this.zEnd; z++) {
+                    for (; x <= this.xEnd; x++) {
+                        this.pos.set(x, y, z);
+                        visitor.visit(x, y, z, this.reader.read(chunk, section, this.pos));
+                    }
+                    x = this.xStart;
+                }
+                z = this.zStart;
+            }
+            this.section = null;
+        } while (this.nextSection());
+    }
+
+    private boolean advance() {
+        if (this.section != null) {
+            if (this.x < this.xEnd) {
+                this.x++;
+                return true;
+            }
+            this.x = this.xStart;
+            if (this.z < this.zEnd) {
+                this.z++;
+                return true;
+            }
+            this.z = this.zStart;
+            if (this.y < this.yEnd) {
+                this.y++;
+                return true;
+            }
+            this.section = null;
+        }
+        return this.nextSection();
+    }
+
+    private boolean nextSection() {
+        while (true) {
+            final @Nullable ChunkAccess chunk = this.chunk;
+            if (chunk != null) {
+                final LevelChunkSection[] sections = chunk.getSections();
+                while (++this.sectionIndex < sections.length) {
+                    final int sectionMinY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(this.sectionIndex));
+                    final int yStart = Math.max(this.minY, sectionMinY);
+                    final int yEnd = Math.min(this.maxY, sectionMinY + 15);
+                    if (yStart > yEnd) {
+                        continue;
+                    }
+                    this.section = sections[this.sectionIndex];
+                    this.x = this.xStart;
+                    this.y = yStart;
+                    this.z = this.zStart;
+                    this.yEnd = yEnd;
+                    return true;
+                }
+                this.chunk = null;
+            }
+            if (!this.nextChunk()) {
+                return false;
+            }
+        }
+    }
+
+    private boolean nextChunk() {
+        while (this.nextChunkX <= this.chunkMaxX) {
+            final int chunkX = this.nextChunkX;
+            final int chunkZ = this.nextChunkZ;
+            if (++this.nextChunkZ > this.chunkMaxZ) {
+                this.nextChunkZ = this.chunkMinZ;
+                this.nextChunkX++;
+            }
+            final @Nullable ChunkAccess chunk = this.chunkAccessor.apply(this.volumeSupplier.get(), new ChunkPos(chunkX, chunkZ));
+            if (chunk == null) {
+                continue;
+            }
+            final int blockX = SectionPos.sectionToBlockCoord(chunkX);
+            final int blockZ = SectionPos.sectionToBlockCoord(chunkZ);
+            this.chunk = chunk;
+            this.sectionIndex = -1;
+            this.xStart = Math.max(this.minX, blockX);
+            this.xEnd = Math.min(this.maxX, blockX + 15);
+            this.zStart = Math.max(this.minZ, blockZ);
+            this.zEnd = Math.min(this.maxZ, blockZ + 15);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the element at a position of a chunk section. The given position
+     * is owned by the cursor and is only valid for the duration of the call.
+     *
+     * @param <T> The element type
+     */
+    @FunctionalInterface
+    interface SectionReader<T> {
+
+        T read(ChunkAccess chunk, LevelChunkSection section, BlockPos pos);
+    }
+}
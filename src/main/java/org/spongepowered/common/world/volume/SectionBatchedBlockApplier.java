@@ -0,0 +1,419 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.game.MutableGameVolume;
+import org.spongepowered.api.world.volume.stream.VolumeApplicator;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslator;
+import org.spongepowered.common.accessor.world.level.chunk.ChunkAccessAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Applies a stream of block states to a {@link ServerLevel} grouped by the
+ * chunk section they land in. Streams are routed here by
+ * {@link SpongeVolumeStream#apply} when they are collected with the
+ * applicator returned by {@link #applyBlocks(BlockChangeFlag)} into a
+ * server level.
+ *
+ * <p>When nothing listens to {@code ChangeBlockEvent}s, elements are first
+ * extracted into per-section batches, in parallel when the source volume is
+ * not a live level. Each batch is then written straight into the section
+ * palette under a single lock, with the chunk side effects (height maps,
+ * block entities, section light status) performed per section and the world
+ * side effects (light checks, client and neighbor notifications) deferred
+ * until every section has been written. When listeners are present, the
+ * elements are applied one by one through the tracked block change path in
+ * stream order instead, so that plugins still receive a single aggregated
+ * event for the whole application.</p>
+ */
+public final class SectionBatchedBlockApplier {
+
+    private SectionBatchedBlockApplier() {
+    }
+
+    /**
+     * Gets an applicator that sets each block with the given flag, which
+     * {@link SpongeVolumeStream} applies one chunk section at a time when the
+     * target is a server level.
+     *
+     * @param flag The block change flag
+     * @param <W> The target volume type
+     * @return The applicator
+     */
+    public static <W extends MutableVolume> VolumeApplicator<W, org.spongepowered.api.block.BlockState, Boolean> applyBlocks(
+        final BlockChangeFlag flag
+    ) {
+        return new BlockApplicator<>(Objects.requireNonNull(flag, "flag"));
+    }
+
+    static <V extends Volume, W extends MutableVolume> void apply(
+        final SpongeVolumeStream<V, org.spongepowered.api.block.BlockState> stream,
+        final VolumeCollector<W, org.spongepowered.api.block.BlockState, ?> collector, final ServerLevel target,
+        final BlockChangeFlag flag
+    ) {
+        final PhaseTracker instance = PhaseTracker.getInstance();
+        try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
+            ? null
+            : PluginPhase.State.VOLUME_STREAM_APPLICATION
+                .createPhaseContext(instance)
+                .setVolumeStream(stream)
+                .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null))
+        ) {
+            if (context != null) {
+                context.buildAndSwitch();
+            }
+            if (!PhaseTracker.SERVER.onSidedThread() || SectionBatchedBlockApplier.hasChangeBlockListeners()) {
+                SectionBatchedBlockApplier.applyTracked(stream, collector.target(), collector.positionTransform(), (ServerWorld) target, flag);
+                return;
+            }
+            final Long2ObjectMap<SectionBatch> batches = SectionBatchedBlockApplier.extract(stream, collector.target(),
+                collector.positionTransform());
+            if (!batches.isEmpty()) {
+                SectionBatchedBlockApplier.applyBulk(batches, target, (SpongeBlockChangeFlag) flag);
+            }
+        }
+    }
+
+    private static boolean hasChangeBlockListeners() {
+        return ShouldFire.CHANGE_BLOCK_EVENT_PRE || ShouldFire.CHANGE_BLOCK_EVENT_ALL || ShouldFire.CHANGE_BLOCK_EVENT_POST;
+    }
+
+    static <V extends Volume, W extends MutableVolume> void applyTracked(
+        final SpongeVolumeStream<V, org.spongepowered.api.block.BlockState> stream, final Supplier<W> target,
+        final VolumePositionTranslator<W, org.spongepowered.api.block.BlockState> translator, final ServerWorld world,
+        final BlockChangeFlag flag
+    ) {
+        // Every change is captured individually here, so keep them in the order the stream produced them
+        SectionBatchedBlockApplier.forEachTranslated(stream, target, translator, (x, y, z, state) -> world.setBlock(x, y, z, state, flag));
+    }
+
+    static <V extends Volume, W extends MutableVolume> Long2ObjectMap<SectionBatch> extract(
+        final SpongeVolumeStream<V, org.spongepowered.api.block.BlockState> stream, final Supplier<W> target,
+        final VolumePositionTranslator<W, org.spongepowered.api.block.BlockState> translator
+    ) {
+        if (stream.cursor() != null) {
+            // Cursors read live levels, which can only be done from the owning thread
+            final Long2ObjectOpenHashMap<SectionBatch> batches = new Long2ObjectOpenHashMap<>();
+            SectionBatchedBlockApplier.forEachTranslated(stream, target, translator,
+                (x, y, z, state) -> SectionBatchedBlockApplier.add(batches, x, y, z, state));
+            return batches;
+        }
+        Stream<VolumeElement<V, org.spongepowered.api.block.BlockState>> elements = stream.toStream();
+        if (!(stream.volume() instanceof Level)) {
+            elements = elements.parallel();
+        }
+        return elements.collect(Long2ObjectOpenHashMap::new, (batches, element) -> {
+            final VolumeElement<W, org.spongepowered.api.block.BlockState> transformed = translator.apply(VolumeElement.of(
+                target,
+                element::type,
+                element.position()
+            ));
+            final Vector3d position = transformed.position();
+            SectionBatchedBlockApplier.add(batches, position.floorX(), position.floorY(), position.floorZ(), transformed.type());
+        }, SectionBatchedBlockApplier::merge);
+    }
+
+    private static <V extends Volume, W extends MutableVolume> void forEachTranslated(
+        final SpongeVolumeStream<V, org.spongepowered.api.block.BlockState> stream, final Supplier<W> target,
+        final VolumePositionTranslator<W, org.spongepowered.api.block.BlockState> translator,
+        final SectionCursor.ElementVisitor<org.spongepowered.api.block.BlockState> visitor
+    ) {
+        final @Nullable SectionCursor<org.spongepowered.api.block.BlockState> cursor = stream.cursor();
+        if (cursor != null) {
+            cursor.forEachRemaining((x, y, z, state) -> SectionBatchedBlockApplier.visitTranslated(translator.apply(VolumeElement.of(
+                target,
+                () -> state,
+                new Vector3d(x, y, z)
+            )), visitor));
+            return;
+        }
+        stream.toStream().forEachOrdered(element -> SectionBatchedBlockApplier.visitTranslated(translator.apply(VolumeElement.of(
+            target,
+            element::type,
+            element.position()
+        )), visitor));
+    }
+
+    private static <W extends MutableVolume> void visitTranslated(final VolumeElement<W, org.spongepowered.api.block.BlockState> element,
+        final SectionCursor.ElementVisitor<org.spongepowered.api.block.BlockState> visitor
+    ) {
+        final Vector3d position = element.position();
+        visitor.visit(position.floorX(), position.floorY(), position.floorZ(), element.type());
+    }
+
+    static void add(final Long2ObjectMap<SectionBatch> batches, final int x, final int y, final int z,
+        final org.spongepowered.api.block.BlockState state
+    ) {
+        final long section = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        SectionBatch batch = batches.get(section);
+        if (batch == null) {
+            batch = new SectionBatch();
+            batches.put(section, batch);
+        }
+        batch.add(SectionBatchedBlockApplier.localIndex(x, y, z), state);
+    }
+
+    static void merge(final Long2ObjectMap<SectionBatch> into, final Long2ObjectMap<SectionBatch> from) {
+        for (final Long2ObjectMap.Entry<SectionBatch> entry : from.long2ObjectEntrySet()) {
+            final @Nullable SectionBatch existing = into.get(entry.getLongKey());
+            if (existing == null) {
+                into.put(entry.getLongKey(), entry.getValue());
+            } else {
+                existing.addAll(entry.getValue());
+            }
+        }
+    }
+
+    private static void applyBulk(final Long2ObjectMap<SectionBatch> batches, final ServerLevel level, final SpongeBlockChangeFlag flag) {
+        final List<Change> changes = new ArrayList<>();
+        level.getProfiler().push("sponge:section_batched_apply");
+        for (final Long2ObjectMap.Entry<SectionBatch> entry : batches.long2ObjectEntrySet()) {
+            SectionBatchedBlockApplier.writeSection(level, entry.getLongKey(), entry.getValue(), flag, changes);
+        }
+        level.getProfiler().popPush("sponge:section_batched_notify");
+        for (final Change change : changes) {
+            SectionBatchedBlockApplier.notifyWorld(level, change, flag);
+        }
+        level.getProfiler().pop();
+    }
+
+    static void writeSection(final ServerLevel level, final long sectionPos, final SectionBatch batch,
+        final SpongeBlockChangeFlag flag, final List<Change> changes
+    ) {
+        final int sectionY = SectionPos.y(sectionPos);
+        if (sectionY < level.getMinSection() || sectionY >= level.getMaxSection()) {
+            return;
+        }
+        final LevelChunk chunk = level.getChunk(SectionPos.x(sectionPos), SectionPos.z(sectionPos));
+        final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+        final boolean wasEmpty = section.hasOnlyAir();
+        final BlockState[] previous = new BlockState[batch.size];
+
+        // Write the whole batch into the palette while holding its lock once
+        section.acquire();
+        try {
+            for (int i = 0; i < batch.size; i++) {
+                final short index = batch.positions[i];
+                previous[i] = section.setBlockState(SectionBatchedBlockApplier.localX(index), SectionBatchedBlockApplier.localY(index),
+                    SectionBatchedBlockApplier.localZ(index), (BlockState) batch.states[i], false);
+            }
+        } finally {
+            section.release();
+        }
+
+        final boolean isEmpty = section.hasOnlyAir();
+        if (wasEmpty != isEmpty) {
+            level.getChunkSource().getLightEngine().updateSectionStatus(SectionPos.of(sectionPos), isEmpty);
+        }
+
+        final Map<Heightmap.Types, Heightmap> heightmaps = ((ChunkAccessAccessor) chunk).accessor$heightmaps();
+        final int minX = SectionPos.sectionToBlockCoord(SectionPos.x(sectionPos));
+        final int minY = SectionPos.sectionToBlockCoord(sectionY);
+        final int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(sectionPos));
+        boolean changed = false;
+        for (int i = 0; i < batch.size; i++) {
+            final BlockState oldState = previous[i];
+            final BlockState newState = (BlockState) batch.states[i];
+            if (oldState == newState) {
+                continue;
+            }
+            changed = true;
+            final short index = batch.positions[i];
+            final int localX = SectionBatchedBlockApplier.localX(index);
+            final int localY = SectionBatchedBlockApplier.localY(index);
+            final int localZ = SectionBatchedBlockApplier.localZ(index);
+            final BlockPos pos = new BlockPos(minX + localX, minY + localY, minZ + localZ);
+            heightmaps.get(Heightmap.Types.MOTION_BLOCKING).update(localX, pos.getY(), localZ, newState);
+            heightmaps.get(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES).update(localX, pos.getY(), localZ, newState);
+            heightmaps.get(Heightmap.Types.OCEAN_FLOOR).update(localX, pos.getY(), localZ, newState);
+            heightmaps.get(Heightmap.Types.WORLD_SURFACE).update(localX, pos.getY(), localZ, newState);
+
+            final int oldLightBlock = oldState.getLightBlock(level, pos);
+            oldState.onRemove(level, pos, newState, flag.movingBlocks());
+            if (!section.getBlockState(localX, localY, localZ).is(newState.getBlock())) {
+                // Something reacting to the removal replaced us, leave it be
+                continue;
+            }
+            if (flag.performBlockPhysics()) {
+                newState.onPlace(level, pos, oldState, flag.movingBlocks());
+            }
+            if (((BlockStateBridge) newState).bridge$hasTileEntity()) {
+                final @Nullable BlockEntity existing = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+                if (existing == null) {
+                    final @Nullable BlockEntity created = ((BlockStateBridge) newState).bridge$createNewTileEntity(level, pos);
+                    if (created != null) {
+                        chunk.addAndRegisterBlockEntity(created);
+                    }
+                } else {
+                    existing.setBlockState(newState);
+                    ((LevelChunkAccessor) chunk).accessor$updateBlockEntityTicker(existing);
+                }
+            }
+            changes.add(new Change(pos, oldState, newState, oldLightBlock));
+        }
+        if (changed) {
+            chunk.setUnsaved(true);
+        }
+    }
+
+    private static void notifyWorld(final ServerLevel level, final Change change, final SpongeBlockChangeFlag flag) {
+        final BlockState currentState = level.getBlockState(change.pos);
+        if (flag.updateLighting() && currentState != change.oldState
+            && (currentState.getLightBlock(level, change.pos) != change.oldLightBlock
+            || currentState.getLightEmission() != change.oldState.getLightEmission()
+            || currentState.useShapeForLightOcclusion()
+            || change.oldState.useShapeForLightOcclusion())
+        ) {
+            level.getChunkSource().getLightEngine().checkBlock(change.pos);
+        }
+        if (!currentState.is(change.newState.getBlock())) {
+            return;
+        }
+        level.setBlocksDirty(change.pos, change.oldState, change.newState);
+        if (flag.notifyClients()) {
+            level.sendBlockUpdated(change.pos, change.oldState, change.newState, flag.getRawFlag());
+        }
+        if (flag.updateNeighbors()) {
+            level.blockUpdated(change.pos, change.oldState.getBlock());
+            if (change.newState.hasAnalogOutputSignal()) {
+                level.updateNeighbourForOutputSignal(change.pos, change.newState.getBlock());
+            }
+        }
+        if (flag.updateNeighboringShapes()) {
+            final int nestedFlag = flag.asNestedNeighborUpdates().getRawFlag();
+            final int limit = Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT - 1;
+            change.oldState.updateIndirectNeighbourShapes(level, change.pos, nestedFlag, limit);
+            change.newState.updateNeighbourShapes(level, change.pos, nestedFlag, limit);
+            change.newState.updateIndirectNeighbourShapes(level, change.pos, nestedFlag, limit);
+        }
+        level.onBlockStateChange(change.pos, change.oldState, change.newState);
+    }
+
+    static short localIndex(final int x, final int y, final int z) {
+        return (short) ((y & 15) << 8 | (z & 15) << 4 | (x & 15));
+    }
+
+    static int localX(final short index) {
+        return index & 15;
+    }
+
+    static int localY(final short index) {
+        return (index >> 8) & 15;
+    }
+
+    static int localZ(final short index) {
+        return (index >> 4) & 15;
+    }
+
+    record Change(BlockPos pos, BlockState oldState, BlockState newState, int oldLightBlock) {
+    }
+
+    static final class BlockApplicator<W extends MutableVolume> implements VolumeApplicator<W, org.spongepowered.api.block.BlockState, Boolean> {
+
+        final BlockChangeFlag flag;
+
+        BlockApplicator(final BlockChangeFlag flag) {
+            this.flag = flag;
+        }
+
+        @Override
+        public Boolean apply(final W volume, final VolumeElement<W, org.spongepowered.api.block.BlockState> element) {
+            // Only reached for targets that aren't server levels, or through applyUntil
+            final Vector3d position = element.position();
+            if (volume instanceof MutableGameVolume gameVolume) {
+                return gameVolume.setBlock(position.floorX(), position.floorY(), position.floorZ(), element.type(), this.flag);
+            }
+            return ((BlockVolume.Modifiable<?>) volume).setBlock(position.floorX(), position.floorY(), position.floorZ(), element.type());
+        }
+    }
+
+    static final class SectionBatch {
+
+        short[] positions = new short[64];
+        org.spongepowered.api.block.BlockState[] states = new org.spongepowered.api.block.BlockState[64];
+        int size;
+
+        void add(final short index, final org.spongepowered.api.block.BlockState state) {
+            if (this.size == this.positions.length) {
+                this.grow(this.size + 1);
+            }
+            this.positions[this.size] = index;
+            this.states[this.size] = state;
+            this.size++;
+        }
+
+        void addAll(final SectionBatch other) {
+            if (this.size + other.size > this.positions.length) {
+                this.grow(this.size + other.size);
+            }
+            System.arraycopy(other.positions, 0, this.positions, this.size, other.size);
+            System.arraycopy(other.states, 0, this.states, this.size, other.size);
+            this.size += other.size;
+        }
+
+        private void grow(final int minimum) {
+            final int capacity = Math.max(minimum, this.positions.length << 1);
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.states = Arrays.copyOf(this.states, capacity);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+/**
+ * An internal, single-use cursor over the elements of a volume that hands
+ * each element to a visitor alongside its primitive block coordinates
+ * instead of boxing it into a position and element pair.
+ *
+ * @param <T> The element type
+ */
+interface SectionCursor<T> {
+
+    /**
+     * Advances the cursor by one element, passing it to the visitor.
+     *
+     * @param visitor The visitor
+     * @return False if the cursor has no remaining elements
+     */
+    boolean tryAdvance(ElementVisitor<? super T> visitor);
+
+    /**
+     * Passes every remaining element of this cursor to the visitor.
+     *
+     * @param visitor The visitor
+     */
+    default void forEachRemaining(final ElementVisitor<? super T> visitor) {
+        while (this.tryAdvance(visitor)) {
+            // Keep going
+        }
+    }
+
+    @FunctionalInterface
+    interface ElementVisitor<T> {
+
+        void visit(int x, int y, int z, T element);
+    }
+}
@@ -24,8 +24,10 @@
  */
 package org.spongepowered.common.world.volume;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.EventContextKeys;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
@@ -40,25 +42,50 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3d;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SpongeVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
 
     private final Supplier<? extends V> volumeSupplier;
     private final Stream<VolumeElement<V, T>> stream;
+    // When present, terminal operations that don't need boxed elements read
+    // from the cursor directly. It is shared with the lazily boxed stream, so
+    // whichever consumes it first wins, same as any other stream.
+    private final @Nullable SectionCursor<T> cursor;
 
     public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
         final Supplier<? extends V> volumeSupplier
     ) {
         this.stream = elementStream;
         this.volumeSupplier = volumeSupplier;
+        this.cursor = null;
+    }
+
+    SpongeVolumeStream(final SectionCursor<T> cursor, final Supplier<V> volumeSupplier) {
+        this.stream = StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super VolumeElement<V, T>> action) {
+                return cursor.tryAdvance((x, y, z, element) -> action.accept(
+                    VolumeElement.of(volumeSupplier, () -> element, new Vector3d(x, y, z))));
+            }
+        }, false);
+        this.volumeSupplier = volumeSupplier;
+        this.cursor = cursor;
+    }
+
+    @Nullable SectionCursor<T> cursor() {
+        return this.cursor;
     }
 
     @Override
@@ -137,6 +164,11 @@ public <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? exte
 
     @Override
     public long count() {
+        if (this.cursor != null) {
+            final long[] count = new long[1];
+            this.cursor.forEachRemaining((x, y, z, element) -> count[0]++);
+            return count[0];
+        }
         return this.stream.count();
     }
 
@@ -205,7 +237,14 @@ public Stream<VolumeElement<V, T>> toStream() {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
+        if (collector.applicator() instanceof SectionBatchedBlockApplier.BlockApplicator<?> applicator
+            && collector.target().get() instanceof ServerLevel level) {
+            SectionBatchedBlockApplier.apply((SpongeVolumeStream<V, BlockState>) this, (VolumeCollector<W, BlockState, ?>) collector,
+                level, applicator.flag);
+            return;
+        }
         final PhaseTracker instance = PhaseTracker.getInstance();
         try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
             ? null
@@ -217,6 +256,19 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
             if (context != null) {
                 context.buildAndSwitch();
             }
+            if (this.cursor != null) {
+                this.cursor.forEachRemaining((x, y, z, type) -> {
+                    final W targetVolume = collector.target().get();
+                    final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                        collector.target(),
+                        () -> type,
+                        new Vector3d(x, y, z)
+                    ));
+                    collector.applicator()
+                        .apply(targetVolume, transformed);
+                });
+                return;
+            }
             this.stream.forEach(element -> {
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
@@ -249,6 +301,11 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
+        if (this.cursor != null) {
+            final V volume = this.volumeSupplier.get();
+            this.cursor.forEachRemaining((x, y, z, element) -> visitor.consume(volume, element, x, y, z));
+            return;
+        }
         this.stream.forEach(element -> visitor.consume(
             element.volume(),
             element.type(),
@@ -433,6 +433,12 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
             Objects.requireNonNull(options, "options"));
 
         final boolean shouldCarbonCopy = options.carbonCopy();
+        if (!shouldCarbonCopy) {
+            return VolumeStreamUtils.generateSectionCursorStream(min, max, options, (W) reader,
+                VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
+                (chunk, section, pos) -> (org.spongepowered.api.block.BlockState) (Object) section.getBlockState(
+                    pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15));
+        }
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
         if (shouldCarbonCopy) {
@@ -505,6 +511,15 @@ public static <R extends Region<R>> VolumeStream<R, org.spongepowered.api.world.
             Objects.requireNonNull(options, "options"));
 
         final boolean shouldCarbonCopy = options.carbonCopy();
+        if (!shouldCarbonCopy) {
+            // Biomes are blended across neighbouring quarts, possibly in other
+            // chunks, so they're still resolved through the reader rather than
+            // straight from the section palette.
+            final Supplier<LevelReader> readerSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(reader, "IWorldReader");
+            return VolumeStreamUtils.generateSectionCursorStream(min, max, options, (R) reader,
+                VolumeStreamUtils.getChunkAccessorByStatus(reader, options.loadingStyle().generateArea()),
+                (chunk, section, pos) -> (org.spongepowered.api.world.biome.Biome) (Object) readerSupplier.get().getBiome(pos).value());
+        }
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ObjectArrayMutableBiomeBuffer backingVolume;
         if (shouldCarbonCopy) {
@@ -542,6 +557,31 @@ public static <R extends Region<R>> VolumeStream<R, org.spongepowered.api.world.
         );
     }
 
+    /**
+     * Generates a stream backed by a {@link ChunkSectionCursor}, reading each
+     * element straight out of the chunk sections intersecting the region. As
+     * the elements are read on demand, this is only suitable for streams that
+     * are not carbon copied.
+     */
+    private static <R extends Region<R>, API> VolumeStream<R, API> generateSectionCursorStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor,
+        final ChunkSectionCursor.SectionReader<API> reader
+    ) {
+        if (options.loadingStyle().immediateLoading()) {
+            for (int x = min.x() >> 4; x <= max.x() >> 4; x++) {
+                for (int z = min.z() >> 4; z <= max.z() >> 4; z++) {
+                    chunkAccessor.apply(ref, new ChunkPos(x, z));
+                }
+            }
+        }
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        return new SpongeVolumeStream<>(new ChunkSectionCursor<>(worldSupplier, chunkAccessor, min, max, reader), worldSupplier);
+    }
+
     public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
         final Vector3i min,
         final Vector3i max,
@@ -52,6 +52,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.SectionBatchedBlockApplier;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -92,6 +93,21 @@ public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final Re
         this.entities = new ObjectArrayMutableEntityArchetypeBuffer(start, size);
     }
 
+    /**
+     * Creates a volume around already populated block and biome buffers,
+     * which must share the same bounds. Does not copy either buffer.
+     *
+     * @param blocks The block buffer
+     * @param biomes The biome buffer
+     */
+    public SpongeArchetypeVolume(final ArrayMutableBlockBuffer blocks, final ByteArrayMutableBiomeBuffer biomes) {
+        super(blocks.min(), blocks.size());
+        this.blocks = blocks;
+        this.blockEntities = new MutableMapBlockEntityArchetypeBuffer(blocks);
+        this.biomes = biomes;
+        this.entities = new ObjectArrayMutableEntityArchetypeBuffer(blocks.min(), blocks.size());
+    }
+
     private SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final Palette<Biome, Biome> biomePalette) {
         super(start, size);
         final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(start, size);
@@ -276,7 +292,7 @@ public void applyToWorld(
                 .apply(VolumeCollectors.of(
                     target,
                     VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                    SectionBatchedBlockApplier.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
                 ));
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
@@ -35,6 +35,7 @@
 import org.spongepowered.asm.mixin.Mutable;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.accessor.server.players.GameProfileCache_GameProfileInfoAccessor;
+import org.spongepowered.common.bridge.server.players.GameProfileCacheBridge;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.util.ArrayList;
@@ -47,6 +48,7 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -54,7 +56,8 @@
 public abstract class GameProfileCacheMixin_API implements GameProfileCache {
 
     // @formatter:off
-    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentHashMap<>();
+    // Names are kept sorted so that prefix matches are a range of the map
+    @Shadow @Final @Mutable private final Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName = new ConcurrentSkipListMap<>();
     @Shadow @Final @Mutable private final Map<UUID, GameProfileCache_GameProfileInfoAccessor> profilesByUUID = new ConcurrentHashMap<>();
 
     @Shadow public abstract Optional<com.mojang.authlib.GameProfile> shadow$get(UUID uniqueId);
@@ -67,9 +70,11 @@ public boolean remove(final GameProfile profile) {
         final UUID uniqueId = profile.uniqueId();
         final GameProfileCache_GameProfileInfoAccessor entry = this.profilesByUUID.remove(uniqueId);
         if (entry != null) {
-            if (profile.name().isPresent()) {
-                this.profilesByName.remove(profile.name().get().toLowerCase(Locale.ROOT));
+            final @Nullable String name = entry.invoker$getProfile().getName();
+            if (name != null) {
+                this.profilesByName.remove(name.toLowerCase(Locale.ROOT), entry);
             }
+            ((GameProfileCacheBridge) this).bridge$markDirty();
             // Only return true if the entry wasn't expired
             return entry.invoker$getExpirationDate().getTime() >= System.currentTimeMillis();
         }
@@ -99,7 +104,8 @@ public Collection<GameProfile> removeIf(final Predicate<GameProfile> filter) {
             final boolean isExpired = entry.invoker$getExpirationDate().getTime() < System.currentTimeMillis();
             if (isExpired || filter.test(profile)) {
                 it.remove();
-                profile.name().ifPresent(name -> this.profilesByName.remove(name, entry));
+                profile.name().ifPresent(name -> this.profilesByName.remove(name.toLowerCase(Locale.ROOT), entry));
+                ((GameProfileCacheBridge) this).bridge$markDirty();
                 if (!isExpired) {
                     result.add(profile);
                 }
@@ -112,6 +118,7 @@ public Collection<GameProfile> removeIf(final Predicate<GameProfile> filter) {
     public void clear() {
         this.profilesByUUID.clear();
         this.profilesByName.clear();
+        ((GameProfileCacheBridge) this).bridge$markDirty();
     }
 
     @Override
@@ -139,6 +146,7 @@ public Optional<GameProfile> findByName(final String name) {
             final com.mojang.authlib.GameProfile profile = entry.invoker$getProfile();
             this.profilesByUUID.remove(profile.getId());
             this.profilesByName.remove(profile.getName().toLowerCase(Locale.ROOT));
+            ((GameProfileCacheBridge) this).bridge$markDirty();
             entry = null;
         }
 
@@ -171,9 +179,9 @@ public Collection<GameProfile> all() {
     @Override
     public Stream<GameProfile> streamOfMatches(final String name) {
         final String search = Objects.requireNonNull(name, "name").toLowerCase(Locale.ROOT);
-        return this.profilesByName.values().stream()
-                .filter(profile -> profile.invoker$getProfile().getName() != null)
-                .filter(profile -> profile.invoker$getProfile().getName().toLowerCase(Locale.ROOT).startsWith(search))
+        return ((ConcurrentSkipListMap<String, GameProfileCache_GameProfileInfoAccessor>) this.profilesByName)
+                .subMap(search, true, search + Character.MAX_VALUE, true)
+                .values().stream()
                 .map(this::api$updateLastAccess);
     }
 
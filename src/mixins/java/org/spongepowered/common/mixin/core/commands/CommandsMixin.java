@@ -35,10 +35,14 @@
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -46,6 +50,7 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
 import org.spongepowered.common.command.brigadier.dispatcher.DelegatingCommandDispatcher;
@@ -59,6 +64,7 @@
 import org.spongepowered.common.util.CommandUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -110,6 +116,39 @@ public abstract class CommandsMixin implements CommandsBridge {
         this.impl$initFrame = null;
     }
 
+    /*
+     * Players that can use the same command nodes are sent the same tree, so reuse the packet
+     * built for an earlier player rather than building the tree again.
+     */
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer player, final CallbackInfo ci) {
+        final @Nullable ClientboundCommandsPacket packet = this.impl$commandManager.commandTreeCache().get(this.impl$commandTreeSignature(player));
+        if (packet != null) {
+            player.connection.send(packet);
+            ci.cancel();
+        }
+    }
+
+    /*
+     * No packet was cached for this player's signature, remember the one built for them. The signature
+     * is taken again here as nothing can be carried over from the HEAD injection without extra state.
+     */
+    @Redirect(method = "sendCommands", at = @At(value = "NEW", target = "net/minecraft/network/protocol/game/ClientboundCommandsPacket"))
+    private ClientboundCommandsPacket impl$cacheCommandTree(final RootCommandNode<SharedSuggestionProvider> root, final ServerPlayer player) {
+        final ClientboundCommandsPacket packet = new ClientboundCommandsPacket(root);
+        this.impl$commandManager.commandTreeCache().put(this.impl$commandTreeSignature(player), packet);
+        return packet;
+    }
+
+    private BitSet impl$commandTreeSignature(final ServerPlayer player) {
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(player);
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) player);
+            final CommandSourceStack source = (CommandSourceStack) ((CommandSourceStackBridge) player.createCommandSourceStack()).bridge$withCurrentCause();
+            return this.impl$commandManager.commandTreeCache().signature(source);
+        }
+    }
+
     /*
      * Hides nodes that we have marked as "hidden"
      */
@@ -44,6 +44,7 @@
 import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.SpongeDataManager;
 import org.spongepowered.common.data.holder.SimpleNBTDataHolder;
+import org.spongepowered.common.data.provider.DataProviderLookup;
 import org.spongepowered.common.entity.SpongeEntityArchetype;
 import org.spongepowered.common.entity.SpongeEntitySnapshot;
 import org.spongepowered.common.entity.player.SpongeUserData;
@@ -70,6 +71,11 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
         return this.impl$manipulator;
     }
 
+    @Override
+    public DataProviderLookup bridge$providerLookup() {
+        return SpongeDataManager.getProviderRegistry().getProviderLookup(this.getClass());
+    }
+
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
     public void bridge$mergeDeserialized(final DataManipulator.Mutable manipulator) {
@@ -82,7 +88,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
             if (this instanceof DataHolder.Mutable && !(this instanceof org.spongepowered.api.item.inventory.ItemStack)) {
                 // Does not work when adding ItemStacks to inventory because the Item may be empty (see Inventory#addResource)
                 for (final Value.Immutable<?> value : manipulator.getValues()) {
-                    final DataProvider provider = SpongeDataManager.getProviderRegistry().getProvider(value.key(), this.getClass());
+                    final DataProvider provider = this.bridge$providerLookup().getProvider(value.key());
                     provider.offerValue((DataHolder.Mutable) this, value);
                 }
             } else {
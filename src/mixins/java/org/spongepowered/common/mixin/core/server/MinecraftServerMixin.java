@@ -167,6 +167,7 @@ public Subject subject() {
     @Inject(method = "tickServer", at = @At(value = "HEAD"))
     private void impl$onServerTickStart(final CallbackInfo ci) {
         this.scheduler().tick();
+        this.userManager().tick();
     }
 
     @Override
@@ -201,6 +202,12 @@ public String getServerModName() {
         }
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$writePlayerDataIndex(final CallbackInfo ci) {
+        // All player data has been saved by now
+        this.userManager().writePlayerDataIndex(true);
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
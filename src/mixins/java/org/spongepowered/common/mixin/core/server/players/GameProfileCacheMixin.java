@@ -27,6 +27,7 @@
 import com.mojang.authlib.GameProfileRepository;
 import com.mojang.authlib.ProfileLookupCallback;
 import net.minecraft.server.players.GameProfileCache;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileManager;
@@ -37,17 +38,26 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.players.GameProfileCache_GameProfileInfoAccessor;
 import org.spongepowered.common.bridge.server.players.GameProfileCacheBridge;
 import org.spongepowered.common.bridge.server.players.GameProfileCache_GameProfileInfoBridge;
+import org.spongepowered.common.profile.GameProfileCacheFile;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Mixin(GameProfileCache.class)
 public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
@@ -56,9 +66,15 @@ public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
     @Shadow public void shadow$add(final com.mojang.authlib.GameProfile profile) {}
     @Shadow @Final private Map<UUID, GameProfileCache_GameProfileInfoAccessor> profilesByUUID;
     @Shadow @Final private Map<String, GameProfileCache_GameProfileInfoAccessor> profilesByName;
+    @Shadow @Final private File file;
+
+    @Shadow protected abstract Stream<GameProfileCache_GameProfileInfoAccessor> shadow$getTopMRUProfiles(int limit);
     // @formatter:on
 
     private boolean impl$canSave = false;
+    private boolean impl$loading = false;
+    // Start dirty so that a cache loaded from usercache.json is migrated on the first save
+    private volatile boolean impl$dirty = true;
 
     @Override
     public Optional<GameProfileCache_GameProfileInfoBridge> bridge$getEntry(final UUID uniqueId) {
@@ -69,7 +85,8 @@ public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
 
         if (accessor.invoker$getExpirationDate().getTime() < System.currentTimeMillis()) {
             this.profilesByUUID.remove(uniqueId, accessor);
-            this.profilesByName.remove(accessor.invoker$getProfile().getName(), accessor);
+            this.profilesByName.remove(accessor.invoker$getProfile().getName().toLowerCase(Locale.ROOT), accessor);
+            this.impl$dirty = true;
             return Optional.empty();
         }
 
@@ -87,6 +104,7 @@ public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
         if (accessor.invoker$getExpirationDate().getTime() < System.currentTimeMillis()) {
             this.profilesByUUID.remove(accessor.invoker$getProfile().getId(), accessor);
             this.profilesByName.remove(lowerName, accessor);
+            this.impl$dirty = true;
             return Optional.empty();
         }
 
@@ -139,9 +157,15 @@ public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
         this.impl$canSave = flag;
     }
 
+    @Override
+    public void bridge$markDirty() {
+        this.impl$dirty = true;
+    }
+
     @Inject(method = "add", at = @At(value = "RETURN"))
     private void impl$updateCacheUsername(final com.mojang.authlib.GameProfile profile, final CallbackInfo ci) {
-        if (profile.getName() != null) {
+        this.impl$dirty = true;
+        if (!this.impl$loading && profile.getName() != null) {
             ((SpongeServer) Sponge.server()).getUsernameCache().setUsername(profile.getId(), profile.getName());
         }
     }
@@ -167,10 +191,55 @@ public abstract class GameProfileCacheMixin implements GameProfileCacheBridge {
                 });
     }
 
+    @Inject(method = "load", at = @At("HEAD"), cancellable = true)
+    private void impl$loadFromBinaryFile(final CallbackInfoReturnable<List<GameProfileCache_GameProfileInfoAccessor>> cir) {
+        final @Nullable List<GameProfileCacheFile.Entry> entries = this.impl$binaryFile().read();
+        if (entries == null) {
+            // Fall back to usercache.json
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        this.impl$loading = true;
+        try {
+            // Entries are most recently used first, add them in reverse so the access order is kept
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                final GameProfileCacheFile.Entry entry = entries.get(i);
+                if (entry.expiresOn() < now) {
+                    continue;
+                }
+                this.shadow$add(new com.mojang.authlib.GameProfile(entry.uniqueId(), entry.name()));
+                final GameProfileCache_GameProfileInfoAccessor accessor = this.profilesByUUID.get(entry.uniqueId());
+                if (accessor != null) {
+                    accessor.accessor$expirationDate(new Date(entry.expiresOn()));
+                }
+            }
+        } finally {
+            this.impl$loading = false;
+        }
+        this.impl$dirty = false;
+        cir.setReturnValue(new ArrayList<>());
+    }
+
     @Inject(method = "save", at = @At("HEAD"), cancellable = true)
-    private void impl$ignoreSavingIfCancelled(final CallbackInfo ci) {
-        if (!this.impl$canSave) {
-            ci.cancel();
+    private void impl$saveToBinaryFile(final CallbackInfo ci) {
+        ci.cancel();
+        if (!this.impl$canSave || !this.impl$dirty) {
+            return;
         }
+        this.impl$dirty = false;
+        final List<GameProfileCacheFile.Entry> entries = this.shadow$getTopMRUProfiles(1000)
+                .map(accessor -> new GameProfileCacheFile.Entry(accessor.invoker$getProfile().getId(), accessor.invoker$getProfile().getName(),
+                        accessor.invoker$getExpirationDate().getTime()))
+                .toList();
+        try {
+            this.impl$binaryFile().write(entries);
+        } catch (final IOException e) {
+            this.impl$dirty = true;
+            SpongeCommon.logger().error("Failed to save the game profile cache", e);
+        }
+    }
+
+    private GameProfileCacheFile impl$binaryFile() {
+        return new GameProfileCacheFile(this.file.toPath().resolveSibling("usercache.bin"));
     }
 }
@@ -67,20 +67,16 @@
 import org.spongepowered.common.data.holder.SpongeMutableDataHolder;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DirectionUtil;
+import org.spongepowered.common.world.level.chunk.ChunkPlayerTrackers;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.UUID;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
 
 @Mixin(net.minecraft.world.level.chunk.LevelChunk.class)
 public abstract class LevelChunkMixin extends ChunkAccess implements LevelChunkBridge, CacheKeyBridge, SpongeMutableDataHolder, SpongeDataHolderBridge, DataCompoundHolder, BlockChunk {
@@ -99,8 +95,7 @@ public abstract class LevelChunkMixin extends ChunkAccess implements LevelChunkB
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
-    private Map<Integer, PlayerTracker> impl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> impl$trackedShortBlockPositions = new HashMap<>();
+    private final ChunkPlayerTrackers impl$playerTrackers = new ChunkPlayerTrackers();
     private @Nullable CompoundTag impl$compound;
 
     public LevelChunkMixin(
@@ -157,23 +152,8 @@ public LevelChunkMixin(
     // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return this.impl$trackedIntBlockPositions;
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return this.impl$trackedShortBlockPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.impl$trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.impl$trackedShortBlockPositions = trackedPositions;
+    public ChunkPlayerTrackers bridge$getPlayerTrackers() {
+        return this.impl$playerTrackers;
     }
 
     @Override
@@ -207,90 +187,70 @@ public LevelChunkMixin(
             }
         }
 
-        if (trackerType == PlayerTracker.Type.CREATOR) {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> {
-                pt.creatorindex = idx;
-                pt.notifierIndex = idx;
-            });
-        } else {
-            this.impl$setTrackedUUID(pos, uuid, trackerType, (pt, idx) -> pt.notifierIndex = idx);
-        }
+        this.impl$setTrackedUUID(pos, uuid, trackerType, trackerType == PlayerTracker.Type.CREATOR);
     }
 
-    public Optional<UUID> bridge$trackedUUID(final BlockPos pos, final Function<PlayerTracker, Integer> func) {
+    @Override
+    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return Optional.empty();
         }
-
-        final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.impl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = func.apply(intTracker);
-            return this.impl$getValidatedUUID(key, ownerIndex);
-        }
-        final short shortKey = Constants.Sponge.blockPosToShort(pos);
-        final PlayerTracker shortTracker = this.impl$trackedShortBlockPositions.get(shortKey);
-        if (shortTracker != null) {
-            final int ownerIndex = func.apply(shortTracker);
-            return this.impl$getValidatedUUID(shortKey, ownerIndex);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-       return this.bridge$trackedUUID(pos, pt -> pt.creatorindex);
+        return this.impl$getValidatedUUID(pos, this.impl$playerTrackers.creator(pos));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return this.bridge$trackedUUID(pos, pt -> pt.notifierIndex);
-    }
-
-    private <T> void impl$computePlayerTracker(final Map<T, PlayerTracker> map, final T blockPos, final int index, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
-        final PlayerTracker tracker = map.get(blockPos);
-        if (tracker != null) {
-            consumer.accept(tracker, index);
-        } else {
-            map.put(blockPos, new PlayerTracker(index, type));
+        if (((LevelBridge) this.level).bridge$isFake()) {
+            return Optional.empty();
         }
+        return this.impl$getValidatedUUID(pos, this.impl$playerTrackers.notifier(pos));
     }
 
-    private void impl$setTrackedUUID(final BlockPos pos, final UUID uuid, final PlayerTracker.Type type, final BiConsumer<PlayerTracker, Integer> consumer) {
+    /*
+     * Sets the creator or notifier of a position. A newly tracked position only has the given one set, the
+     * other being -1. When a creator is set on an already tracked position and notifierToo is true, the
+     * notifier is replaced as well.
+     */
+    private void impl$setTrackedUUID(final BlockPos pos, final @Nullable UUID uuid, final PlayerTracker.Type type, final boolean notifierToo) {
         if (((LevelBridge) this.level).bridge$isFake()) {
             return;
         }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
-        final int index = uuid == null ? -1 : worldInfo.bridge$getIndexForUniqueId(uuid);
-        if (pos.getY() <= 255) {
-            final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            this.impl$computePlayerTracker(this.impl$trackedShortBlockPositions, blockPos, index, type, consumer);
-            return;
+        final int index = uuid == null ? ChunkPlayerTrackers.NONE : worldInfo.bridge$getIndexForUniqueId(uuid);
+        final ChunkPlayerTrackers trackers = this.impl$playerTrackers;
+        if (!trackers.contains(pos)) {
+            if (type == PlayerTracker.Type.CREATOR) {
+                trackers.set(pos, index, ChunkPlayerTrackers.NONE);
+            } else {
+                trackers.set(pos, ChunkPlayerTrackers.NONE, index);
+            }
+        } else if (type == PlayerTracker.Type.CREATOR) {
+            trackers.set(pos, index, notifierToo ? index : trackers.notifier(pos));
+        } else {
+            trackers.set(pos, trackers.creator(pos), index);
         }
-        final int blockPos = Constants.Sponge.blockPosToInt(pos);
-        this.impl$computePlayerTracker(this.impl$trackedIntBlockPositions, blockPos, index, type, consumer);
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
-       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, (pt, idx) -> pt.notifierIndex = idx);
+       this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.NOTIFIER, false);
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
-        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, (pt, idx) -> pt.creatorindex = idx);
+        this.impl$setTrackedUUID(pos, uuid, PlayerTracker.Type.CREATOR, false);
     }
 
-    private Optional<UUID> impl$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> impl$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
+        if (ownerIndex == ChunkPlayerTrackers.NONE) {
+            return Optional.empty();
+        }
         final PrimaryLevelDataBridge worldInfo = (PrimaryLevelDataBridge) this.level.getLevelData();
         final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
-                if (key <= Short.MAX_VALUE) {
-                    this.impl$trackedShortBlockPositions.remove((short) key);
-                }
-                this.impl$trackedIntBlockPositions.remove(key);
+                this.impl$playerTrackers.remove(pos);
                 return Optional.empty();
             }
 
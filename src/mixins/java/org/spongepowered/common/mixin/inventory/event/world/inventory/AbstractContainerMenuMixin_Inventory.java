@@ -57,7 +57,6 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
-import org.spongepowered.common.event.tracking.context.transaction.ResultingTransactionBySideEffect;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.InventoryEffect;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
@@ -364,7 +363,7 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
         final org.spongepowered.api.item.inventory.Slot adapter = ((InventoryAdapter) inv.player.getInventory()).inventoryAdapter$getSlot(index).get();
         final SlotTransaction newTransaction = new SlotTransaction(adapter, oldItem, newItem);
         transactor.logSlotTransaction(phaseContext, newTransaction, (AbstractContainerMenu) (Object) this);
-        transactor.pushEffect(new ResultingTransactionBySideEffect(InventoryEffect.getInstance()));
+        transactor.pushEffect(InventoryEffect.getInstance());
     }
 
     @Override
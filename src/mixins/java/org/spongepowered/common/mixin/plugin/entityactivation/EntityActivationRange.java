@@ -25,11 +25,15 @@
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LightningBolt;
@@ -52,7 +56,7 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
-import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.entity.EntitySection;
 import net.minecraft.world.level.entity.EntitySectionStorage;
 import net.minecraft.world.level.entity.PersistentEntitySectionManager;
@@ -80,6 +84,7 @@
 import org.spongepowered.common.config.inheritable.WorldConfig;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public final class EntityActivationRange {
@@ -93,11 +98,6 @@ public final class EntityActivationRange {
         .build();
 
     static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
     static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
 
@@ -218,25 +218,40 @@ public static AABB growBb(final AABB target, final AABB source, final int x, fin
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The chunks within the maximum activation range of all players are
+     * collected first, so that every entity section is visited at most once
+     * regardless of how many players are near it. Each chunk keeps the boxes
+     * of the players in range of it, so that an entity is only tested
+     * against nearby players instead of every player in the world.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(final ServerLevel world) {
         if (((LevelBridge) world).bridge$isFake()) {
             return;
         }
+        final List<ServerPlayer> players = world.players();
+        if (players.isEmpty()) {
+            return;
+        }
 
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        final ProfilerFiller profiler = world.getProfiler();
+        profiler.push("sponge:entity_activation");
+
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
+        final long currentTick = SpongeCommon.server().getTickCount();
+        final Long2ObjectMap<List<AABB>> playerBoxesByChunk = new Long2ObjectOpenHashMap<>();
+        for (final ServerPlayer player : players) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+            final AABB playerBox = player.getBoundingBox();
+            final AABB aabb = EntityActivationRange.growBb(EntityActivationRange.maxBB, playerBox, maxRange, 256, maxRange);
 
             final int i = Mth.floor(aabb.minX / 16.0D);
             final int j = Mth.floor(aabb.maxX / 16.0D);
@@ -245,29 +260,41 @@ public static void activateEntities(final ServerLevel world) {
 
             for (int i1 = i; i1 <= j; ++i1) {
                 for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
-                    }
+                    playerBoxesByChunk.computeIfAbsent(ChunkPos.asLong(i1, j1), chunk -> new ObjectArrayList<>(1)).add(playerBox);
                 }
             }
         }
+
+        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) world).accessor$getEntityManager();
+        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
+        for (final Long2ObjectMap.Entry<List<AABB>> entry : playerBoxesByChunk.long2ObjectEntrySet()) {
+            final long chunkPos = entry.getLongKey();
+            if (world.getChunkSource().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos)) != null) {
+                EntityActivationRange.activateChunkEntities(entitySectionStorage, chunkPos, entry.getValue(), currentTick);
+            }
+        }
+
+        profiler.pop();
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
-     * @param chunk Chunk to check for activation
+     * @param entitySectionStorage The entity sections of the world
+     * @param chunkPos The packed position of the chunk to check for activation
+     * @param playerBoxes The bounding boxes of the players in range of the chunk
+     * @param currentTick The current tick
      */
-    private static void activateChunkEntities(final ServerPlayer player, final LevelChunk chunk) {
-        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) chunk.getLevel()).accessor$getEntityManager();
-        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
-        entitySectionStorage.getExistingSectionsInChunk(SectionPos.of(chunk.getPos(), 0).asLong()).flatMap(EntitySection::getEntities).forEach(entity -> {
-            if (!entity.chunkPosition().equals(chunk.getPos())) {
+    private static void activateChunkEntities(final EntitySectionStorage<Entity> entitySectionStorage, final long chunkPos,
+            final List<AABB> playerBoxes, final long currentTick) {
+        final int chunkX = ChunkPos.getX(chunkPos);
+        final int chunkZ = ChunkPos.getZ(chunkPos);
+        entitySectionStorage.getExistingSectionsInChunk(SectionPos.asLong(chunkX, 0, chunkZ)).flatMap(EntitySection::getEntities).forEach(entity -> {
+            final ChunkPos entityChunk = entity.chunkPosition();
+            if (entityChunk.x != chunkX || entityChunk.z != chunkZ) {
                 return;
             }
             final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-            final long currentTick = SpongeCommon.server().getTickCount();
             if (!((TrackableBridge) entity).bridge$shouldTick()) {
                 return;
             }
@@ -280,30 +307,16 @@ private static void activateChunkEntities(final ServerPlayer player, final Level
                 return;
             }
 
-            // check for entity type overrides
-            AABB aabb;
-            switch (spongeEntity.activation$getActivationType()) {
-                case 5:
-                    aabb = EntityActivationRange.miscBB;
-                    break;
-                case 4:
-                    aabb = EntityActivationRange.ambientBB;
-                    break;
-                case 3:
-                    aabb = EntityActivationRange.aquaticBB;
-                    break;
-                case 2:
-                    aabb = EntityActivationRange.creatureBB;
-                    break;
-                default:
-                    aabb = EntityActivationRange.monsterBB;
-                    break;
-            }
-
+            // The activation range accounts for entity type overrides, an entity
+            // is active if it is within that range of any nearby player.
             final int bbActivationRange = spongeEntity.activation$getActivationRange();
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-            if (aabb.intersects(entity.getBoundingBox())) {
-                spongeEntity.activation$setActivatedTick(currentTick);
+            final AABB entityBox = entity.getBoundingBox();
+            for (final AABB playerBox : playerBoxes) {
+                if (entityBox.intersects(playerBox.minX - bbActivationRange, playerBox.minY - 256, playerBox.minZ - bbActivationRange,
+                        playerBox.maxX + bbActivationRange, playerBox.maxY + 256, playerBox.maxZ + bbActivationRange)) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                    return;
+                }
             }
         });
     }
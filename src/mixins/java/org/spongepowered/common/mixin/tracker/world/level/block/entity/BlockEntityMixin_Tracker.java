@@ -26,21 +26,36 @@
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.block.BlockEntityCapture;
 import org.spongepowered.common.bridge.DelegatingConfigTrackableBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackedBlockEntityBridge;
 
 @Mixin(BlockEntity.class)
-public abstract class BlockEntityMixin_Tracker implements DelegatingConfigTrackableBridge {
+public abstract class BlockEntityMixin_Tracker implements DelegatingConfigTrackableBridge, TrackedBlockEntityBridge {
 
     // @formatter:off
     @Shadow @Final private BlockEntityType<?> type;
     // @formatter:on
 
+    private @Nullable BlockEntityCapture tracker$pendingCapture;
+
     @Override
     public TrackableBridge bridge$trackingConfigDelegate() {
         return (TrackableBridge) this.type;
     }
+
+    @Override
+    public @Nullable BlockEntityCapture bridge$pendingCapture() {
+        return this.tracker$pendingCapture;
+    }
+
+    @Override
+    public void bridge$setPendingCapture(final @Nullable BlockEntityCapture capture) {
+        this.tracker$pendingCapture = capture;
+    }
 }
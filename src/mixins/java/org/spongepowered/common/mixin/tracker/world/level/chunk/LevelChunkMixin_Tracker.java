@@ -134,9 +134,13 @@ public abstract class LevelChunkMixin_Tracker extends ChunkAccessMixin_Tracker i
         final @Nullable BlockEntity existing = this.shadow$getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
         // Build a transaction maybe?
         final WeakReference<ServerLevel> ref = new WeakReference<>((ServerLevel) this.level);
+        // Only a block entity that gets removed by this change can have its capture deferred,
+        // one that stays may be changed by anything before the snapshot is read.
+        final boolean removesBlockEntity = existing != null && !currentState.is(newState.getBlock());
         final SpongeBlockSnapshot snapshot = TrackingUtil.createPooledSnapshot(currentState, pos, flag, limit, existing,
             () -> Objects.requireNonNull(ref.get(), "ServerWorld dereferenced"),
-            Optional::empty, Optional::empty
+            Optional::empty, Optional::empty,
+            removesBlockEntity
         );
 
         // Pulled up from below
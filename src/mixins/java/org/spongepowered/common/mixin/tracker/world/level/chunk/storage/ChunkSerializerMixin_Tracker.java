@@ -25,7 +25,6 @@
 package org.spongepowered.common.mixin.tracker.world.level.chunk.storage;
 
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
@@ -39,12 +38,8 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.util.Constants;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiConsumer;
+import org.spongepowered.common.world.level.chunk.ChunkPlayerTrackers;
 
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin_Tracker {
@@ -54,29 +49,12 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (!(param1 instanceof LevelChunk)) {
             return;
         }
-        final LevelChunkBridge chunk = (LevelChunkBridge) param1;
-        if (!chunk.bridge$getTrackedShortPlayerPositions().isEmpty() || !chunk.bridge$getTrackedIntPlayerPositions().isEmpty()) {
+        final ChunkPlayerTrackers trackers = ((LevelChunkBridge) param1).bridge$getPlayerTrackers();
+        if (!trackers.isEmpty()) {
             final CompoundTag level = cir.getReturnValue();
             final CompoundTag trackedNbt = new CompoundTag();
-            final ListTag positions = new ListTag();
-            trackedNbt.put(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.put(Constants.Sponge.SPONGE_BLOCK_TRACKER_SECTIONS, trackers.write());
             level.put(Constants.Sponge.Data.V2.SPONGE_DATA, trackedNbt);
-
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedShortPlayerPositions(), (nbt, pos) -> nbt.putShort("pos", pos));
-            ChunkSerializerMixin_Tracker.impl$writeMap(positions, chunk.bridge$getTrackedIntPlayerPositions(), (nbt, pos) -> nbt.putInt("ipos", pos));
-        }
-    }
-
-    private static <T> void impl$writeMap(final ListTag positions, final Map<T, PlayerTracker> map, final BiConsumer<CompoundTag, T> consumer) {
-        for (final Map.Entry<T, PlayerTracker> mapEntry : map.entrySet()) {
-            final T pos = mapEntry.getKey();
-            final int ownerUniqueIdIndex = mapEntry.getValue().creatorindex;
-            final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-            final CompoundTag valueNbt = new CompoundTag();
-            valueNbt.putInt("owner", ownerUniqueIdIndex);
-            valueNbt.putInt("notifier", notifierUniqueIdIndex);
-            consumer.accept(valueNbt, pos);
-            positions.add(valueNbt);
         }
     }
 
@@ -90,30 +68,9 @@ public abstract class ChunkSerializerMixin_Tracker {
         if (spongeData.isEmpty()) {
             return;
         }
-        final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-        final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-
-        final ListTag list = spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
-        final LevelChunkBridge chunk = (LevelChunkBridge) chunkAccess;
-        for (final Tag tag : list) {
-            final PlayerTracker tracker = new PlayerTracker();
-            final CompoundTag data = (CompoundTag) tag;
-            final boolean isShortPos = data.contains("pos");
-            if (data.contains("owner")) {
-                tracker.creatorindex = data.getInt("owner");
-            }
-            if (data.contains("notifier")) {
-                tracker.notifierIndex = data.getInt("notifier");
-            }
-            if (tracker.notifierIndex != -1 || tracker.creatorindex != -1) {
-                if (isShortPos) {
-                    trackedShortPlayerPositions.put(data.getShort("pos"), tracker);
-                } else {
-                    trackedIntPlayerPositions.put(data.getInt("ipos"), tracker);
-                }
-            }
-        }
-        chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-        chunk.bridge$setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+        final ChunkPlayerTrackers trackers = ((LevelChunkBridge) chunkAccess).bridge$getPlayerTrackers();
+        trackers.read(spongeData.getList(Constants.Sponge.SPONGE_BLOCK_TRACKER_SECTIONS, Tag.TAG_COMPOUND));
+        // Chunks saved before positions were stored per section
+        trackers.readLegacy(spongeData.getList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Tag.TAG_COMPOUND));
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackedBlockEntityBridge;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+final class BlockEntityCaptureTest {
+
+    static BlockEntity blockEntity() {
+        final BlockEntity blockEntity = Mockito.mock(BlockEntity.class, Mockito.withSettings().extraInterfaces(TrackedBlockEntityBridge.class));
+        final AtomicReference<BlockEntityCapture> pending = new AtomicReference<>();
+        Mockito.when(((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture()).thenAnswer(invocation -> pending.get());
+        Mockito.doAnswer(invocation -> {
+            pending.set(invocation.getArgument(0));
+            return null;
+        }).when((TrackedBlockEntityBridge) blockEntity).bridge$setPendingCapture(ArgumentMatchers.any());
+        final Level level = Mockito.mock(Level.class);
+        Mockito.when(blockEntity.getLevel()).thenReturn(level);
+        Mockito.when(blockEntity.saveWithFullMetadata(ArgumentMatchers.any())).thenAnswer(invocation -> new CompoundTag());
+        return blockEntity;
+    }
+
+    @Test
+    void testDeferredCapturesAreShared() {
+        final BlockEntity blockEntity = BlockEntityCaptureTest.blockEntity();
+        final BlockEntityCapture first = BlockEntityCapture.deferred(blockEntity);
+        final BlockEntityCapture second = BlockEntityCapture.deferred(blockEntity);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(first, ((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture());
+        Mockito.verify(blockEntity, Mockito.never()).saveWithFullMetadata(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testMaterializeSavesOnce() {
+        final BlockEntity blockEntity = BlockEntityCaptureTest.blockEntity();
+        final BlockEntityCapture capture = BlockEntityCapture.deferred(blockEntity);
+
+        BlockEntityCapture.materialize(blockEntity);
+        Mockito.verify(blockEntity).saveWithFullMetadata(ArgumentMatchers.any());
+        Assertions.assertNull(((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture());
+
+        // Reads after materializing see the data taken then, without saving again
+        final CompoundTag compound = capture.compound();
+        Assertions.assertNotNull(compound);
+        Assertions.assertSame(compound, capture.compound());
+        BlockEntityCapture.materialize(blockEntity);
+        Mockito.verify(blockEntity).saveWithFullMetadata(ArgumentMatchers.any());
+
+        // Later snapshots get a capture of their own
+        Assertions.assertNotSame(capture, BlockEntityCapture.deferred(blockEntity));
+    }
+
+    @Test
+    void testMaterializeWithoutPendingCapture() {
+        final BlockEntity blockEntity = BlockEntityCaptureTest.blockEntity();
+        BlockEntityCapture.materialize(blockEntity);
+        Mockito.verify(blockEntity, Mockito.never()).saveWithFullMetadata(ArgumentMatchers.any());
+    }
+
+    @Test
+    void testFirstReadMaterializes() {
+        final BlockEntity blockEntity = BlockEntityCaptureTest.blockEntity();
+        final BlockEntityCapture capture = BlockEntityCapture.deferred(blockEntity);
+
+        Assertions.assertNotNull(capture.compound());
+        Assertions.assertNull(((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture());
+        BlockEntityCapture.materialize(blockEntity);
+        Mockito.verify(blockEntity).saveWithFullMetadata(ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.manager;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.tree.RootCommandNode;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandCause;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class SpongeCommandTreeCacheTest {
+
+    private final CommandCause cause = Mockito.mock(CommandCause.class);
+    private SpongeCommandTreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        final RootCommandNode<CommandSourceStack> root = new RootCommandNode<>();
+        root.addChild(SpongeCommandTreeCacheTest.literal("tp").then(SpongeCommandTreeCacheTest.literal("here")).build());
+        root.addChild(SpongeCommandTreeCacheTest.literal("give").build());
+        // No requirement, so only its child is tested
+        root.addChild(LiteralArgumentBuilder.<CommandSourceStack>literal("plain").then(SpongeCommandTreeCacheTest.literal("admin")).build());
+
+        final SpongeCommandDispatcher dispatcher = Mockito.mock(SpongeCommandDispatcher.class);
+        Mockito.when(dispatcher.getRoot()).thenReturn(root);
+        final SpongeCommandManager manager = Mockito.mock(SpongeCommandManager.class);
+        Mockito.when(manager.getDispatcher()).thenReturn(dispatcher);
+        Mockito.when(manager.suggestionNodes()).thenReturn(List.of());
+        this.cache = new SpongeCommandTreeCache(manager);
+    }
+
+    @Test
+    void testPlayersWithSamePermissionsShareTree() {
+        final BitSet first = this.signature(Set.of("tp", "here", "admin"));
+        final BitSet second = this.signature(new HashSet<>(List.of("admin", "here", "tp")));
+        final BitSet other = this.signature(Set.of("tp", "admin"));
+        final ClientboundCommandsPacket packet = Mockito.mock(ClientboundCommandsPacket.class);
+
+        this.cache.put(first, packet);
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertSame(packet, this.cache.get(second));
+        Assertions.assertNotEquals(first, other);
+        Assertions.assertNull(this.cache.get(other));
+    }
+
+    @Test
+    void testUnusableNodeChildrenAreNotTested() {
+        // Without tp, whether here could be used doesn't change the tree
+        Assertions.assertEquals(this.signature(Set.of("give")), this.signature(Set.of("give", "here")));
+    }
+
+    @Test
+    void testPermissionChangesAreNotServedStaleTrees() {
+        final Set<String> permissions = new HashSet<>(List.of("tp"));
+        final BitSet before = this.signature(permissions);
+        final ClientboundCommandsPacket packet = Mockito.mock(ClientboundCommandsPacket.class);
+        this.cache.put(before, packet);
+
+        permissions.add("here");
+        final BitSet granted = this.signature(permissions);
+        Assertions.assertNotEquals(before, granted);
+        Assertions.assertNull(this.cache.get(granted));
+
+        permissions.remove("here");
+        Assertions.assertSame(packet, this.cache.get(this.signature(permissions)));
+
+        this.cache.invalidate();
+        Assertions.assertNull(this.cache.get(before));
+    }
+
+    private BitSet signature(final Set<String> permissions) {
+        return this.cache.signature((isRoot, node) -> permissions.contains(node.getName()), this.cause);
+    }
+
+    private static LiteralArgumentBuilder<CommandSourceStack> literal(final String name) {
+        return LiteralArgumentBuilder.<CommandSourceStack>literal(name).requires(source -> true);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.SpongeDataManager;
+
+import java.util.Set;
+
+final class CompoundTagDataViewTest {
+
+    private static final DataQuery FOO = DataQuery.of("foo");
+    private static final DataQuery BAR = DataQuery.of("bar");
+    private static final DataQuery NESTED_INT = DataQuery.of("nested", "int");
+    private static final DataQuery NESTED_BOOLEAN = DataQuery.of("nested", "boolean");
+    private static final DataQuery DEEP_STRING = DataQuery.of("nested", "deeper", "string");
+
+    private static SpongeDataManager previousManager;
+
+    @BeforeAll
+    static void setupDataManager() {
+        // Values are serialized through the data manager, which has no translators for plain values
+        CompoundTagDataViewTest.previousManager = SpongeDataManager.INSTANCE;
+        SpongeDataManager.INSTANCE = Mockito.mock(SpongeDataManager.class);
+    }
+
+    @AfterAll
+    static void restoreDataManager() {
+        SpongeDataManager.INSTANCE = CompoundTagDataViewTest.previousManager;
+    }
+
+    private static DataContainer populate(final DataContainer container) {
+        return container
+            .set(CompoundTagDataViewTest.FOO, "foo")
+            .set(CompoundTagDataViewTest.BAR, new byte[] {1, 2, 3})
+            .set(CompoundTagDataViewTest.NESTED_INT, 42)
+            .set(CompoundTagDataViewTest.NESTED_BOOLEAN, true)
+            .set(CompoundTagDataViewTest.DEEP_STRING, "deep");
+    }
+
+    private static DataContainer wrapped() {
+        return NBTTranslator.INSTANCE.wrap(new CompoundTag());
+    }
+
+    @Test
+    void readsAndWritesPaths() {
+        final DataContainer container = CompoundTagDataViewTest.populate(CompoundTagDataViewTest.wrapped());
+
+        assertEquals("foo", container.getString(CompoundTagDataViewTest.FOO).get());
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) container.get(CompoundTagDataViewTest.BAR).get());
+        assertEquals(42, container.getInt(CompoundTagDataViewTest.NESTED_INT).get());
+        assertTrue(container.getBoolean(CompoundTagDataViewTest.NESTED_BOOLEAN).get());
+        assertEquals("deep", container.getString(CompoundTagDataViewTest.DEEP_STRING).get());
+        assertTrue(container.contains(CompoundTagDataViewTest.NESTED_BOOLEAN));
+        assertFalse(container.contains(DataQuery.of("nested", "missing")));
+
+        assertEquals(Set.of(CompoundTagDataViewTest.FOO, CompoundTagDataViewTest.BAR, DataQuery.of("nested")), container.keys(false));
+        assertEquals(Set.of(CompoundTagDataViewTest.FOO, CompoundTagDataViewTest.BAR, DataQuery.of("nested"),
+            CompoundTagDataViewTest.NESTED_INT, CompoundTagDataViewTest.NESTED_BOOLEAN, DataQuery.of("nested", "deeper"),
+            CompoundTagDataViewTest.DEEP_STRING), container.keys(true));
+
+        container.remove(CompoundTagDataViewTest.NESTED_BOOLEAN);
+        assertFalse(container.contains(CompoundTagDataViewTest.NESTED_BOOLEAN));
+        assertTrue(container.contains(CompoundTagDataViewTest.NESTED_INT));
+    }
+
+    @Test
+    void wrappedCompoundIsNotModified() {
+        final CompoundTag compound = new CompoundTag();
+        compound.putString("foo", "foo");
+        final DataContainer container = NBTTranslator.INSTANCE.wrap(compound);
+
+        container.set(CompoundTagDataViewTest.FOO, "changed");
+        container.set(CompoundTagDataViewTest.NESTED_INT, 1);
+
+        assertEquals("foo", compound.getString("foo"));
+        assertFalse(compound.contains("nested"));
+        assertEquals("changed", container.getString(CompoundTagDataViewTest.FOO).get());
+    }
+
+    @Test
+    void copiesAreIsolated() {
+        final DataContainer original = CompoundTagDataViewTest.populate(CompoundTagDataViewTest.wrapped());
+        final DataContainer copy = original.copy();
+        assertEquals(original, copy);
+
+        copy.set(CompoundTagDataViewTest.NESTED_INT, 1);
+        assertEquals(42, original.getInt(CompoundTagDataViewTest.NESTED_INT).get());
+        original.set(CompoundTagDataViewTest.FOO, "changed");
+        assertEquals("foo", copy.getString(CompoundTagDataViewTest.FOO).get());
+        assertNotEquals(original, copy);
+    }
+
+    @Test
+    void nestedViewsFollowTheirContainer() {
+        final DataContainer container = CompoundTagDataViewTest.populate(CompoundTagDataViewTest.wrapped());
+        final DataView nested = container.getView(DataQuery.of("nested")).get();
+        assertEquals(DataQuery.of("nested"), nested.currentPath());
+        assertEquals(container, nested.container());
+        assertEquals("deep", nested.getString(DataQuery.of("deeper", "string")).get());
+
+        // The container copies its compound on this write, the view must still resolve
+        container.copy();
+        nested.set(DataQuery.of("int"), 7);
+        assertEquals(7, container.getInt(CompoundTagDataViewTest.NESTED_INT).get());
+
+        final DataView created = container.createView(DataQuery.of("created"));
+        created.set(CompoundTagDataViewTest.FOO, "created");
+        assertEquals("created", container.getString(DataQuery.of("created", "foo")).get());
+    }
+
+    @Test
+    void equalsMemoryDataContainerByValue() {
+        final DataContainer wrapped = CompoundTagDataViewTest.populate(CompoundTagDataViewTest.wrapped());
+        final DataContainer memory = CompoundTagDataViewTest.populate(new MemoryDataContainer());
+
+        assertEquals(memory, wrapped);
+        assertEquals(wrapped, memory);
+        assertEquals(memory.hashCode(), wrapped.hashCode());
+        assertEquals(memory.getView(DataQuery.of("nested")).get(), wrapped.getView(DataQuery.of("nested")).get());
+
+        wrapped.set(CompoundTagDataViewTest.BAR, new byte[] {3, 2, 1});
+        assertNotEquals(memory, wrapped);
+        assertNotEquals(wrapped, memory);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.DataProvider;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.data.key.SpongeKey;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Set;
+
+final class DataProviderRegistryTest {
+
+    private final DataProviderRegistry registry = new DataProviderRegistry();
+
+    private static SpongeKey<Value<String>, String> key() {
+        return new SpongeKey<>(Mockito.mock(ResourceKey.class), Value.class, String.class, Comparator.naturalOrder(), Objects::equals, () -> "");
+    }
+
+    private DataProvider<?, ?> register(final SpongeKey<?, ?> key, final Class<?> holderType) {
+        final KnownHolderTypeProvider provider = Mockito.mock(KnownHolderTypeProvider.class);
+        Mockito.doReturn(key).when(provider).key();
+        Mockito.doReturn(holderType).when(provider).getHolderType();
+        this.registry.register(provider);
+        return provider;
+    }
+
+    private DataProvider<?, ?> registerGeneric(final SpongeKey<?, ?> key) {
+        final DataProvider<?, ?> provider = Mockito.mock(DataProvider.class);
+        Mockito.doReturn(key).when(provider).key();
+        this.registry.register(provider);
+        return provider;
+    }
+
+    @Test
+    void testLookupsMatchProvidersPerHolderType() {
+        final SpongeKey<Value<String>, String> holderKey = DataProviderRegistryTest.key();
+        final SpongeKey<Value<String>, String> sharedKey = DataProviderRegistryTest.key();
+        final SpongeKey<Value<String>, String> otherKey = DataProviderRegistryTest.key();
+        final SpongeKey<Value<String>, String> unusedKey = DataProviderRegistryTest.key();
+        final DataProvider<?, ?> holderProvider = this.register(holderKey, Holder.class);
+        final DataProvider<?, ?> childProvider = this.register(sharedKey, ChildHolder.class);
+        final DataProvider<?, ?> genericProvider = this.registerGeneric(sharedKey);
+        final DataProvider<?, ?> otherProvider = this.register(otherKey, OtherHolder.class);
+
+        Assertions.assertSame(holderProvider, this.registry.getProvider(holderKey, Holder.class));
+        Assertions.assertSame(genericProvider, this.registry.getProvider(sharedKey, Holder.class));
+        Assertions.assertSame(otherKey.getEmptyDataProvider(), this.registry.getProvider(otherKey, Holder.class));
+        Assertions.assertSame(unusedKey.getEmptyDataProvider(), this.registry.getProvider(unusedKey, Holder.class));
+        Assertions.assertEquals(Set.of(holderProvider, genericProvider), Set.copyOf(this.registry.getAllProviders(Holder.class)));
+
+        // Providers of super types apply, several providers are delegated to
+        Assertions.assertSame(holderProvider, this.registry.getProvider(holderKey, ChildHolder.class));
+        final DataProvider<?, ?> shared = this.registry.getProvider(sharedKey, ChildHolder.class);
+        Assertions.assertInstanceOf(DelegateDataProvider.class, shared);
+        Assertions.assertSame(sharedKey, shared.key());
+        Assertions.assertSame(otherKey.getEmptyDataProvider(), this.registry.getProvider(otherKey, ChildHolder.class));
+        Assertions.assertEquals(Set.of(holderProvider, shared), Set.copyOf(this.registry.getAllProviders(ChildHolder.class)));
+
+        Assertions.assertSame(holderKey.getEmptyDataProvider(), this.registry.getProvider(holderKey, OtherHolder.class));
+        Assertions.assertSame(genericProvider, this.registry.getProvider(sharedKey, OtherHolder.class));
+        Assertions.assertSame(otherProvider, this.registry.getProvider(otherKey, OtherHolder.class));
+        Assertions.assertEquals(Set.of(genericProvider, otherProvider), Set.copyOf(this.registry.getAllProviders(OtherHolder.class)));
+
+        Assertions.assertSame(childProvider, this.registry.buildLookup(p -> p == childProvider).getProvider(sharedKey));
+    }
+
+    @Test
+    void testKeysCreatedAfterLookupAreEmpty() {
+        final SpongeKey<Value<String>, String> key = DataProviderRegistryTest.key();
+        this.registerGeneric(key);
+        final DataProviderLookup lookup = this.registry.getProviderLookup(Holder.class);
+
+        // The id of the new key is past the end of the lookup
+        final SpongeKey<Value<String>, String> newKey = DataProviderRegistryTest.key();
+        Assertions.assertSame(newKey.getEmptyDataProvider(), lookup.getProvider(newKey));
+    }
+
+    @Test
+    void testRegisteringMarksLookupsStale() {
+        final SpongeKey<Value<String>, String> key = DataProviderRegistryTest.key();
+        final SpongeKey<Value<String>, String> laterKey = DataProviderRegistryTest.key();
+        this.registerGeneric(key);
+        final DataProviderLookup lookup = this.registry.getProviderLookup(Holder.class);
+        Assertions.assertSame(lookup, this.registry.getProviderLookup(Holder.class));
+
+        final DataProvider<?, ?> laterProvider = this.register(laterKey, Holder.class);
+
+        Assertions.assertTrue(lookup.isStale());
+        final DataProviderLookup rebuilt = this.registry.getProviderLookup(Holder.class);
+        Assertions.assertNotSame(lookup, rebuilt);
+        Assertions.assertFalse(rebuilt.isStale());
+        Assertions.assertSame(laterProvider, rebuilt.getProvider(laterKey));
+        Assertions.assertSame(laterKey.getEmptyDataProvider(), lookup.getProvider(laterKey));
+    }
+
+    interface Holder {
+    }
+
+    interface ChildHolder extends Holder {
+    }
+
+    interface OtherHolder {
+    }
+
+    abstract static class KnownHolderTypeProvider implements DataProvider<Value<String>, String>, AbstractDataProvider.KnownHolderType {
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.spongepowered.api.event.Event;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class EventDispatcherFactoryTest {
+
+    private static final EventType<Event> EVENT_TYPE = new EventType<>(Event.class);
+
+    /**
+     * Reads the length of the {@code Code} attribute of every dispatch
+     * method in the given class file.
+     */
+    private static Map<String, Integer> dispatchCodeLengths(final byte[] bytes) {
+        final ClassReader reader = new ClassReader(bytes);
+        final char[] buffer = new char[reader.getMaxStringLength()];
+        // Skip access flags, this class, super class and interfaces
+        int offset = reader.header + 6;
+        offset += 2 + reader.readUnsignedShort(offset) * 2;
+        // Skip fields
+        int count = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            offset = EventDispatcherFactoryTest.skipAttributes(reader, offset + 6);
+        }
+        final Map<String, Integer> lengths = new HashMap<>();
+        count = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            final String name = reader.readUTF8(offset + 2, buffer);
+            final int attributes = reader.readUnsignedShort(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributes; j++) {
+                if ("Code".equals(reader.readUTF8(offset, buffer)) && name.startsWith("dispatch")) {
+                    // Skip max stack and max locals
+                    lengths.put(name, reader.readInt(offset + 10));
+                }
+                offset += 6 + reader.readInt(offset + 2);
+            }
+        }
+        return lengths;
+    }
+
+    private static int skipAttributes(final ClassReader reader, int offset) {
+        final int attributes = reader.readUnsignedShort(offset);
+        offset += 2;
+        for (int i = 0; i < attributes; i++) {
+            offset += 6 + reader.readInt(offset + 2);
+        }
+        return offset;
+    }
+
+    @Test
+    void smallDispatcherUsesSingleMethod() {
+        final Map<String, Integer> lengths = EventDispatcherFactoryTest.dispatchCodeLengths(
+            EventDispatcherFactory.generateClass(EventDispatcherFactoryTest.EVENT_TYPE, EventDispatcherFactory.LISTENERS_PER_METHOD));
+        assertEquals(1, lengths.size());
+        assertTrue(lengths.containsKey("dispatch"));
+    }
+
+    @Test
+    void dispatchMethodsStayBelowHugeMethodLimitAtCap() {
+        final Map<String, Integer> lengths = EventDispatcherFactoryTest.dispatchCodeLengths(
+            EventDispatcherFactory.generateClass(EventDispatcherFactoryTest.EVENT_TYPE, EventDispatcherFactory.MAX_GENERATED_LISTENERS));
+        final int chunks = (EventDispatcherFactory.MAX_GENERATED_LISTENERS + EventDispatcherFactory.LISTENERS_PER_METHOD - 1)
+            / EventDispatcherFactory.LISTENERS_PER_METHOD;
+        assertEquals(chunks + 1, lengths.size());
+        lengths.forEach((name, length) -> assertTrue(length < EventDispatcherFactory.HUGE_METHOD_LIMIT,
+            () -> name + " is " + length + " bytes"));
+    }
+
+}
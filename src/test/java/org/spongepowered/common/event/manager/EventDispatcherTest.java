@@ -0,0 +1,207 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+final class EventDispatcherTest {
+
+    private static final EventType<TestEvent> EVENT_TYPE = new EventType<>(TestEvent.class);
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+    private final List<Throwable> failures = new ArrayList<>();
+    private int openFrames;
+
+    static Stream<Arguments> dispatchers() {
+        final Function<List<RegisteredListener<?>>, EventDispatcher> generated = listeners -> {
+            final EventDispatcher dispatcher = EventDispatcherFactory.create(EventDispatcherTest.EVENT_TYPE, listeners);
+            Assertions.assertFalse(dispatcher instanceof EventDispatcher.Iterating);
+            return dispatcher;
+        };
+        final Function<List<RegisteredListener<?>>, EventDispatcher> iterating = EventDispatcher.Iterating::new;
+        return Stream.of(Arguments.of("generated", generated), Arguments.of("iterating", iterating));
+    }
+
+    @BeforeEach
+    void replaceEnvironment() {
+        EventDispatcher.environment = new EventDispatcher.Environment() {
+            @Override
+            public CauseStackManager.StackFrame pushCauseFrame() {
+                EventDispatcherTest.this.openFrames++;
+                final CauseStackManager.StackFrame frame = Mockito.mock(CauseStackManager.StackFrame.class);
+                Mockito.doAnswer(invocation -> EventDispatcherTest.this.openFrames--).when(frame).close();
+                return frame;
+            }
+
+            @Override
+            public @Nullable PhaseContext<@NonNull ?> createListenerContext(final PluginContainer plugin) {
+                return null;
+            }
+
+            @Override
+            public void reportFailure(final RegisteredListener<?> listener, final Event event, final Throwable failure) {
+                EventDispatcherTest.this.failures.add(failure);
+            }
+        };
+    }
+
+    @AfterEach
+    void restoreEnvironment() {
+        EventDispatcher.environment = EventDispatcher.Environment.SPONGE;
+    }
+
+    private RegisteredListener<TestEvent> listener(final Order order, final EventListener<TestEvent> listener) {
+        return new RegisteredListener<>(this.plugin, EventDispatcherTest.EVENT_TYPE, order, listener, false);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dispatchers")
+    void testListenersAreCalledInOrder(final String name, final Function<List<RegisteredListener<?>>, EventDispatcher> factory) {
+        final List<Integer> called = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        // Enough listeners to split a generated dispatcher into several methods
+        final int count = EventDispatcherFactory.LISTENERS_PER_METHOD * 2 + 3;
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            final Order order = Order.values()[i * Order.values().length / count];
+            listeners.add(this.listener(order, event -> {
+                called.add(index);
+                orders.add(event.currentOrder);
+            }));
+        }
+
+        factory.apply(listeners).post(new TestEvent());
+
+        Assertions.assertEquals(count, called.size());
+        for (int i = 0; i < count; i++) {
+            Assertions.assertEquals(i, called.get(i));
+            Assertions.assertEquals(listeners.get(i).getOrder(), orders.get(i));
+        }
+        Assertions.assertEquals(0, this.openFrames);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dispatchers")
+    void testFailingListenerDoesNotStopOthers(final String name, final Function<List<RegisteredListener<?>>, EventDispatcher> factory) {
+        final List<String> called = new ArrayList<>();
+        final IllegalStateException failure = new IllegalStateException("listener failed");
+        final List<RegisteredListener<?>> listeners = List.of(
+            this.listener(Order.FIRST, event -> called.add("first")),
+            this.listener(Order.DEFAULT, event -> {
+                called.add("failing");
+                throw failure;
+            }),
+            this.listener(Order.LAST, event -> called.add("last")));
+
+        factory.apply(listeners).post(new TestEvent());
+
+        Assertions.assertEquals(List.of("first", "failing", "last"), called);
+        Assertions.assertEquals(List.of(failure), this.failures);
+        Assertions.assertEquals(0, this.openFrames);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dispatchers")
+    void testFailingFrameSkipsListener(final String name, final Function<List<RegisteredListener<?>>, EventDispatcher> factory) {
+        final List<String> called = new ArrayList<>();
+        final IllegalStateException failure = new IllegalStateException("cause failed");
+        final PluginContainer broken = Mockito.mock(PluginContainer.class);
+        final EventDispatcher.Environment environment = EventDispatcher.environment;
+        EventDispatcher.environment = new EventDispatcher.Environment() {
+            @Override
+            public CauseStackManager.StackFrame pushCauseFrame() {
+                final CauseStackManager.StackFrame frame = environment.pushCauseFrame();
+                Mockito.doThrow(failure).when(frame).pushCause(broken);
+                return frame;
+            }
+
+            @Override
+            public @Nullable PhaseContext<@NonNull ?> createListenerContext(final PluginContainer plugin) {
+                return environment.createListenerContext(plugin);
+            }
+
+            @Override
+            public void reportFailure(final RegisteredListener<?> listener, final Event event, final Throwable failure) {
+                environment.reportFailure(listener, event, failure);
+            }
+        };
+        final List<RegisteredListener<?>> listeners = List.of(
+            new RegisteredListener<>(broken, EventDispatcherTest.EVENT_TYPE, Order.FIRST, event -> called.add("broken"), false),
+            this.listener(Order.LAST, event -> called.add("last")));
+
+        factory.apply(listeners).post(new TestEvent());
+
+        Assertions.assertEquals(List.of("last"), called);
+        Assertions.assertEquals(List.of(failure), this.failures);
+        Assertions.assertEquals(0, this.openFrames);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dispatchers")
+    void testCurrentOrderIsReset(final String name, final Function<List<RegisteredListener<?>>, EventDispatcher> factory) {
+        final TestEvent event = new TestEvent();
+        final List<RegisteredListener<?>> listeners = List.of(
+            this.listener(Order.EARLY, e -> Assertions.assertEquals(Order.EARLY, e.currentOrder)),
+            this.listener(Order.LATE, e -> {
+                Assertions.assertEquals(Order.LATE, e.currentOrder);
+                throw new IllegalStateException();
+            }));
+
+        Assertions.assertFalse(factory.apply(listeners).post(event));
+
+        Assertions.assertNull(event.currentOrder);
+        Assertions.assertEquals(1, this.failures.size());
+    }
+
+    static final class TestEvent extends AbstractEvent {
+
+        @Override
+        public Cause cause() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.manager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.EventListenerRegistration;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.test.TestEventManager;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.List;
+
+final class SpongeEventManagerTest {
+
+    private static final EventType<ParentEvent> PARENT = new EventType<>(ParentEvent.class);
+    private static final EventType<ChildEvent> CHILD = new EventType<>(ChildEvent.class);
+    private static final EventType<GrandChildEvent> GRAND_CHILD = new EventType<>(GrandChildEvent.class);
+    private static final EventType<OtherEvent> OTHER = new EventType<>(OtherEvent.class);
+    private static final List<EventType<?>> ALL = List.of(SpongeEventManagerTest.PARENT, SpongeEventManagerTest.CHILD,
+        SpongeEventManagerTest.GRAND_CHILD, SpongeEventManagerTest.OTHER);
+
+    private final TestEventManager manager = new TestEventManager();
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+
+    @SuppressWarnings("unchecked")
+    private EventListener<Event> register(final Class<? extends Event> type) {
+        final EventListener<Event> listener = event -> {};
+        final EventListenerRegistration<Event> registration = Mockito.mock(EventListenerRegistration.class);
+        Mockito.doReturn(this.plugin).when(registration).plugin();
+        Mockito.doReturn(type).when(registration).eventType();
+        Mockito.doReturn(Order.DEFAULT).when(registration).order();
+        Mockito.doReturn(listener).when(registration).listener();
+        this.manager.registerListener(registration);
+        return listener;
+    }
+
+    private void bakeAll() {
+        SpongeEventManagerTest.ALL.forEach(this.manager.handlersCache::get);
+    }
+
+    private void assertCached(final boolean cached, final EventType<?> type) {
+        Assertions.assertEquals(cached, this.manager.handlersCache.asMap().containsKey(type), type.toString());
+    }
+
+    private int listeners(final EventType<?> type) {
+        return this.manager.handlersCache.get(type).getListeners().size();
+    }
+
+    @Test
+    void testRegisteringInvalidatesSubtypesOnly() {
+        this.bakeAll();
+        Assertions.assertEquals(4, this.manager.rebakeCount());
+
+        this.register(ChildEvent.class);
+
+        // A listener of a type handles its subtypes, but not its supertypes
+        this.assertCached(true, SpongeEventManagerTest.PARENT);
+        this.assertCached(false, SpongeEventManagerTest.CHILD);
+        this.assertCached(false, SpongeEventManagerTest.GRAND_CHILD);
+        this.assertCached(true, SpongeEventManagerTest.OTHER);
+
+        Assertions.assertEquals(0, this.listeners(SpongeEventManagerTest.PARENT));
+        Assertions.assertEquals(1, this.listeners(SpongeEventManagerTest.CHILD));
+        Assertions.assertEquals(1, this.listeners(SpongeEventManagerTest.GRAND_CHILD));
+        Assertions.assertEquals(0, this.listeners(SpongeEventManagerTest.OTHER));
+        Assertions.assertEquals(6, this.manager.rebakeCount());
+    }
+
+    @Test
+    void testUnregisteringInvalidatesSubtypesOnly() {
+        final EventListener<Event> listener = this.register(ParentEvent.class);
+        this.bakeAll();
+        Assertions.assertEquals(1, this.listeners(SpongeEventManagerTest.GRAND_CHILD));
+        final long baked = this.manager.rebakeCount();
+
+        this.manager.unregisterListeners(listener);
+
+        this.assertCached(false, SpongeEventManagerTest.PARENT);
+        this.assertCached(false, SpongeEventManagerTest.CHILD);
+        this.assertCached(false, SpongeEventManagerTest.GRAND_CHILD);
+        this.assertCached(true, SpongeEventManagerTest.OTHER);
+
+        Assertions.assertEquals(0, this.listeners(SpongeEventManagerTest.GRAND_CHILD));
+        Assertions.assertEquals(baked + 1, this.manager.rebakeCount());
+    }
+
+    @Test
+    void testRootListenerInvalidatesEverything() {
+        this.bakeAll();
+
+        this.register(Event.class);
+
+        SpongeEventManagerTest.ALL.forEach(type -> this.assertCached(false, type));
+        SpongeEventManagerTest.ALL.forEach(type -> Assertions.assertEquals(1, this.listeners(type)));
+        Assertions.assertEquals(8, this.manager.rebakeCount());
+    }
+
+    @Test
+    void testUnrelatedChangesKeepCache() {
+        final EventListener<Event> listener = this.register(OtherEvent.class);
+        this.bakeAll();
+        final long baked = this.manager.rebakeCount();
+
+        this.register(OtherEvent.class);
+        this.manager.unregisterListeners(listener);
+        // Nothing was registered for the listener any more
+        this.manager.unregisterListeners(listener);
+
+        this.assertCached(true, SpongeEventManagerTest.PARENT);
+        this.assertCached(true, SpongeEventManagerTest.CHILD);
+        this.assertCached(true, SpongeEventManagerTest.GRAND_CHILD);
+        Assertions.assertEquals(baked, this.manager.rebakeCount());
+    }
+
+    interface ParentEvent extends Event {
+    }
+
+    interface ChildEvent extends ParentEvent {
+    }
+
+    interface GrandChildEvent extends ChildEvent {
+    }
+
+    interface OtherEvent extends Event {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.EventContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CauseStackNodeTest {
+
+    @Test
+    void iteratesFromTopToBottom() {
+        final CauseStackNode bottom = new CauseStackNode("bottom", null);
+        final CauseStackNode top = new CauseStackNode("top", new CauseStackNode("middle", bottom));
+
+        final List<Object> values = new ArrayList<>();
+        top.forEach(values::add);
+
+        assertEquals(List.of("top", "middle", "bottom"), values);
+        assertEquals(3, top.size);
+        assertEquals(0, CauseStackNode.size(null));
+    }
+
+    @Test
+    void reusesSnapshotForSameContext() {
+        final CauseStackNode node = new CauseStackNode("root", null);
+        final EventContext context = EventContext.empty();
+
+        final Cause first = node.snapshot(context);
+        assertSame(first, node.snapshot(context));
+        assertEquals("root", first.root());
+    }
+
+    @Test
+    void sharesParentSnapshotAfterPop() {
+        final EventContext context = EventContext.empty();
+        final CauseStackNode parent = new CauseStackNode("parent", null);
+        final Cause parentCause = parent.snapshot(context);
+
+        final CauseStackNode child = new CauseStackNode("child", parent);
+        final Cause childCause = child.snapshot(context);
+        assertNotSame(parentCause, childCause);
+
+        // Popping the child leaves the parent as the head again
+        assertSame(parentCause, child.parent.snapshot(context));
+    }
+
+}
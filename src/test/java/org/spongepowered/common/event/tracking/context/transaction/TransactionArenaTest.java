@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+
+final class TransactionArenaTest {
+
+    private static final ProcessingSideEffect FIRST = (pipeline, oldState, newState, flag, limit) -> null;
+    private static final ProcessingSideEffect SECOND = (pipeline, oldState, newState, flag, limit) -> null;
+
+    @Test
+    void reclaimedNodesAreReused() {
+        final TransactionArena arena = new TransactionArena(false, 16);
+        final ResultingTransactionBySideEffect first = arena.effect(TransactionArenaTest.FIRST);
+        arena.reclaim();
+        assertEquals(1, arena.pooledNodes());
+
+        final ResultingTransactionBySideEffect reused = arena.effect(TransactionArenaTest.SECOND);
+        assertSame(first, reused);
+        assertSame(TransactionArenaTest.SECOND, reused.effect);
+        assertEquals(0, arena.pooledNodes());
+    }
+
+    @Test
+    void pooledNodesAreCapped() {
+        final TransactionArena arena = new TransactionArena(false, 4);
+        for (int i = 0; i < 10; i++) {
+            arena.effect(TransactionArenaTest.FIRST);
+        }
+        arena.reclaim();
+        assertEquals(4, arena.pooledNodes());
+    }
+
+    @Test
+    void poisonedNodesAreNotReused() {
+        final TransactionArena arena = new TransactionArena(true, 16);
+        final ResultingTransactionBySideEffect first = arena.effect(TransactionArenaTest.FIRST);
+        arena.reclaim();
+        assertEquals(0, arena.pooledNodes());
+        assertNotSame(first, arena.effect(TransactionArenaTest.SECOND));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void poisonedNodesFailOnUse() {
+        final TransactionArena arena = new TransactionArena(true, 16);
+        final ResultingTransactionBySideEffect effect = arena.effect(TransactionArenaTest.FIRST);
+        final EffectTransactor transactor = arena.transactor(effect, null, null, Mockito.mock(TransactionalCaptureSupplier.class));
+        arena.reclaim();
+        // Allocating new nodes must not clear the poison of the reclaimed ones
+        arena.effect(TransactionArenaTest.SECOND);
+
+        assertThrows(IllegalStateException.class, () -> effect.addChild(Mockito.mock(PhaseContext.class), Mockito.mock(GameTransaction.class)));
+        assertThrows(IllegalStateException.class, transactor::close);
+    }
+
+    @Test
+    void detachedTransactorsIgnoreLateClose() {
+        final TransactionArena arena = new TransactionArena(false, 16);
+        final TransactionalCaptureSupplier supplier = Mockito.mock(TransactionalCaptureSupplier.class);
+        final ResultingTransactionBySideEffect effect = arena.effect(TransactionArenaTest.FIRST);
+        final EffectTransactor transactor = arena.transactor(effect, null, null, supplier);
+        arena.reclaim();
+        final ResultingTransactionBySideEffect reused = arena.effect(TransactionArenaTest.SECOND);
+        assertSame(effect, reused);
+
+        // Like a transactor held in a field past the lifetime of its context
+        transactor.close();
+
+        Mockito.verify(supplier, Mockito.never()).popEffect(Mockito.any());
+        assertSame(TransactionArenaTest.SECOND, reused.effect);
+        assertNotSame(transactor, arena.transactor(reused, null, null, supplier));
+    }
+
+}
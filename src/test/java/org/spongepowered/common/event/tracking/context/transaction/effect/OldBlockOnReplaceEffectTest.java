@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.effect;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.spongepowered.common.block.BlockEntityCapture;
+import org.spongepowered.common.bridge.world.level.block.entity.TrackedBlockEntityBridge;
+import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockPipeline;
+import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+final class OldBlockOnReplaceEffectTest {
+
+    @Test
+    void testPendingCaptureIsTakenBeforeRemoval() {
+        final BlockEntity blockEntity = Mockito.mock(BlockEntity.class, Mockito.withSettings().extraInterfaces(TrackedBlockEntityBridge.class));
+        final AtomicReference<BlockEntityCapture> pending = new AtomicReference<>();
+        Mockito.when(((TrackedBlockEntityBridge) blockEntity).bridge$pendingCapture()).thenAnswer(invocation -> pending.get());
+        Mockito.doAnswer(invocation -> {
+            pending.set(invocation.getArgument(0));
+            return null;
+        }).when((TrackedBlockEntityBridge) blockEntity).bridge$setPendingCapture(ArgumentMatchers.any());
+        Mockito.when(blockEntity.getLevel()).thenReturn(Mockito.mock(Level.class));
+        final CompoundTag saved = new CompoundTag();
+        Mockito.when(blockEntity.saveWithFullMetadata(ArgumentMatchers.any())).thenReturn(saved);
+
+        final BlockState oldState = Mockito.mock(BlockState.class);
+        final BlockState newState = Mockito.mock(BlockState.class);
+        final BlockEntityCapture capture = BlockEntityCapture.deferred(blockEntity);
+
+        final EffectResult result = OldBlockOnReplaceEffect.getInstance().processSideEffect(Mockito.mock(BlockPipeline.class),
+            new PipelineCursor(oldState, 0, BlockPos.ZERO, blockEntity, null, 0), newState, Mockito.mock(SpongeBlockChangeFlag.class), 0);
+
+        Assertions.assertSame(EffectResult.NULL_PASS, result);
+        final InOrder order = Mockito.inOrder(blockEntity, oldState);
+        order.verify(blockEntity).saveWithFullMetadata(ArgumentMatchers.any());
+        order.verify(oldState).onRemove(ArgumentMatchers.any(), ArgumentMatchers.eq(BlockPos.ZERO), ArgumentMatchers.eq(newState),
+            ArgumentMatchers.anyBoolean());
+        Assertions.assertSame(saved, capture.compound());
+    }
+
+    @Test
+    void testNothingIsSavedWithoutPendingCapture() {
+        final BlockEntity blockEntity = Mockito.mock(BlockEntity.class, Mockito.withSettings().extraInterfaces(TrackedBlockEntityBridge.class));
+        final BlockState oldState = Mockito.mock(BlockState.class);
+
+        OldBlockOnReplaceEffect.getInstance().processSideEffect(Mockito.mock(BlockPipeline.class),
+            new PipelineCursor(oldState, 0, BlockPos.ZERO, blockEntity, null, 0), oldState, Mockito.mock(SpongeBlockChangeFlag.class), 0);
+
+        Mockito.verify(blockEntity, Mockito.never()).saveWithFullMetadata(ArgumentMatchers.any());
+        Mockito.verify(oldState).onRemove(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.anyBoolean());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.inventory.fabric.Fabric;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
+import org.spongepowered.common.inventory.lens.impl.QueryLens;
+import org.spongepowered.common.inventory.lens.impl.slot.BasicSlotLens;
+import org.spongepowered.common.inventory.lens.slots.SlotLens;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+final class SpongeDepthQueryTest {
+
+    private final Inventory inventory = Mockito.mock(Inventory.class);
+    private final Fabric fabric = Mockito.mock(Fabric.class);
+
+    private final BasicSlotLens slot0 = new BasicSlotLens(0);
+    private final BasicSlotLens slot1 = new BasicSlotLens(1);
+    private final BasicSlotLens slot2 = new BasicSlotLens(2);
+    private final BasicSlotLens slot3 = new BasicSlotLens(3);
+    private final TestLens row0 = new TestLens(0, this.slot0, this.slot1);
+    private final TestLens row1 = new TestLens(2, this.slot2, this.slot3);
+    private final TestLens root = new TestLens(0, this.row0, this.row1);
+
+    private static List<Object> describe(final @Nullable Lens lens) {
+        final List<Object> description = new ArrayList<>();
+        if (lens instanceof QueryLens) {
+            for (final Lens child : lens.getChildren()) {
+                description.add(child.base());
+                description.add(child.getChildren().getFirst());
+            }
+        } else {
+            description.add(lens);
+        }
+        return description;
+    }
+
+    private void assertSameResult(final Predicate<Lens> matcher) {
+        final Lens nested = new TestLens(0, new TestLens(0, this.slot0));
+        for (final Lens tree : List.of(this.root, nested)) {
+            final List<Object> uncached = SpongeDepthQueryTest.describe(new TestQuery(matcher, false).resultLens(this.inventory, this.fabric, tree));
+            final TestQuery cachedQuery = new TestQuery(matcher, true);
+            Assertions.assertEquals(uncached, SpongeDepthQueryTest.describe(cachedQuery.resultLens(this.inventory, this.fabric, tree)));
+            // The second call is answered from the cache
+            Assertions.assertEquals(uncached, SpongeDepthQueryTest.describe(cachedQuery.resultLens(this.inventory, this.fabric, tree)));
+        }
+    }
+
+    @Test
+    void testCachedMatchesUncached() {
+        this.assertSameResult(lens -> lens instanceof SlotLens);
+        this.assertSameResult(lens -> lens == this.root);
+        this.assertSameResult(lens -> lens == this.row1);
+        this.assertSameResult(lens -> lens == this.slot1 || lens == this.slot2);
+        this.assertSameResult(lens -> lens == this.slot3);
+        this.assertSameResult(lens -> false);
+    }
+
+    @Test
+    void testCachedResultIsReducedPerFabric() {
+        final Fabric other = Mockito.mock(Fabric.class);
+        // Like the held hand, the slot this lens resolves to depends on the fabric
+        final FabricSlotLens held = new FabricSlotLens(4, Map.of(this.fabric, this.slot0, other, this.slot1));
+        final TestLens root = new TestLens(0, this.row0, this.row1, held);
+        final Predicate<Lens> matcher = lens -> lens == this.slot0 || lens == held;
+
+        final TestQuery query = new TestQuery(matcher, true);
+        // Both matches are the same slot of the first fabric, they are reduced to it
+        Assertions.assertSame(this.slot0, query.resultLens(this.inventory, this.fabric, root));
+        // But not in the other fabric
+        final List<Object> expected = SpongeDepthQueryTest.describe(new TestQuery(matcher, false).resultLens(this.inventory, other, root));
+        Assertions.assertEquals(List.of(0, this.slot0, 0, held), expected);
+        Assertions.assertEquals(expected, SpongeDepthQueryTest.describe(query.resultLens(this.inventory, other, root)));
+    }
+
+    private static final class TestQuery extends SpongeDepthQuery {
+
+        private final Predicate<Lens> matcher;
+        private final boolean lensesOnly;
+
+        TestQuery(final Predicate<Lens> matcher, final boolean lensesOnly) {
+            this.matcher = matcher;
+            this.lensesOnly = lensesOnly;
+        }
+
+        @Override
+        public boolean matches(final Lens lens, final Lens parent, final Inventory inventory) {
+            return this.matcher.test(lens);
+        }
+
+        @Override
+        protected boolean matchesLensesOnly() {
+            return this.lensesOnly;
+        }
+    }
+
+    private static final class TestLens extends AbstractLens {
+
+        TestLens(final int base, final Lens... children) {
+            super(base, List.of(children).stream().mapToInt(Lens::slotCount).sum(), Inventory.class);
+            for (final Lens child : children) {
+                this.addSpanningChild(child);
+            }
+        }
+
+        @Override
+        public Inventory getAdapter(final Fabric fabric, final Inventory parent) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class FabricSlotLens extends BasicSlotLens {
+
+        private final Map<Fabric, SlotLens> slots;
+
+        FabricSlotLens(final int index, final Map<Fabric, SlotLens> slots) {
+            super(index);
+            this.slots = slots;
+        }
+
+        @Override
+        public SlotLens getSlotLens(final Fabric fabric, final int ordinal) {
+            return this.slots.get(fabric);
+        }
+    }
+}
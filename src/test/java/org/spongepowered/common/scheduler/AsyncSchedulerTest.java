@@ -0,0 +1,164 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.applaunch.config.common.SchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class AsyncSchedulerTest {
+
+    private static final String PLUGIN_ID = "test";
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+    private AsyncScheduler scheduler;
+
+    AsyncSchedulerTest() {
+        final PluginMetadata metadata = Mockito.mock(PluginMetadata.class);
+        Mockito.when(metadata.id()).thenReturn(AsyncSchedulerTest.PLUGIN_ID);
+        Mockito.when(this.plugin.metadata()).thenReturn(metadata);
+    }
+
+    @AfterEach
+    void closeScheduler() {
+        if (this.scheduler != null) {
+            this.scheduler.close();
+        }
+    }
+
+    private AsyncScheduler scheduler(final SchedulerCategory.ExecutionMode mode, final int maxConcurrentTasksPerPlugin) {
+        final SchedulerCategory config = new SchedulerCategory();
+        config.asyncExecutionMode = mode;
+        config.maxConcurrentTasksPerPlugin = maxConcurrentTasksPerPlugin;
+        this.scheduler = new AsyncScheduler(config);
+        return this.scheduler;
+    }
+
+    private SpongeScheduledTask task(final String name) {
+        final SpongeTask task = (SpongeTask) new SpongeTask.BuilderImpl().plugin(this.plugin).execute(t -> {}).build();
+        return new SpongeScheduledTask(this.scheduler, task, name);
+    }
+
+    private Thread runningThread(final SpongeScheduledTask task) throws Exception {
+        final CompletableFuture<Thread> thread = new CompletableFuture<>();
+        this.scheduler.executeRunnable(task, SpongeScheduledTask.ScheduledTaskState.WAITING, () -> thread.complete(Thread.currentThread()));
+        return thread.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testPlatformModeRunsOnPlatformThreads() throws Exception {
+        this.scheduler(SchedulerCategory.ExecutionMode.PLATFORM, 0);
+
+        final Thread thread = this.runningThread(this.task("platform"));
+
+        Assertions.assertFalse(thread.isVirtual());
+        Assertions.assertNull(AsyncScheduler.pluginFromThreadName(thread.getName()));
+    }
+
+    @Test
+    void testVirtualModeNamesThreadsAfterPlugin() throws Exception {
+        this.scheduler(SchedulerCategory.ExecutionMode.VIRTUAL, 0);
+
+        final Thread thread = this.runningThread(this.task("virtual"));
+
+        Assertions.assertTrue(thread.isVirtual());
+        Assertions.assertEquals(AsyncSchedulerTest.PLUGIN_ID, AsyncScheduler.pluginFromThreadName(thread.getName()));
+    }
+
+    @Test
+    void testPluginFromThreadName() {
+        Assertions.assertEquals("plugin", AsyncScheduler.pluginFromThreadName("Sponge-AsyncScheduler-Virtual-plugin"));
+        // Threads which did not start a task yet
+        Assertions.assertNull(AsyncScheduler.pluginFromThreadName("Sponge-AsyncScheduler-Virtual-12"));
+        Assertions.assertNull(AsyncScheduler.pluginFromThreadName("Sponge-AsyncScheduler-Virtual-"));
+        Assertions.assertNull(AsyncScheduler.pluginFromThreadName("Sponge-AsyncScheduler-3"));
+    }
+
+    @Test
+    void testTasksOverLimitWaitForPermit() throws Exception {
+        this.scheduler(SchedulerCategory.ExecutionMode.VIRTUAL, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> second = new CompletableFuture<>();
+
+        this.scheduler.executeRunnable(this.task("first"), SpongeScheduledTask.ScheduledTaskState.WAITING, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        this.scheduler.executeRunnable(this.task("second"), SpongeScheduledTask.ScheduledTaskState.WAITING, () -> second.complete(null));
+
+        // The only permit of the plugin is held by the first task
+        Thread.sleep(100);
+        Assertions.assertFalse(second.isDone());
+
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testInterruptedPermitWaitRestoresState() {
+        this.scheduler(SchedulerCategory.ExecutionMode.VIRTUAL, 1);
+        final SpongeScheduledTask task = this.task("interrupted");
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        Thread.currentThread().interrupt();
+        this.scheduler.runWithPermit(task, SpongeScheduledTask.ScheduledTaskState.RUNNING, AsyncSchedulerTest.PLUGIN_ID, () -> ran.set(true));
+
+        // The interrupt is kept for the caller
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertFalse(ran.get());
+        Assertions.assertEquals(SpongeScheduledTask.ScheduledTaskState.RUNNING, task.state());
+    }
+
+    @Test
+    void testInterruptedPermitWaitKeepsCancellation() {
+        this.scheduler(SchedulerCategory.ExecutionMode.VIRTUAL, 1);
+        final SpongeScheduledTask task = this.task("cancelled");
+        task.setState(SpongeScheduledTask.ScheduledTaskState.CANCELED);
+        final AtomicBoolean ran = new AtomicBoolean();
+
+        Thread.currentThread().interrupt();
+        this.scheduler.runWithPermit(task, SpongeScheduledTask.ScheduledTaskState.RUNNING, AsyncSchedulerTest.PLUGIN_ID, () -> ran.set(true));
+
+        Assertions.assertTrue(Thread.interrupted());
+        Assertions.assertFalse(ran.get());
+        Assertions.assertEquals(SpongeScheduledTask.ScheduledTaskState.CANCELED, task.state());
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+final class SpongeSchedulerTest {
+
+    private final TestScheduler scheduler = new TestScheduler();
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+
+    private SpongeScheduledTask submit(final String name, final Task.Builder builder, final Consumer<ScheduledTask> executor) {
+        return this.scheduler.submit(builder.plugin(this.plugin).execute(executor).build(), name);
+    }
+
+    private SpongeScheduledTask submit(final String name, final long delayMillis, final List<String> executed) {
+        return this.submit(name, new SpongeTask.BuilderImpl().delay(Duration.ofMillis(delayMillis)), task -> executed.add(name));
+    }
+
+    private static Ticks ticks(final long ticks) {
+        final Ticks mock = Mockito.mock(Ticks.class);
+        Mockito.when(mock.ticks()).thenReturn(ticks);
+        return mock;
+    }
+
+    @Test
+    void testTasksRunInDueOrder() {
+        final List<String> executed = new ArrayList<>();
+        this.submit("c", 30, executed);
+        this.submit("a", 10, executed);
+        this.submit("b", 20, executed);
+        // Due at the same time as a, but submitted later
+        this.submit("a2", 10, executed);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), this.scheduler.nanosUntilNextTask());
+
+        this.scheduler.advance(Duration.ofMillis(5));
+        Assertions.assertEquals(List.of(), executed);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(5), this.scheduler.nanosUntilNextTask());
+
+        this.scheduler.advance(Duration.ofMillis(15));
+        Assertions.assertEquals(List.of("a", "a2", "b"), executed);
+
+        this.scheduler.advance(Duration.ofMillis(10));
+        Assertions.assertEquals(List.of("a", "a2", "b", "c"), executed);
+        Assertions.assertEquals(Long.MAX_VALUE, this.scheduler.nanosUntilNextTask());
+        Assertions.assertTrue(this.scheduler.tasks().isEmpty());
+    }
+
+    @Test
+    void testTickBasedTasksWaitForTicks() {
+        final List<String> executed = new ArrayList<>();
+        this.submit("ticks", new SpongeTask.BuilderImpl().delay(SpongeSchedulerTest.ticks(2)), task -> executed.add("ticks"));
+        this.submit("wall clock", 1, executed);
+
+        // Wall clock time passing does not make tick based tasks due
+        this.scheduler.advance(Duration.ofSeconds(1));
+        Assertions.assertEquals(List.of("wall clock"), executed);
+
+        this.scheduler.tick();
+        Assertions.assertEquals(List.of("wall clock"), executed);
+        this.scheduler.tick();
+        Assertions.assertEquals(List.of("wall clock", "ticks"), executed);
+    }
+
+    @Test
+    void testRepeatingTasksRunEveryInterval() {
+        final List<String> executed = new ArrayList<>();
+        final SpongeScheduledTask repeating = this.submit("repeating",
+            new SpongeTask.BuilderImpl().delay(Duration.ofMillis(5)).interval(Duration.ofMillis(10)), task -> executed.add("repeating"));
+
+        this.scheduler.advance(Duration.ofMillis(5));
+        Assertions.assertEquals(1, executed.size());
+        // The interval counts from the start of the previous execution
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), this.scheduler.nanosUntilNextTask());
+
+        this.scheduler.advance(Duration.ofMillis(9));
+        Assertions.assertEquals(1, executed.size());
+        this.scheduler.advance(Duration.ofMillis(1));
+        Assertions.assertEquals(2, executed.size());
+        // A late tick runs the task once, not once per missed interval
+        this.scheduler.advance(Duration.ofMillis(35));
+        Assertions.assertEquals(3, executed.size());
+        Assertions.assertTrue(this.scheduler.findTask(repeating.uniqueId()).isPresent());
+
+        repeating.cancel();
+        this.scheduler.advance(Duration.ofMillis(10));
+        Assertions.assertEquals(3, executed.size());
+        Assertions.assertTrue(this.scheduler.tasks().isEmpty());
+        Assertions.assertEquals(Long.MAX_VALUE, this.scheduler.nanosUntilNextTask());
+    }
+
+    @Test
+    void testRepeatingTaskCancelledWhileRunning() {
+        final List<String> executed = new ArrayList<>();
+        this.submit("once", new SpongeTask.BuilderImpl().interval(Duration.ofMillis(10)), task -> {
+            executed.add("once");
+            task.cancel();
+        });
+
+        this.scheduler.advance(Duration.ZERO);
+        this.scheduler.advance(Duration.ofMillis(10));
+
+        Assertions.assertEquals(List.of("once"), executed);
+        Assertions.assertTrue(this.scheduler.tasks().isEmpty());
+        Assertions.assertEquals(Long.MAX_VALUE, this.scheduler.nanosUntilNextTask());
+    }
+
+    @Test
+    void testCancelledTasksArePurged() {
+        final List<String> executed = new ArrayList<>();
+        final List<SpongeScheduledTask> cancelled = new ArrayList<>();
+        for (int i = 0; i < ScheduledTaskQueue.PURGE_THRESHOLD; i++) {
+            cancelled.add(this.submit("cancelled-" + i, 1000, executed));
+        }
+        this.submit("kept", 2000, executed);
+        cancelled.forEach(SpongeScheduledTask::cancel);
+        Assertions.assertEquals(1, this.scheduler.tasks().size());
+        // Cancelled entries stay queued until the next tick purges them
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), this.scheduler.nanosUntilNextTask());
+
+        this.scheduler.advance(Duration.ZERO);
+
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(2000), this.scheduler.nanosUntilNextTask());
+        this.scheduler.advance(Duration.ofMillis(2000));
+        Assertions.assertEquals(List.of("kept"), executed);
+    }
+
+    @Test
+    void testFewCancelledTasksAreDroppedWhenDue() {
+        final List<String> executed = new ArrayList<>();
+        final SpongeScheduledTask cancelled = this.submit("cancelled", 10, executed);
+        this.submit("kept", 20, executed);
+        cancelled.cancel();
+
+        // Too few cancellations to be worth a purge
+        this.scheduler.advance(Duration.ZERO);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), this.scheduler.nanosUntilNextTask());
+
+        this.scheduler.advance(Duration.ofMillis(10));
+        Assertions.assertEquals(List.of(), executed);
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(10), this.scheduler.nanosUntilNextTask());
+        this.scheduler.advance(Duration.ofMillis(10));
+        Assertions.assertEquals(List.of("kept"), executed);
+    }
+
+    /**
+     * A scheduler whose ticks and wall clock only move when told to.
+     */
+    private static final class TestScheduler extends SpongeScheduler {
+
+        private long ticks;
+        private long nanos;
+
+        TestScheduler() {
+            super("T");
+        }
+
+        void advance(final Duration duration) {
+            this.nanos += duration.toNanos();
+            this.runTick();
+        }
+
+        void tick() {
+            this.ticks++;
+            this.runTick();
+        }
+
+        @Override
+        protected long timestamp(final boolean tickBased) {
+            return tickBased ? this.ticks * SpongeScheduler.TICK_DURATION_NS : this.nanos;
+        }
+
+        @Override
+        protected @Nullable PhaseContext<?> createContext(final SpongeScheduledTask task, final PluginContainer plugin) {
+            return null;
+        }
+    }
+}
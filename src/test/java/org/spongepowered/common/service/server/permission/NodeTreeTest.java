@@ -27,11 +27,16 @@
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.spongepowered.api.service.permission.NodeTree;
+import org.spongepowered.api.service.permission.Subject;
+import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public class NodeTreeTest {
 
@@ -110,4 +115,73 @@ public void testCreateFromValues() throws Exception {
         Assertions.assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testPartsAreLowerCasedAndKeepEmptyParts() {
+        Assertions.assertArrayEquals(new String[] {"sponge", "command", "tp"}, SpongeNodeTree.parts("Sponge.Command.TP"));
+        Assertions.assertArrayEquals(new String[] {"sponge", ""}, SpongeNodeTree.parts("sponge."));
+        Assertions.assertArrayEquals(new String[] {""}, SpongeNodeTree.parts(""));
+        Assertions.assertSame(SpongeNodeTree.parts("sponge.command"), SpongeNodeTree.parts("sponge.command"));
+    }
+
+    @Test
+    public void testGetIgnoresCase() {
+        final NodeTree nodes = NodeTreeTest.FACTORY.ofBooleans(Map.of("sponge.command", true, "sponge.command.stop", false),
+            Tristate.UNDEFINED);
+
+        Assertions.assertEquals(Tristate.TRUE, nodes.get("sponge.command.tp"));
+        Assertions.assertEquals(Tristate.FALSE, nodes.get("SPONGE.COMMAND.STOP"));
+        Assertions.assertEquals(Tristate.UNDEFINED, nodes.get("minecraft.command"));
+    }
+
+    @Test
+    public void testResolvedPermissionRecomputedAfterNodeChange() {
+        final MemorySubjectData data = NodeTreeTest.subjectData(Map.of("generate.rainbow", true));
+        final AtomicInteger resolutions = new AtomicInteger();
+
+        Assertions.assertEquals(Tristate.TRUE, NodeTreeTest.resolve(data, "generate.rainbow", resolutions));
+        Assertions.assertEquals(Tristate.TRUE, NodeTreeTest.resolve(data, "generate.rainbow", resolutions));
+        Assertions.assertEquals(1, resolutions.get());
+
+        data.setPermission(SubjectData.GLOBAL_CONTEXT, "generate.rainbow", Tristate.FALSE);
+
+        Assertions.assertEquals(Tristate.FALSE, NodeTreeTest.resolve(data, "generate.rainbow", resolutions));
+        Assertions.assertEquals(2, resolutions.get());
+    }
+
+    @Test
+    public void testResolvedPermissionRecomputedAfterConsultedNodeChange() {
+        final MemorySubjectData parent = NodeTreeTest.subjectData(Map.of("generate", true));
+        final MemorySubjectData child = NodeTreeTest.subjectData(Map.of("other", true));
+        final AtomicInteger resolutions = new AtomicInteger();
+        final Function<String, Tristate> resolver = permission -> {
+            resolutions.incrementAndGet();
+            final Tristate own = child.nodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+            return own != Tristate.UNDEFINED ? own : parent.resolvePermission(permission,
+                p -> parent.nodeTree(SubjectData.GLOBAL_CONTEXT).get(p));
+        };
+
+        Assertions.assertEquals(Tristate.TRUE, child.resolvePermission("generate.sunset", resolver));
+        Assertions.assertEquals(Tristate.TRUE, child.resolvePermission("generate.sunset", resolver));
+        Assertions.assertEquals(1, resolutions.get());
+
+        parent.setPermission(SubjectData.GLOBAL_CONTEXT, "generate.sunset", Tristate.FALSE);
+
+        Assertions.assertEquals(Tristate.FALSE, child.resolvePermission("generate.sunset", resolver));
+        Assertions.assertEquals(2, resolutions.get());
+    }
+
+    private static MemorySubjectData subjectData(final Map<String, Boolean> permissions) {
+        final MemorySubjectData data = new MemorySubjectData(Mockito.mock(Subject.class));
+        // Seed the tree directly, NodeTree.of needs a running game
+        data.permissions.put(SubjectData.GLOBAL_CONTEXT, NodeTreeTest.FACTORY.ofBooleans(permissions, Tristate.UNDEFINED));
+        return data;
+    }
+
+    private static Tristate resolve(final MemorySubjectData data, final String permission, final AtomicInteger resolutions) {
+        return data.resolvePermission(permission, p -> {
+            resolutions.incrementAndGet();
+            return data.nodeTree(SubjectData.GLOBAL_CONTEXT).get(p);
+        });
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.user;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class UserSaveQueueTest {
+
+    private static final UUID USER = UUID.fromString("41C82C87-7AFB-4024-BA57-13D2C99CAE77");
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Map<UUID, CompoundTag> disk = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    private static CompoundTag snapshot(final int value) {
+        final CompoundTag compound = new CompoundTag();
+        compound.putInt("Value", value);
+        return compound;
+    }
+
+    @Test
+    void testFlushWaitsForRunningWrite() throws Exception {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final UserSaveQueue queue = new UserSaveQueue(this.executor, (id, compound) -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+            this.disk.put(id, compound);
+        });
+        queue.queue(UserSaveQueueTest.USER, UserSaveQueueTest.snapshot(1), () -> {});
+        Assertions.assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // The player logs in while the write is still running
+        final CompletableFuture<CompoundTag> login = CompletableFuture.supplyAsync(() -> {
+            queue.flush(UserSaveQueueTest.USER);
+            return this.disk.get(UserSaveQueueTest.USER);
+        });
+        Thread.sleep(50);
+        Assertions.assertFalse(login.isDone());
+
+        release.countDown();
+        Assertions.assertEquals(UserSaveQueueTest.snapshot(1), login.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testQueuedSnapshotIsReplaced() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Map<UUID, Integer> writes = new ConcurrentHashMap<>();
+        final UserSaveQueue queue = new UserSaveQueue(this.executor, (id, compound) -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+            writes.merge(id, 1, Integer::sum);
+            this.disk.put(id, compound);
+        });
+        // The first write blocks, the second and third wait behind it
+        queue.queue(UserSaveQueueTest.USER, UserSaveQueueTest.snapshot(1), () -> {});
+        Thread.sleep(50);
+        queue.queue(UserSaveQueueTest.USER, UserSaveQueueTest.snapshot(2), () -> {});
+        queue.queue(UserSaveQueueTest.USER, UserSaveQueueTest.snapshot(3), () -> {});
+        release.countDown();
+        queue.flush(UserSaveQueueTest.USER);
+
+        Assertions.assertEquals(UserSaveQueueTest.snapshot(3), this.disk.get(UserSaveQueueTest.USER));
+        Assertions.assertEquals(2, writes.get(UserSaveQueueTest.USER));
+        Assertions.assertEquals(0, queue.queued());
+    }
+
+    @Test
+    void testFailedWriteIsReportedAndFlushed() {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final UserSaveQueue queue = new UserSaveQueue(this.executor, (id, compound) -> {
+            throw new IOException("disk full");
+        });
+        final CompletableFuture<Void> save = queue.queue(UserSaveQueueTest.USER, UserSaveQueueTest.snapshot(1), () -> failed.set(true));
+
+        queue.flush(UserSaveQueueTest.USER);
+        Assertions.assertTrue(save.isCompletedExceptionally());
+        Assertions.assertTrue(failed.get());
+        Assertions.assertEquals(1, queue.completed());
+    }
+
+    @Test
+    void testFlushWithoutSavesReturns() {
+        final UserSaveQueue queue = new UserSaveQueue(this.executor, (id, compound) -> Assertions.fail());
+        queue.flush(UserSaveQueueTest.USER);
+        queue.flushAll();
+        Assertions.assertEquals(0, queue.completed());
+    }
+}
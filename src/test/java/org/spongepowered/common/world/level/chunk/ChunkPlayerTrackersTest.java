@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+final class ChunkPlayerTrackersTest {
+
+    @Test
+    void testMissingPositionHasNoTrackers() {
+        final ChunkPlayerTrackers trackers = new ChunkPlayerTrackers();
+        final BlockPos pos = new BlockPos(1, 2, 3);
+        Assertions.assertTrue(trackers.isEmpty());
+        Assertions.assertFalse(trackers.contains(pos));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, trackers.creator(pos));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, trackers.notifier(pos));
+    }
+
+    @Test
+    void testUntouchedTrackersWriteNothing() {
+        final ChunkPlayerTrackers trackers = new ChunkPlayerTrackers();
+        trackers.remove(new BlockPos(1, 2, 3));
+        Assertions.assertTrue(trackers.isEmpty());
+        Assertions.assertTrue(trackers.write().isEmpty());
+    }
+
+    @Test
+    void testSectionsDoNotCollide() {
+        final ChunkPlayerTrackers trackers = new ChunkPlayerTrackers();
+        final BlockPos below = new BlockPos(4, -60, 7);
+        final BlockPos above = new BlockPos(4, 4, 7);
+        trackers.set(below, 1, ChunkPlayerTrackers.NONE);
+        trackers.set(above, ChunkPlayerTrackers.NONE, 2);
+
+        Assertions.assertEquals(1, trackers.creator(below));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, trackers.notifier(below));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, trackers.creator(above));
+        Assertions.assertEquals(2, trackers.notifier(above));
+
+        trackers.remove(below);
+        Assertions.assertFalse(trackers.contains(below));
+        Assertions.assertTrue(trackers.contains(above));
+    }
+
+    @Test
+    void testWriteAndRead() {
+        final ChunkPlayerTrackers trackers = new ChunkPlayerTrackers();
+        trackers.set(new BlockPos(0, -64, 0), 3, 4);
+        trackers.set(new BlockPos(15, 319, 15), 5, ChunkPlayerTrackers.NONE);
+        trackers.set(new BlockPos(8, 70, 2), ChunkPlayerTrackers.NONE, 6);
+
+        final ChunkPlayerTrackers read = new ChunkPlayerTrackers();
+        read.read(trackers.write());
+        Assertions.assertEquals(3, read.creator(new BlockPos(0, -64, 0)));
+        Assertions.assertEquals(4, read.notifier(new BlockPos(0, -64, 0)));
+        Assertions.assertEquals(5, read.creator(new BlockPos(15, 319, 15)));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, read.notifier(new BlockPos(15, 319, 15)));
+        Assertions.assertEquals(6, read.notifier(new BlockPos(8, 70, 2)));
+    }
+
+    @Test
+    void testReadLegacy() {
+        final ListTag legacy = new ListTag();
+        final CompoundTag shortPos = new CompoundTag();
+        // x = 3, y = 200, z = 9
+        shortPos.putShort("pos", (short) (3 | 200 << 4 | 9 << 12));
+        shortPos.putInt("owner", 1);
+        shortPos.putInt("notifier", -1);
+        legacy.add(shortPos);
+        final CompoundTag intPos = new CompoundTag();
+        // x = 5, y = -20, z = 14
+        intPos.putInt("ipos", 5 | (-20 & 0xFFFFFF) << 4 | 14 << 28);
+        intPos.putInt("owner", -1);
+        intPos.putInt("notifier", 2);
+        legacy.add(intPos);
+
+        final ChunkPlayerTrackers trackers = new ChunkPlayerTrackers();
+        trackers.readLegacy(legacy);
+        Assertions.assertEquals(1, trackers.creator(new BlockPos(3, 200, 9)));
+        Assertions.assertEquals(2, trackers.notifier(new BlockPos(5, -20, 14)));
+        Assertions.assertEquals(ChunkPlayerTrackers.NONE, trackers.creator(new BlockPos(5, -20, 14)));
+    }
+}
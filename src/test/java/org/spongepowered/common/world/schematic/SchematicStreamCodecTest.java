@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+final class SchematicStreamCodecTest {
+
+    @Test
+    void testVarIntSize() throws IOException {
+        for (final int value : new int[] {0, 1, 127, 128, 300, 16383, 16384, 2097151, 2097152, Integer.MAX_VALUE, -1}) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SchematicStreamCodec.writeVarInt(new DataOutputStream(bytes), value);
+            Assertions.assertEquals(bytes.size(), SchematicStreamCodec.varIntSize(value), "size of " + value);
+        }
+    }
+
+    @Test
+    void testReadDataReordersToBufferIndices() throws IOException {
+        final int width = 3;
+        final int height = 2;
+        final int length = 4;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        // Schematic order is y, then z, then x; encode each position as a unique id
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    SchematicStreamCodec.writeVarInt(output, x * 1000 + y * 100 + z + 200);
+                }
+            }
+        }
+        final int[] decoded = new int[width * height * length];
+        SchematicStreamCodec.readData(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), bytes.size(),
+            width, height, length, (index, id) -> decoded[index] = id);
+
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < length; z++) {
+                for (int y = 0; y < height; y++) {
+                    final int index = x * height * length + z * height + y;
+                    Assertions.assertEquals(x * 1000 + y * 100 + z + 200, decoded[index]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadDataRejectsOverflow() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        for (int i = 0; i < 3; i++) {
+            SchematicStreamCodec.writeVarInt(output, i);
+        }
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicStreamCodec.readData(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), bytes.size(), 1, 1, 2, (index, id) -> {}));
+    }
+
+    @Test
+    void testReadDataRejectsTruncatedVarInt() {
+        final byte[] bytes = {(byte) 0x80};
+        Assertions.assertThrows(InvalidDataException.class, () -> SchematicStreamCodec.readData(
+            new DataInputStream(new ByteArrayInputStream(bytes)), bytes.length, 1, 1, 1, (index, id) -> {}));
+    }
+
+    @Test
+    void testWriteDataMatchesTranslator() throws IOException {
+        final Vector3i min = new Vector3i(-2, 60, 7);
+        final Vector3i size = new Vector3i(5, 3, 4);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SchematicStreamCodec.writeData(new DataOutputStream(bytes), min, size, SchematicStreamCodecTest::blockId);
+
+        final byte[] expected = SchematicStreamCodecTest.translatorData(min, size, SchematicStreamCodecTest::blockId);
+        final DataInputStream written = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assertions.assertEquals(Tag.TAG_BYTE_ARRAY, written.readByte());
+        Assertions.assertEquals("Data", written.readUTF());
+        Assertions.assertEquals(expected.length, written.readInt());
+        Assertions.assertArrayEquals(expected, written.readAllBytes());
+    }
+
+    @Test
+    void testReadsSchematicWrittenByTranslator() throws IOException {
+        final Vector3i min = new Vector3i(-2, 60, 7);
+        final Vector3i size = new Vector3i(5, 3, 4);
+        // Laid out the way SchematicTranslator.addTo writes a schematic
+        final CompoundTag schematic = new CompoundTag();
+        schematic.putShort("Width", (short) size.x());
+        schematic.putShort("Height", (short) size.y());
+        schematic.putShort("Length", (short) size.z());
+        schematic.putInt("Version", Constants.Sponge.Schematic.CURRENT_VERSION);
+        schematic.putInt("DataVersion", 3839);
+        schematic.putIntArray("Offset", new int[] {min.x(), min.y(), min.z()});
+        final CompoundTag metadata = new CompoundTag();
+        metadata.putString("Name", "test");
+        schematic.put("Metadata", metadata);
+        schematic.put("Entities", new ListTag());
+        final CompoundTag blocks = SchematicStreamCodecTest.container(
+            SchematicStreamCodecTest.translatorData(min, size, SchematicStreamCodecTest::blockId), 300, "minecraft:block_");
+        blocks.put("BlockEntities", new ListTag());
+        schematic.put("Blocks", blocks);
+        schematic.put("Biomes", SchematicStreamCodecTest.container(
+            SchematicStreamCodecTest.translatorData(min, size, SchematicStreamCodecTest::biomeId), 4, "minecraft:biome_"));
+        final CompoundTag root = new CompoundTag();
+        root.put("Schematic", schematic);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtIo.write(root, new DataOutputStream(bytes));
+
+        final SchematicStreamCodec.Reader streamed = SchematicStreamCodec.parse(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        streamed.decodeData();
+        final SchematicStreamCodec.Reader loaded = SchematicStreamCodec.parse(root);
+        loaded.decodeData();
+
+        for (final SchematicStreamCodec.Reader reader : new SchematicStreamCodec.Reader[] {streamed, loaded}) {
+            final char[] blockIds = reader.blocks.blockIds;
+            final byte[] biomeIds = reader.biomes.biomeIds;
+            Assertions.assertNotNull(blockIds);
+            Assertions.assertNotNull(biomeIds);
+            Assertions.assertEquals(size.x() * size.y() * size.z(), blockIds.length);
+            for (int x = 0; x < size.x(); x++) {
+                for (int y = 0; y < size.y(); y++) {
+                    for (int z = 0; z < size.z(); z++) {
+                        final int index = x * size.y() * size.z() + z * size.y() + y;
+                        final int x0 = min.x() + x;
+                        final int y0 = min.y() + y;
+                        final int z0 = min.z() + z;
+                        Assertions.assertEquals(SchematicStreamCodecTest.blockId(x0, y0, z0), blockIds[index]);
+                        Assertions.assertEquals(SchematicStreamCodecTest.biomeId(x0, y0, z0), biomeIds[index]);
+                    }
+                }
+            }
+            // Everything but the data arrays is kept as read
+            final CompoundTag expected = schematic.copy();
+            expected.getCompound("Blocks").remove("Data");
+            expected.getCompound("Biomes").remove("Data");
+            Assertions.assertEquals(expected, reader.body);
+        }
+        // The compound read from is left untouched
+        Assertions.assertArrayEquals(SchematicStreamCodecTest.translatorData(min, size, SchematicStreamCodecTest::blockId),
+            schematic.getCompound("Blocks").getByteArray("Data"));
+    }
+
+    private static int blockId(final int x, final int y, final int z) {
+        // Spans both one and two byte varints
+        return Math.floorMod(x * 7 + y * 13 + z * 31, 300);
+    }
+
+    private static int biomeId(final int x, final int y, final int z) {
+        return Math.floorMod(x + y + z, 4);
+    }
+
+    private static byte[] translatorData(final Vector3i min, final Vector3i size, final SchematicStreamCodec.IdLookup lookup) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (int y = 0; y < size.y(); y++) {
+            for (int z = 0; z < size.z(); z++) {
+                for (int x = 0; x < size.x(); x++) {
+                    SchematicTranslator.writeIdToBuffer(buffer, lookup.id(min.x() + x, min.y() + y, min.z() + z));
+                }
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    private static CompoundTag container(final byte[] data, final int paletteSize, final String prefix) {
+        final CompoundTag palette = new CompoundTag();
+        for (int id = 0; id < paletteSize; id++) {
+            palette.putInt(prefix + id, id);
+        }
+        final CompoundTag container = new CompoundTag();
+        container.put("Palette", palette);
+        container.putByteArray("Data", data);
+        return container;
+    }
+}
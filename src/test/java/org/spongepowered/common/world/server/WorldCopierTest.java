@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+final class WorldCopierTest {
+
+    @TempDir
+    Path directory;
+
+    private Path createWorld() throws IOException {
+        final Path world = this.directory.resolve("world");
+        Files.createDirectories(world.resolve("region"));
+        Files.createDirectories(world.resolve("skipped"));
+        Files.write(world.resolve("level.dat"), new byte[] {1, 2, 3});
+        Files.write(world.resolve("level.dat_old"), new byte[] {4});
+        Files.write(world.resolve("skipped").resolve("file"), new byte[] {5});
+        final byte[] region = new byte[1 << 20];
+        for (int i = 0; i < region.length; i++) {
+            region[i] = (byte) i;
+        }
+        Files.write(world.resolve("region").resolve("r.0.0.mca"), region);
+        Files.setLastModifiedTime(world.resolve("level.dat"), FileTime.fromMillis(1_000_000L));
+        return world;
+    }
+
+    @Test
+    void testCopy() throws Exception {
+        final Path world = this.createWorld();
+        final Path copy = this.directory.resolve("copy");
+
+        WorldCopier.copy(world, copy,
+                dir -> !dir.getFileName().toString().equals("skipped"),
+                file -> !file.getFileName().toString().equals("level.dat_old"))
+            .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertArrayEquals(Files.readAllBytes(world.resolve("level.dat")), Files.readAllBytes(copy.resolve("level.dat")));
+        Assertions.assertArrayEquals(Files.readAllBytes(world.resolve("region").resolve("r.0.0.mca")),
+                Files.readAllBytes(copy.resolve("region").resolve("r.0.0.mca")));
+        Assertions.assertEquals(FileTime.fromMillis(1_000_000L), Files.getLastModifiedTime(copy.resolve("level.dat")));
+        Assertions.assertFalse(Files.exists(copy.resolve("level.dat_old")));
+        Assertions.assertFalse(Files.exists(copy.resolve("skipped")));
+    }
+
+    @Test
+    void testCopyReplacesExistingFiles() throws Exception {
+        final Path world = this.createWorld();
+        final Path copy = this.directory.resolve("copy");
+        Files.createDirectories(copy);
+        Files.write(copy.resolve("level.dat"), new byte[] {9, 9, 9, 9, 9});
+        Files.setLastModifiedTime(copy.resolve("level.dat"), FileTime.fromMillis(1_000_000L));
+
+        WorldCopier.copy(world, copy, dir -> true, file -> true).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(copy.resolve("level.dat")));
+    }
+
+    @Test
+    void testMove() throws Exception {
+        final Path world = this.createWorld();
+        final byte[] region = Files.readAllBytes(world.resolve("region").resolve("r.0.0.mca"));
+        final Path moved = this.directory.resolve("moved");
+
+        WorldCopier.move(world, moved).get(10, TimeUnit.SECONDS);
+
+        Assertions.assertFalse(Files.exists(world));
+        Assertions.assertArrayEquals(region, Files.readAllBytes(moved.resolve("region").resolve("r.0.0.mca")));
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(moved.resolve("level.dat")));
+    }
+
+    @Test
+    void testMoveFailureIsNotCopied() {
+        final Path missing = this.directory.resolve("missing");
+        final Path moved = this.directory.resolve("moved");
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> WorldCopier.move(missing, moved).join());
+        Assertions.assertInstanceOf(UncheckedIOException.class, exception.getCause());
+        Assertions.assertInstanceOf(NoSuchFileException.class, exception.getCause().getCause());
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumePositionTranslator;
+import org.spongepowered.common.accessor.world.level.chunk.ChunkAccessAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+final class SectionBatchedBlockApplierTest {
+
+    private static final Volume SOURCE = Mockito.mock(Volume.class);
+    private static final MutableVolume TARGET = Mockito.mock(MutableVolume.class);
+    private static final SpongeBlockChangeFlag NO_PHYSICS = new SpongeBlockChangeFlag(Constants.BlockChangeFlags.PHYSICS_MASK);
+
+    @Test
+    void testBatchesElementsBySection() {
+        final org.spongepowered.api.block.BlockState a = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState b = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState c = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState d = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final SpongeVolumeStream<Volume, org.spongepowered.api.block.BlockState> stream = SectionBatchedBlockApplierTest.stream(
+            SectionBatchedBlockApplierTest.element(0, 64, 0, a),
+            SectionBatchedBlockApplierTest.element(17, 64, 3, b),
+            SectionBatchedBlockApplierTest.element(15, 79, 15, c),
+            SectionBatchedBlockApplierTest.element(-1, -1, -1, d)
+        );
+
+        final Long2ObjectMap<SectionBatchedBlockApplier.SectionBatch> batches = SectionBatchedBlockApplier.extract(stream,
+            () -> SectionBatchedBlockApplierTest.TARGET, SectionBatchedBlockApplierTest.offset(0, 0, 0));
+
+        Assertions.assertEquals(3, batches.size());
+        final SectionBatchedBlockApplier.SectionBatch first = batches.get(SectionPos.asLong(0, 4, 0));
+        Assertions.assertEquals(2, first.size);
+        SectionBatchedBlockApplierTest.assertEntry(first, 0, 0, 0, 0, a);
+        SectionBatchedBlockApplierTest.assertEntry(first, 1, 15, 15, 15, c);
+        final SectionBatchedBlockApplier.SectionBatch second = batches.get(SectionPos.asLong(1, 4, 0));
+        Assertions.assertEquals(1, second.size);
+        SectionBatchedBlockApplierTest.assertEntry(second, 0, 1, 0, 3, b);
+        final SectionBatchedBlockApplier.SectionBatch negative = batches.get(SectionPos.asLong(-1, -1, -1));
+        Assertions.assertEquals(1, negative.size);
+        SectionBatchedBlockApplierTest.assertEntry(negative, 0, 15, 15, 15, d);
+    }
+
+    @Test
+    void testBatchesTranslatedPositions() {
+        final org.spongepowered.api.block.BlockState a = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final SpongeVolumeStream<Volume, org.spongepowered.api.block.BlockState> stream = SectionBatchedBlockApplierTest.stream(
+            SectionBatchedBlockApplierTest.element(0, 64, 0, a)
+        );
+
+        final Long2ObjectMap<SectionBatchedBlockApplier.SectionBatch> batches = SectionBatchedBlockApplier.extract(stream,
+            () -> SectionBatchedBlockApplierTest.TARGET, SectionBatchedBlockApplierTest.offset(18, -1, 0));
+
+        Assertions.assertEquals(1, batches.size());
+        SectionBatchedBlockApplierTest.assertEntry(batches.get(SectionPos.asLong(1, 3, 0)), 0, 2, 15, 0, a);
+    }
+
+    @Test
+    void testMergeKeepsBatchOrder() {
+        final org.spongepowered.api.block.BlockState a = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState b = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final Long2ObjectMap<SectionBatchedBlockApplier.SectionBatch> into = new Long2ObjectOpenHashMap<>();
+        final Long2ObjectMap<SectionBatchedBlockApplier.SectionBatch> from = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            SectionBatchedBlockApplier.add(into, i & 15, 0, i >> 4, a);
+            SectionBatchedBlockApplier.add(from, i & 15, 8, i >> 4, b);
+        }
+        SectionBatchedBlockApplier.add(from, 32, 0, 0, b);
+
+        SectionBatchedBlockApplier.merge(into, from);
+
+        Assertions.assertEquals(2, into.size());
+        final SectionBatchedBlockApplier.SectionBatch merged = into.get(SectionPos.asLong(0, 0, 0));
+        Assertions.assertEquals(200, merged.size);
+        SectionBatchedBlockApplierTest.assertEntry(merged, 99, 3, 0, 6, a);
+        SectionBatchedBlockApplierTest.assertEntry(merged, 100, 0, 8, 0, b);
+        SectionBatchedBlockApplierTest.assertEntry(into.get(SectionPos.asLong(2, 0, 0)), 0, 0, 0, 0, b);
+    }
+
+    @Test
+    void testTrackedFallbackKeepsStreamOrder() {
+        final org.spongepowered.api.block.BlockState a = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState b = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState c = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        final org.spongepowered.api.block.BlockState d = Mockito.mock(org.spongepowered.api.block.BlockState.class);
+        // Alternate between sections so that any grouping would reorder the changes
+        final SpongeVolumeStream<Volume, org.spongepowered.api.block.BlockState> stream = SectionBatchedBlockApplierTest.stream(
+            SectionBatchedBlockApplierTest.element(0, 64, 0, a),
+            SectionBatchedBlockApplierTest.element(32, 64, 0, b),
+            SectionBatchedBlockApplierTest.element(1, 64, 0, c),
+            SectionBatchedBlockApplierTest.element(-20, 10, 5, d)
+        );
+        final ServerWorld world = Mockito.mock(ServerWorld.class);
+        final BlockChangeFlag flag = Mockito.mock(BlockChangeFlag.class);
+
+        SectionBatchedBlockApplier.applyTracked(stream, () -> SectionBatchedBlockApplierTest.TARGET,
+            SectionBatchedBlockApplierTest.offset(0, 1, 0), world, flag);
+
+        final InOrder order = Mockito.inOrder(world);
+        order.verify(world).setBlock(0, 65, 0, a, flag);
+        order.verify(world).setBlock(32, 65, 0, b, flag);
+        order.verify(world).setBlock(1, 65, 0, c, flag);
+        order.verify(world).setBlock(-20, 11, 5, d, flag);
+        Mockito.verifyNoMoreInteractions(world);
+    }
+
+    @Test
+    void testWriteSectionUpdatesOnlyChangedBlocks() {
+        final BlockState air = SectionBatchedBlockApplierTest.state(0);
+        final BlockState stone = SectionBatchedBlockApplierTest.state(15);
+        final LevelChunkSection section = Mockito.mock(LevelChunkSection.class);
+        Mockito.when(section.hasOnlyAir()).thenReturn(false, false);
+        // Placed, unchanged and removed, in that order
+        Mockito.when(section.setBlockState(1, 2, 3, stone, false)).thenReturn(air);
+        Mockito.when(section.setBlockState(4, 5, 6, stone, false)).thenReturn(stone);
+        Mockito.when(section.setBlockState(7, 8, 9, air, false)).thenReturn(stone);
+        Mockito.when(section.getBlockState(1, 2, 3)).thenReturn(stone);
+        Mockito.when(section.getBlockState(7, 8, 9)).thenReturn(air);
+        final Map<Heightmap.Types, Heightmap> heightmaps = SectionBatchedBlockApplierTest.heightmaps();
+        final LevelChunk chunk = SectionBatchedBlockApplierTest.chunk(section, heightmaps);
+        final ServerLevel level = SectionBatchedBlockApplierTest.level(chunk);
+        final SectionBatchedBlockApplier.SectionBatch batch = new SectionBatchedBlockApplier.SectionBatch();
+        batch.add(SectionBatchedBlockApplier.localIndex(1, 2, 3), (org.spongepowered.api.block.BlockState) stone);
+        batch.add(SectionBatchedBlockApplier.localIndex(4, 5, 6), (org.spongepowered.api.block.BlockState) stone);
+        batch.add(SectionBatchedBlockApplier.localIndex(7, 8, 9), (org.spongepowered.api.block.BlockState) air);
+        final List<SectionBatchedBlockApplier.Change> changes = new ArrayList<>();
+
+        SectionBatchedBlockApplier.writeSection(level, SectionPos.asLong(0, 4, 0), batch, SectionBatchedBlockApplierTest.NO_PHYSICS,
+            changes);
+
+        final InOrder lock = Mockito.inOrder(section);
+        lock.verify(section).acquire();
+        lock.verify(section, Mockito.times(3)).setBlockState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any(), Mockito.eq(false));
+        lock.verify(section).release();
+        for (final Heightmap.Types type : new Heightmap.Types[] {Heightmap.Types.MOTION_BLOCKING,
+            Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, Heightmap.Types.OCEAN_FLOOR, Heightmap.Types.WORLD_SURFACE}) {
+            final Heightmap heightmap = heightmaps.get(type);
+            Mockito.verify(heightmap).update(1, 66, 3, stone);
+            Mockito.verify(heightmap).update(7, 72, 9, air);
+            Mockito.verifyNoMoreInteractions(heightmap);
+        }
+        Mockito.verify(stone).onRemove(level, new BlockPos(7, 72, 9), air, false);
+        Mockito.verify(level.getChunkSource().getLightEngine(), Mockito.never()).updateSectionStatus(Mockito.any(SectionPos.class),
+            Mockito.anyBoolean());
+        Mockito.verify(chunk).setUnsaved(true);
+        Assertions.assertEquals(List.of(
+            new SectionBatchedBlockApplier.Change(new BlockPos(1, 66, 3), air, stone, 0),
+            new SectionBatchedBlockApplier.Change(new BlockPos(7, 72, 9), stone, air, 15)
+        ), changes);
+    }
+
+    @Test
+    void testWriteSectionUpdatesLightStatusOnce() {
+        final BlockState air = SectionBatchedBlockApplierTest.state(0);
+        final BlockState stone = SectionBatchedBlockApplierTest.state(15);
+        final LevelChunkSection section = Mockito.mock(LevelChunkSection.class);
+        // The section only held the two blocks being removed
+        Mockito.when(section.hasOnlyAir()).thenReturn(false, true);
+        Mockito.when(section.setBlockState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.eq(air), Mockito.eq(false)))
+            .thenReturn(stone);
+        Mockito.when(section.getBlockState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt())).thenReturn(air);
+        final LevelChunk chunk = SectionBatchedBlockApplierTest.chunk(section, SectionBatchedBlockApplierTest.heightmaps());
+        final ServerLevel level = SectionBatchedBlockApplierTest.level(chunk);
+        final SectionBatchedBlockApplier.SectionBatch batch = new SectionBatchedBlockApplier.SectionBatch();
+        batch.add(SectionBatchedBlockApplier.localIndex(0, 0, 0), (org.spongepowered.api.block.BlockState) air);
+        batch.add(SectionBatchedBlockApplier.localIndex(15, 15, 15), (org.spongepowered.api.block.BlockState) air);
+        final List<SectionBatchedBlockApplier.Change> changes = new ArrayList<>();
+
+        SectionBatchedBlockApplier.writeSection(level, SectionPos.asLong(0, 4, 0), batch, SectionBatchedBlockApplierTest.NO_PHYSICS,
+            changes);
+
+        final ThreadedLevelLightEngine lightEngine = level.getChunkSource().getLightEngine();
+        Mockito.verify(lightEngine).updateSectionStatus(SectionPos.of(0, 4, 0), true);
+        Mockito.verifyNoMoreInteractions(lightEngine);
+        Assertions.assertEquals(2, changes.size());
+    }
+
+    @Test
+    void testWriteSectionSkipsUnchangedBatch() {
+        final BlockState stone = SectionBatchedBlockApplierTest.state(15);
+        final LevelChunkSection section = Mockito.mock(LevelChunkSection.class);
+        Mockito.when(section.setBlockState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.eq(stone), Mockito.eq(false)))
+            .thenReturn(stone);
+        final Map<Heightmap.Types, Heightmap> heightmaps = SectionBatchedBlockApplierTest.heightmaps();
+        final LevelChunk chunk = SectionBatchedBlockApplierTest.chunk(section, heightmaps);
+        final ServerLevel level = SectionBatchedBlockApplierTest.level(chunk);
+        final SectionBatchedBlockApplier.SectionBatch batch = new SectionBatchedBlockApplier.SectionBatch();
+        batch.add(SectionBatchedBlockApplier.localIndex(3, 3, 3), (org.spongepowered.api.block.BlockState) stone);
+        final List<SectionBatchedBlockApplier.Change> changes = new ArrayList<>();
+
+        SectionBatchedBlockApplier.writeSection(level, SectionPos.asLong(0, 4, 0), batch, SectionBatchedBlockApplierTest.NO_PHYSICS,
+            changes);
+
+        heightmaps.values().forEach(Mockito::verifyNoInteractions);
+        Mockito.verify(stone, Mockito.never()).onRemove(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(chunk, Mockito.never()).setUnsaved(Mockito.anyBoolean());
+        Assertions.assertTrue(changes.isEmpty());
+    }
+
+    private static void assertEntry(final SectionBatchedBlockApplier.SectionBatch batch, final int entry, final int x, final int y,
+        final int z, final org.spongepowered.api.block.BlockState state
+    ) {
+        final short index = batch.positions[entry];
+        Assertions.assertEquals(x, SectionBatchedBlockApplier.localX(index), "local x");
+        Assertions.assertEquals(y, SectionBatchedBlockApplier.localY(index), "local y");
+        Assertions.assertEquals(z, SectionBatchedBlockApplier.localZ(index), "local z");
+        Assertions.assertSame(state, batch.states[entry]);
+    }
+
+    @SafeVarargs
+    private static SpongeVolumeStream<Volume, org.spongepowered.api.block.BlockState> stream(
+        final VolumeElement<Volume, org.spongepowered.api.block.BlockState>... elements
+    ) {
+        return new SpongeVolumeStream<>(Stream.of(elements), () -> SectionBatchedBlockApplierTest.SOURCE);
+    }
+
+    private static VolumeElement<Volume, org.spongepowered.api.block.BlockState> element(final int x, final int y, final int z,
+        final org.spongepowered.api.block.BlockState state
+    ) {
+        return VolumeElement.of(() -> SectionBatchedBlockApplierTest.SOURCE, () -> state, new Vector3d(x, y, z));
+    }
+
+    private static VolumePositionTranslator<MutableVolume, org.spongepowered.api.block.BlockState> offset(final int x, final int y,
+        final int z
+    ) {
+        return element -> VolumeElement.of(() -> SectionBatchedBlockApplierTest.TARGET, element::type, element.position().add(x, y, z));
+    }
+
+    private static BlockState state(final int lightBlock) {
+        final BlockState state = Mockito.mock(BlockState.class, Mockito.withSettings()
+            .extraInterfaces(org.spongepowered.api.block.BlockState.class, BlockStateBridge.class));
+        Mockito.when(state.getLightBlock(Mockito.any(), Mockito.any())).thenReturn(lightBlock);
+        Mockito.when(state.is(Mockito.<Block>any())).thenReturn(true);
+        return state;
+    }
+
+    private static Map<Heightmap.Types, Heightmap> heightmaps() {
+        final Map<Heightmap.Types, Heightmap> heightmaps = new EnumMap<>(Heightmap.Types.class);
+        for (final Heightmap.Types type : Heightmap.Types.values()) {
+            heightmaps.put(type, Mockito.mock(Heightmap.class));
+        }
+        return heightmaps;
+    }
+
+    private static LevelChunk chunk(final LevelChunkSection section, final Map<Heightmap.Types, Heightmap> heightmaps) {
+        final LevelChunk chunk = Mockito.mock(LevelChunk.class, Mockito.withSettings()
+            .extraInterfaces(ChunkAccessAccessor.class, LevelChunkAccessor.class));
+        Mockito.when(chunk.getSectionIndexFromSectionY(4)).thenReturn(8);
+        Mockito.when(chunk.getSection(8)).thenReturn(section);
+        Mockito.when(((ChunkAccessAccessor) chunk).accessor$heightmaps()).thenReturn(heightmaps);
+        return chunk;
+    }
+
+    private static ServerLevel level(final LevelChunk chunk) {
+        final ServerLevel level = Mockito.mock(ServerLevel.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(level.getMinSection()).thenReturn(-4);
+        Mockito.when(level.getMaxSection()).thenReturn(20);
+        Mockito.when(level.getChunk(0, 0)).thenReturn(chunk);
+        return level;
+    }
+}